@@ -0,0 +1,76 @@
+package com.mailscheduler.benchmark;
+
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering a template body with one {@code String.replace} per placeholder against the parsed
+ * {@link PlaceholderTemplate}, both with the parsed form cached and parsed on every call.
+ * <p>
+ *     Run with {@code ./gradlew jmh}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlaceholderRenderBenchmark {
+    private static final char[] DELIMITERS = {'{', '}'};
+
+    @Param({"2", "10", "40"})
+    private int placeholderCount;
+
+    @Param({"2000", "20000"})
+    private int bodyLength;
+
+    private String body;
+    private Map<String, String> values;
+    private PlaceholderTemplate compiled;
+
+    @Setup
+    public void setUp() {
+        values = new LinkedHashMap<>();
+        for (int i = 0; i < placeholderCount; i++) {
+            values.put("key" + i, "value number " + i);
+        }
+
+        StringBuilder builder = new StringBuilder(bodyLength + placeholderCount * 8);
+        String filler = "<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit.</p>\n";
+        int placeholder = 0;
+        while (builder.length() < bodyLength) {
+            builder.append(filler);
+            builder.append('{').append("key").append(placeholder++ % placeholderCount).append('}');
+        }
+        body = builder.toString();
+        compiled = PlaceholderTemplate.compile(body, DELIMITERS);
+    }
+
+    @Benchmark
+    public String stringReplacePerPlaceholder() {
+        String text = body;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            text = text.replace("{" + entry.getKey() + "}", entry.getValue());
+        }
+        return text;
+    }
+
+    @Benchmark
+    public String cachedTemplate() {
+        return compiled.render(values);
+    }
+
+    @Benchmark
+    public String parseAndRender() {
+        return PlaceholderTemplate.compile(body, DELIMITERS).render(values);
+    }
+}
@@ -1,8 +1,13 @@
 package com.mailscheduler;
 
 import com.mailscheduler.application.email.EmailService;
+import com.mailscheduler.application.email.inbox.InboxWatcher;
+import com.mailscheduler.application.email.inbox.gateway.GmailInboxAdapter;
 import com.mailscheduler.application.email.scheduling.EmailScheduler;
 import com.mailscheduler.application.email.scheduling.PlaceholderResolver;
+import com.mailscheduler.application.email.sending.ConcurrentSendExecutor;
+import com.mailscheduler.application.email.sending.EmailOutbox;
+import com.mailscheduler.application.email.sending.QuotaRateLimiter;
 import com.mailscheduler.application.email.sending.gateway.EmailGateway;
 import com.mailscheduler.application.email.sending.gateway.GmailAdapter;
 import com.mailscheduler.application.email.service.EmailOrchestrationService;
@@ -11,6 +16,8 @@ import com.mailscheduler.application.email.service.EmailSendingService;
 import com.mailscheduler.application.recipient.RecipientService;
 import com.mailscheduler.application.synchronization.spreadsheet.SpreadsheetSynchronizationService;
 import com.mailscheduler.application.synchronization.SynchronizationCoordinator;
+import com.mailscheduler.application.synchronization.spreadsheet.gateway.CachingSpreadsheetGateway;
+import com.mailscheduler.application.synchronization.spreadsheet.gateway.DiffingSpreadsheetGateway;
 import com.mailscheduler.application.synchronization.spreadsheet.gateway.GoogleSheetAdapter;
 import com.mailscheduler.application.synchronization.spreadsheet.gateway.SpreadsheetGateway;
 import com.mailscheduler.application.synchronization.template.TemplateSyncStrategy;
@@ -24,22 +31,34 @@ import com.mailscheduler.domain.service.ContactService;
 import com.mailscheduler.infrastructure.google.gmail.GmailService;
 import com.mailscheduler.infrastructure.google.sheet.GoogleSheetService;
 import com.mailscheduler.infrastructure.persistence.database.DatabaseFacade;
+import com.mailscheduler.infrastructure.persistence.database.TransactionTemplate;
 import com.mailscheduler.infrastructure.persistence.database.schema.TableDefinitions;
 import com.mailscheduler.infrastructure.persistence.repository.*;
 import com.mailscheduler.infrastructure.service.FollowUpManagementService;
 import com.mailscheduler.infrastructure.spreadsheet.SpreadsheetService;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class Main {
+    private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
+
+    private static final int SEND_PARALLELISM = 4;
+    private static final Duration OUTBOX_LEASE_DURATION = Duration.ofMinutes(2);
+    private static final int OUTBOX_BATCH_SIZE = 500;
+    private static final Duration SPREADSHEET_CACHE_TTL = Duration.ofMinutes(10);
+    private static final long SPREADSHEET_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+    private static final int SHEET_SYNC_PARALLELISM = 4;
+
     private String spreadsheetId = "";
 
     public Main() {
 
     }
 
-    private void clearDatabase() throws SQLException {
-        DatabaseFacade databaseFacade = new DatabaseFacade();
+    private void clearDatabase(DatabaseFacade databaseFacade) throws SQLException {
         String[] tables = TableDefinitions.TABLE_NAMES;
         for (String table : tables) {
             databaseFacade.dropTable(table);
@@ -47,9 +66,19 @@ public class Main {
         databaseFacade.initialize();
     }
 
-    private void synchronizeApplicationData() throws Exception {
-        SpreadsheetGateway spreadsheetGateway = new GoogleSheetAdapter(GoogleSheetService.getInstance());
-        DatabaseFacade db = new DatabaseFacade();
+    /**
+     * Creates the spreadsheet gateway for one run, reading each sheet at most once per cache lifetime.
+     */
+    private CachingSpreadsheetGateway createSpreadsheetGateway() throws Exception {
+        return new CachingSpreadsheetGateway(
+                new GoogleSheetAdapter(GoogleSheetService.getInstance()),
+                SPREADSHEET_CACHE_TTL,
+                SPREADSHEET_CACHE_MAX_BYTES
+        );
+    }
+
+    private void synchronizeApplicationData(DatabaseFacade db) throws Exception {
+        CachingSpreadsheetGateway spreadsheetGateway = createSpreadsheetGateway();
         ConfigurationRepository configurationRepository = new ConfigurationSqlRepository(db);
 
         // Test if spreadsheet id is already defined in config table, if not use defined id
@@ -72,12 +101,16 @@ public class Main {
                 new FollowUpManagementService(
                         new FollowUpPlanSqlRepository(db),
                         new FollowUpStepSqlRepository(db)
-                )
+                ),
+                new TransactionTemplate(db),
+                new RowFingerprintSqlRepository(db),
+                SHEET_SYNC_PARALLELISM
         );
 
         SynchronizationCoordinator synchronizationCoordinator = getSynchronizationCoordinator(spreadsheetGateway, spreadsheetSynchronizationService, db);
 
         synchronizationCoordinator.synchronizeAll();
+        LOGGER.info("Spreadsheet cache: " + spreadsheetGateway.getStats());
     }
 
     private SynchronizationCoordinator getSynchronizationCoordinator(SpreadsheetGateway spreadsheetGateway, SpreadsheetSynchronizationService spreadsheetSynchronizationService, DatabaseFacade db) throws Exception {
@@ -95,15 +128,17 @@ public class Main {
         );
     }
 
-    private void sendEmails() throws Exception {
+    private void sendEmails(DatabaseFacade db) throws Exception {
         // Initialize dependencies
-        DatabaseFacade db = new DatabaseFacade();
         RecipientRepository recipientRepository = new RecipientSqlRepository(db);
         ContactRepository contactRepository = new ContactSqlRepository(db);
         EmailRepository emailRepository = new EmailSqlRepository(db);
-        EmailGateway emailGateway = new GmailAdapter(GmailService.getInstance());
+        QuotaRateLimiter gmailQuota = QuotaRateLimiter.forGmail();
+        EmailGateway emailGateway = new GmailAdapter(GmailService.getInstance(), gmailQuota);
         ConfigurationRepository configRepository = new ConfigurationSqlRepository(db);
-        SpreadsheetGateway spreadsheetGateway = new GoogleSheetAdapter(GoogleSheetService.getInstance());
+        CachingSpreadsheetGateway spreadsheetGateway = createSpreadsheetGateway();
+        // Status and date cells are only written where the sheet does not already hold the value
+        DiffingSpreadsheetGateway spreadsheetWriter = new DiffingSpreadsheetGateway(spreadsheetGateway);
 
         RecipientService recipientService = new RecipientService(
                 recipientRepository,
@@ -115,12 +150,17 @@ public class Main {
         ApplicationConfiguration appConfig = configRepository.getActiveConfiguration();
 
         // Create email service
+        ConcurrentSendExecutor sendExecutor = new ConcurrentSendExecutor(SEND_PARALLELISM);
+        EmailOutbox emailOutbox = new EmailOutbox(new OutboxSqlRepository(db), EmailOutbox.defaultWorkerId(),
+                OUTBOX_LEASE_DURATION, OUTBOX_BATCH_SIZE);
         EmailService emailService = new EmailService(
-                new EmailSendingService(emailGateway, emailRepository),
+                new EmailSendingService(emailGateway, emailRepository, sendExecutor),
                 new EmailSchedulingService(
                         new EmailScheduler(appConfig.getSenderEmailAddress(), emailRepository,
-                                new PlaceholderResolver(spreadsheetGateway, contactRepository, recipientRepository, appConfig.getSpreadsheetId())),
-                        emailRepository),
+                                new PlaceholderResolver(spreadsheetGateway, contactRepository, recipientRepository, appConfig.getSpreadsheetId()),
+                                new TransactionTemplate(db)),
+                        emailRepository,
+                        emailOutbox),
                 recipientService
         );
 
@@ -128,7 +168,7 @@ public class Main {
         EmailOrchestrationService orchestrationService = new EmailOrchestrationService(
                 emailService,
                 configRepository,
-                new SpreadsheetService(spreadsheetGateway, new SpreadsheetConfigurationFactory(spreadsheetGateway)),
+                new SpreadsheetService(spreadsheetWriter, new SpreadsheetConfigurationFactory(spreadsheetGateway)),
                 new RecipientService(recipientRepository,
                         contactRepository,
                         spreadsheetGateway),
@@ -140,19 +180,39 @@ public class Main {
                 )
         );
 
-        // Process and send emails
-        orchestrationService.processPendingEmailsAndSend(appConfig.getSaveMode());
+        // Pick up replies that arrived since the last run before scheduling and sending
+        InboxWatcher inboxWatcher = new InboxWatcher(
+                new GmailInboxAdapter(GmailService.getInstance(), gmailQuota),
+                new CheckpointSqlRepository(db),
+                recipientRepository,
+                emailRepository,
+                new TransactionTemplate(db)
+        );
+        try (sendExecutor; emailOutbox) {
+            try {
+                inboxWatcher.runOnce();
+            } catch (Exception e) {
+                // Replies are checked again per thread before each follow-up is sent
+                LOGGER.log(Level.WARNING, "Inbox check failed, continuing with the send run", e);
+            }
+
+            // Process and send emails
+            orchestrationService.processPendingEmailsAndSend(appConfig.getSaveMode());
+        }
+        LOGGER.info("Spreadsheet cache: " + spreadsheetGateway.getStats());
+        LOGGER.info("Spreadsheet writes: " + spreadsheetWriter.getStats());
     }
 
 
     public static void main(String[] args) {
-        try {
+        // One facade for the whole run, so all stages share the pool and its single writer
+        try (DatabaseFacade db = new DatabaseFacade()) {
             Main main = new Main();
 
-            // main.clearDatabase();
+            // main.clearDatabase(db);
 
-            main.synchronizeApplicationData();
-            main.sendEmails();
+            main.synchronizeApplicationData(db);
+            main.sendEmails(db);
         } catch (Exception e) {
             e.printStackTrace();
         }
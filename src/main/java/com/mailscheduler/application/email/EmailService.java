@@ -13,10 +13,14 @@ import com.mailscheduler.domain.model.common.vo.email.EmailAddress;
 import com.mailscheduler.domain.model.email.Email;
 import com.mailscheduler.domain.model.email.EmailMetadata;
 import com.mailscheduler.domain.model.common.base.EntityData;
+import com.mailscheduler.domain.model.common.base.EntityId;
+import com.mailscheduler.domain.model.recipient.Recipient;
+import com.mailscheduler.domain.model.recipient.RecipientMetadata;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -83,13 +87,23 @@ public class EmailService {
 
             LOGGER.info("Building send requests for " + pendingEmails.size() + " pending emails");
             List<EmailSendRequest> requests = new ArrayList<>(pendingEmails.size());
+            List<EntityId<Email>> unsendableIds = new ArrayList<>();
+
+            List<EntityId<Recipient>> recipientIds = pendingEmails.stream()
+                    .map(pendingEmail -> pendingEmail.metadata().recipientId())
+                    .toList();
+            Map<EntityId<Recipient>, EntityData<Recipient, RecipientMetadata>> recipientsById =
+                    recipientService.getRecipients(recipientIds);
 
             for (EntityData<Email, EmailMetadata> pendingEmail : pendingEmails) {
-                EmailSendRequest request = buildSendRequest(pendingEmail, senderAddress);
+                EmailSendRequest request = buildSendRequest(pendingEmail, senderAddress, recipientsById);
                 if (request != null) {
                     requests.add(request);
+                } else {
+                    unsendableIds.add(pendingEmail.entity().getId());
                 }
             }
+            schedulingService.releaseClaimedEmails(unsendableIds);
 
             LOGGER.info("Prepared " + requests.size() + " send requests");
             return requests;
@@ -116,11 +130,10 @@ public class EmailService {
 
         try {
             LOGGER.info("Sending " + requests.size() + " emails (saveAsDraft=" + saveAsDraft + ")");
-            List<EmailSendingResult> results = new ArrayList<>(requests.size());
+            List<EmailSendingResult> results = sendingService.sendAll(requests, saveAsDraft);
 
-            for (EmailSendRequest request : requests) {
-                EmailSendingResult result = processEmailSend(request, saveAsDraft);
-                results.add(result);
+            for (EmailSendingResult result : results) {
+                updateRecipientAfterSend(result);
             }
 
             LOGGER.info("Completed processing " + results.size() + " email send requests");
@@ -128,6 +141,11 @@ public class EmailService {
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to send emails", e);
             throw new EmailOperationException("Failed to send emails", e);
+        } finally {
+            schedulingService.releaseClaimedEmails(requests.stream()
+                    .map(request -> request.email().getId())
+                    .filter(Objects::nonNull)
+                    .toList());
         }
     }
 
@@ -164,10 +182,16 @@ public class EmailService {
         }
     }
 
-    private EmailSendRequest buildSendRequest(EntityData<Email, EmailMetadata> emailData, EmailAddress senderAddress) {
+    private EmailSendRequest buildSendRequest(
+            EntityData<Email, EmailMetadata> emailData,
+            EmailAddress senderAddress,
+            Map<EntityId<Recipient>, EntityData<Recipient, RecipientMetadata>> recipientsById) {
         try {
             var recipientId = emailData.metadata().recipientId();
-            var recipientData = recipientService.getRecipient(recipientId);
+            var recipientData = recipientId != null ? recipientsById.get(recipientId) : null;
+            if (recipientData == null) {
+                throw new IllegalArgumentException("Recipient not found: " + recipientId);
+            }
 
             Email updatedEmail = new Email.Builder()
                     .from(emailData.entity())
@@ -189,7 +213,11 @@ public class EmailService {
     }
 
     private EmailSendingResult processEmailSend(EmailSendRequest request, boolean saveAsDraft) {
-        EmailSendingResult result = sendingService.send(request, saveAsDraft);
+        return updateRecipientAfterSend(sendingService.send(request, saveAsDraft));
+    }
+
+    private EmailSendingResult updateRecipientAfterSend(EmailSendingResult result) {
+        EmailSendRequest request = result.sendRequest();
 
         try {
             // If recipient has replied, update their status
@@ -0,0 +1,17 @@
+package com.mailscheduler.application.email.inbox;
+
+import com.mailscheduler.domain.model.common.vo.ThreadId;
+
+import java.util.Set;
+
+/**
+ * Threads that received incoming messages since the last inbox check.
+ *
+ * @param threadIds threads with at least one new incoming message
+ * @param checkpoint opaque position to resume from on the next check
+ */
+public record InboxChanges(Set<ThreadId> threadIds, String checkpoint) {
+    public InboxChanges {
+        threadIds = Set.copyOf(threadIds);
+    }
+}
@@ -0,0 +1,131 @@
+package com.mailscheduler.application.email.inbox;
+
+import com.mailscheduler.application.email.inbox.gateway.InboxGateway;
+import com.mailscheduler.domain.model.common.base.EntityId;
+import com.mailscheduler.domain.model.recipient.Recipient;
+import com.mailscheduler.domain.repository.CheckpointRepository;
+import com.mailscheduler.domain.repository.EmailRepository;
+import com.mailscheduler.domain.repository.RecipientRepository;
+import com.mailscheduler.infrastructure.persistence.database.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Detects replies incrementally from the inbox history instead of polling every tracked thread.
+ * <p>
+ *     Each check reads only the messages added since the stored checkpoint, matches their threads against
+ *     the recipients and, in one transaction, marks the matching recipients as replied and cancels their
+ *     pending follow-ups. The checkpoint is advanced only after that transaction has committed, so a failed
+ *     check is simply repeated on the next run.
+ * </p>
+ */
+public class InboxWatcher implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(InboxWatcher.class.getName());
+    static final String CHECKPOINT_NAME = "gmail_history_id";
+
+    private final InboxGateway inboxGateway;
+    private final CheckpointRepository checkpointRepository;
+    private final RecipientRepository recipientRepository;
+    private final EmailRepository emailRepository;
+    private final TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService scheduler;
+
+    public InboxWatcher(
+            InboxGateway inboxGateway,
+            CheckpointRepository checkpointRepository,
+            RecipientRepository recipientRepository,
+            EmailRepository emailRepository,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.inboxGateway = inboxGateway;
+        this.checkpointRepository = checkpointRepository;
+        this.recipientRepository = recipientRepository;
+        this.emailRepository = emailRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Processes the inbox changes since the last check.
+     * Without a usable checkpoint, only records the current position; replies that arrived before it
+     * are still caught by the per-thread check at send time.
+     *
+     * @return The number of recipients newly marked as replied
+     * @throws IOException If the inbox cannot be read
+     */
+    public int runOnce() throws IOException {
+        Optional<String> checkpoint = checkpointRepository.find(CHECKPOINT_NAME);
+        if (checkpoint.isEmpty()) {
+            initializeCheckpoint();
+            return 0;
+        }
+
+        Optional<InboxChanges> changes = inboxGateway.changesSince(checkpoint.get());
+        if (changes.isEmpty()) {
+            LOGGER.warning("Inbox checkpoint expired; restarting from the current position");
+            initializeCheckpoint();
+            return 0;
+        }
+
+        InboxChanges inboxChanges = changes.get();
+        int replied = transactionTemplate.execute(() -> {
+            List<EntityId<Recipient>> recipientIds = recipientRepository.markRepliedByThreadIds(inboxChanges.threadIds());
+            int cancelled = emailRepository.cancelPendingFollowUps(recipientIds);
+            checkpointRepository.save(CHECKPOINT_NAME, inboxChanges.checkpoint());
+            if (!recipientIds.isEmpty()) {
+                LOGGER.info("Detected replies from " + recipientIds.size() + " recipients; cancelled "
+                        + cancelled + " pending follow-ups");
+            }
+            return recipientIds.size();
+        });
+        LOGGER.fine("Checked " + inboxChanges.threadIds().size() + " threads with new messages");
+        return replied;
+    }
+
+    /**
+     * Runs {@link #runOnce()} periodically on a background thread until {@link #close()} is called.
+     *
+     * @param interval The delay between the end of one check and the start of the next
+     */
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Inbox watcher is already running");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inbox-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void runSafely() {
+        try {
+            runOnce();
+        } catch (Exception e) {
+            // Keep the schedule alive; the next run retries from the same checkpoint
+            LOGGER.log(Level.WARNING, "Inbox check failed", e);
+        }
+    }
+
+    private void initializeCheckpoint() throws IOException {
+        String current = inboxGateway.currentCheckpoint();
+        checkpointRepository.save(CHECKPOINT_NAME, current);
+        LOGGER.info("Initialized inbox checkpoint at " + current);
+    }
+}
@@ -0,0 +1,54 @@
+package com.mailscheduler.application.email.inbox.gateway;
+
+import com.mailscheduler.application.email.inbox.InboxChanges;
+import com.mailscheduler.application.email.sending.QuotaRateLimiter;
+import com.mailscheduler.domain.model.common.vo.ThreadId;
+import com.mailscheduler.infrastructure.google.gmail.GmailService;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of InboxGateway using the Gmail history API.
+ * Checkpoints are Gmail history IDs. Calls share the {@link QuotaRateLimiter} of the sending side.
+ */
+public class GmailInboxAdapter implements InboxGateway {
+    private final GmailService gmailService;
+    private final QuotaRateLimiter quotaLimiter;
+
+    public GmailInboxAdapter(GmailService gmailService, QuotaRateLimiter quotaLimiter) {
+        this.gmailService = gmailService;
+        this.quotaLimiter = quotaLimiter;
+    }
+
+    @Override
+    public String currentCheckpoint() throws IOException {
+        acquireQuota(QuotaRateLimiter.GET_PROFILE_UNITS);
+        return gmailService.getCurrentHistoryId();
+    }
+
+    @Override
+    public Optional<InboxChanges> changesSince(String checkpoint) throws IOException {
+        // Billed per page, so a long gap between runs is paced page by page
+        return gmailService.listInboxHistory(checkpoint,
+                        calls -> acquireQuota(calls * QuotaRateLimiter.HISTORY_LIST_UNITS))
+                .map(history -> {
+                    Set<ThreadId> threadIds = history.threadIds().stream()
+                            .map(ThreadId::new)
+                            .collect(Collectors.toSet());
+                    return new InboxChanges(threadIds, history.historyId());
+                });
+    }
+
+    private void acquireQuota(int units) throws InterruptedIOException {
+        try {
+            quotaLimiter.acquire(units);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for Gmail quota");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.mailscheduler.application.email.inbox.gateway;
+
+import com.mailscheduler.application.email.inbox.InboxChanges;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public interface InboxGateway {
+    /**
+     * Gets the current position of the inbox, to start incremental checks from.
+     *
+     * @return The current checkpoint
+     * @throws IOException If the mailbox cannot be read
+     */
+    String currentCheckpoint() throws IOException;
+
+    /**
+     * Lists the threads that received incoming messages after the given checkpoint.
+     *
+     * @param checkpoint The checkpoint of the previous check
+     * @return The changes, or empty if the checkpoint has expired and must be reinitialized
+     * @throws IOException If the mailbox cannot be read
+     */
+    Optional<InboxChanges> changesSince(String checkpoint) throws IOException;
+}
@@ -9,10 +9,14 @@ import com.mailscheduler.domain.model.common.vo.email.Subject;
 import com.mailscheduler.domain.model.email.Email;
 import com.mailscheduler.domain.model.email.EmailMetadata;
 import com.mailscheduler.domain.model.recipient.Recipient;
+import com.mailscheduler.domain.model.schedule.PlanStepWithTemplate;
 import com.mailscheduler.domain.model.schedule.PlanWithTemplate;
+import com.mailscheduler.domain.model.template.CompiledTemplate;
 import com.mailscheduler.domain.model.template.Template;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderManager;
 import com.mailscheduler.domain.repository.EmailRepository;
 import com.mailscheduler.domain.model.common.base.EntityData;
+import com.mailscheduler.infrastructure.persistence.database.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -26,13 +30,16 @@ public class EmailScheduler {
     private final EmailRepository emailRepository;
     private final EmailFactory emailFactory;
     private final PlaceholderResolver placeholderResolver;
+    private final TransactionTemplate transactionTemplate;
 
     public EmailScheduler(
             EmailAddress defaultSenderEmail,
             EmailRepository emailRepository,
-            PlaceholderResolver placeholderResolver
+            PlaceholderResolver placeholderResolver,
+            TransactionTemplate transactionTemplate
     ) {
         this.emailRepository = emailRepository;
+        this.transactionTemplate = transactionTemplate;
         this.emailFactory = new EmailFactory(defaultSenderEmail);
         this.placeholderResolver = placeholderResolver;
     }
@@ -47,20 +54,46 @@ public class EmailScheduler {
 
         RecipientScheduledEmailsMap scheduledEmailsMap = new RecipientScheduledEmailsMap(new HashMap<>());
 
-        for (Map.Entry<PlanWithTemplate, List<Recipient>> entry : plansWithRecipients.getMapping().entrySet()) {
-            try {
-                RecipientScheduledEmailsMap scheduledEmailsMap1 = scheduleEmailsForRecipients(entry.getKey(), entry.getValue());
-                scheduledEmailsMap.putAll(scheduledEmailsMap1);
-            } catch (EmailSchedulingException e) {
-                LOGGER.log(Level.WARNING,
-                        "Failed to schedule emails for plan: " + entry.getKey().getStepsWithTemplates(), e);
-            }
+        // Read the placeholder values of all recipients and steps at once instead of per email
+        preloadPlaceholderValues(plansWithRecipients);
+        try {
+            for (Map.Entry<PlanWithTemplate, List<Recipient>> entry : plansWithRecipients.getMapping().entrySet()) {
+                try {
+                    RecipientScheduledEmailsMap scheduledEmailsMap1 = scheduleEmailsForRecipients(entry.getKey(), entry.getValue());
+                    scheduledEmailsMap.putAll(scheduledEmailsMap1);
+                } catch (EmailSchedulingException e) {
+                    LOGGER.log(Level.WARNING,
+                            "Failed to schedule emails for plan: " + entry.getKey().getStepsWithTemplates(), e);
+                }
 
+            }
+        } finally {
+            placeholderResolver.clearPreloaded();
         }
 
         return scheduledEmailsMap;
     }
 
+    /**
+     * Preloads the placeholder values for every recipient and template of the run.
+     */
+    private void preloadPlaceholderValues(PlanWithTemplatesRecipientsMap plansWithRecipients) {
+        List<Recipient> recipients = new ArrayList<>();
+        List<PlaceholderManager> managers = new ArrayList<>();
+        for (Map.Entry<PlanWithTemplate, List<Recipient>> entry : plansWithRecipients.getMapping().entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null || entry.getKey().getStepsWithTemplates() == null) {
+                continue;
+            }
+            recipients.addAll(entry.getValue());
+            for (PlanStepWithTemplate step : entry.getKey().getStepsWithTemplates()) {
+                if (step != null && step.template() != null) {
+                    managers.add(step.template().getPlaceholderManager());
+                }
+            }
+        }
+        placeholderResolver.preload(recipients, managers);
+    }
+
     /**
      * Schedules emails for a list of recipients according to a specific plan.
      */
@@ -120,30 +153,37 @@ public class EmailScheduler {
 
     /**
      * Creates and schedules a complete sequence of emails (initial + follow-ups).
+     * All templates are resolved first; the emails are then saved in one transaction.
      */
     private List<EntityData<Email, EmailMetadata>> scheduleCompleteEmailSequence(PlanWithTemplate plan, Recipient recipient)
             throws EmailSchedulingException {
-        List<EntityData<Email, EmailMetadata>> scheduledEmails = new ArrayList<>();
+        // Resolve placeholders before the transaction so no spreadsheet lookups run while it is open
+        EntityData<Email, EmailMetadata> initialEmail = createInitialEmail(plan, recipient);
+        List<Template> followUpTemplates =
+                resolveFollowUpTemplates(plan, recipient, 1, initialEmail.entity().getSubject());
 
-        // Schedule initial email
-        EntityData<Email, EmailMetadata> initialEmail = createAndScheduleInitialEmail(plan, recipient);
-        scheduledEmails.add(initialEmail);
+        return transactionTemplate.execute(() -> {
+            List<EntityData<Email, EmailMetadata>> scheduledEmails = new ArrayList<>();
 
-        // Track last scheduled date for follow-ups
-        LocalDate lastScheduledDate = initialEmail.metadata().scheduledDate();
+            // Schedule initial email
+            EntityData<Email, EmailMetadata> savedInitialEmail = saveInitialEmail(initialEmail);
+            scheduledEmails.add(savedInitialEmail);
 
-        // Schedule follow-up emails
-        scheduledEmails.addAll(
-                scheduleFollowUpEmails(plan, recipient, initialEmail, lastScheduledDate)
-        );
+            // Track last scheduled date for follow-ups
+            LocalDate lastScheduledDate = savedInitialEmail.metadata().scheduledDate();
 
-        return scheduledEmails;
+            // Schedule follow-up emails
+            scheduledEmails.addAll(scheduleFollowUpEmails(
+                    plan, recipient, savedInitialEmail.entity().getId(), followUpTemplates, 1, lastScheduledDate));
+
+            return scheduledEmails;
+        });
     }
 
     /**
-     * Creates and schedules the initial email for a recipient.
+     * Creates the initial email for a recipient. The email is not saved yet.
      */
-    private EntityData<Email, EmailMetadata> createAndScheduleInitialEmail(
+    private EntityData<Email, EmailMetadata> createInitialEmail(
             PlanWithTemplate plan, Recipient recipient) throws EmailSchedulingException {
 
         if (plan.getStepsWithTemplates().isEmpty() || plan.getStepsWithTemplates().get(0) == null) {
@@ -153,9 +193,14 @@ public class EmailScheduler {
         Template initialTemplate = plan.getStepsWithTemplates().get(0).template();
         Template resolvedTemplate = resolveTemplateForRecipient(initialTemplate, recipient);
 
-        EntityData<Email, EmailMetadata> initialEmail =
-                emailFactory.createInitialEmail(recipient, resolvedTemplate);
+        return emailFactory.createInitialEmail(recipient, resolvedTemplate);
+    }
 
+    /**
+     * Saves the initial email and links it to itself as the start of its sequence.
+     */
+    private EntityData<Email, EmailMetadata> saveInitialEmail(EntityData<Email, EmailMetadata> initialEmail)
+            throws EmailSchedulingException {
         try {
             var initialEmailData = emailRepository.saveWithMetadata(initialEmail.entity(), initialEmail.metadata());
 
@@ -172,19 +217,24 @@ public class EmailScheduler {
     }
 
     /**
-     * Schedules all follow-up emails for a recipient after the initial email.
+     * Creates and saves the follow-up emails of a plan, starting at the given step.
+     * The follow-ups are saved together in a single batch.
+     *
+     * @param resolvedTemplates the resolved templates for the steps from {@code firstStep} on
+     * @param startDate the scheduled date of the email preceding {@code firstStep}
      */
     private List<EntityData<Email, EmailMetadata>> scheduleFollowUpEmails(
             PlanWithTemplate plan,
             Recipient recipient,
-            EntityData<Email, EmailMetadata> initialEmail,
+            EntityId<Email> initialEmailId,
+            List<Template> resolvedTemplates,
+            int firstStep,
             LocalDate startDate) throws EmailSchedulingException {
 
         List<EntityData<Email, EmailMetadata>> followUpEmails = new ArrayList<>();
         LocalDate nextScheduledDate = startDate;
 
-        // Skip the first step (initial email) and schedule follow-ups
-        for (int i = 1; i < plan.getStepsWithTemplates().size(); i++) {
+        for (int i = firstStep; i < plan.getStepsWithTemplates().size(); i++) {
             var step = plan.getStepsWithTemplates().get(i);
             int waitDays = step.step().getWaitPeriod();
 
@@ -192,18 +242,18 @@ public class EmailScheduler {
             nextScheduledDate = nextScheduledDate.plusDays(waitDays);
 
             // Create follow-up email
-            EntityData<Email, EmailMetadata> followUpEmail = createAndScheduleFollowUpEmail(
+            EntityData<Email, EmailMetadata> followUpEmail = createFollowUpEmail(
                     recipient,
-                    step.template(),
+                    resolvedTemplates.get(i - firstStep),
                     nextScheduledDate,
                     step.step().getStepNumber(),
-                    initialEmail.entity()
+                    initialEmailId
             );
 
             followUpEmails.add(followUpEmail);
         }
 
-        return followUpEmails;
+        return saveFollowUpEmails(followUpEmails);
     }
 
     /**
@@ -230,66 +280,69 @@ public class EmailScheduler {
             throw new EmailSchedulingException("Cannot determine last scheduled email date");
         }
 
-        List<EntityData<Email, EmailMetadata>> newFollowUps = new ArrayList<>();
-        int currentFollowUpNumber = context.getCurrentFollowupNumber();
-        int maxFollowUps = plan.getStepsWithTemplates().size() - 1; // -1 because we count from 0
-
         // Skip scheduled steps and continue with remaining ones
-        for (int i = currentFollowUpNumber + 1; i <= maxFollowUps; i++) {
-            var step = plan.getStepsWithTemplates().get(i);
-            int waitDays = step.step().getWaitPeriod();
+        int firstStep = context.getCurrentFollowupNumber() + 1;
+        Email initialEmail = initialEmailOpt.get().entity();
+        List<Template> followUpTemplates =
+                resolveFollowUpTemplates(plan, recipient, firstStep, initialEmail.getSubject());
 
-            // Calculate when to send the next email
-            LocalDate nextEmailDate = lastScheduledDate.plusDays(waitDays);
+        return scheduleFollowUpEmails(
+                plan, recipient, initialEmail.getId(), followUpTemplates, firstStep, lastScheduledDate);
+    }
 
-            EntityData<Email, EmailMetadata> followUpEmail = createAndScheduleFollowUpEmail(
-                    recipient,
-                    step.template(),
-                    nextEmailDate,
-                    step.step().getStepNumber(),
-                    initialEmailOpt.get().entity()
-            );
+    /**
+     * Resolves the templates of all follow-up steps from {@code firstStep} on for a recipient
+     * and gives them the reply subject of the initial email.
+     */
+    private List<Template> resolveFollowUpTemplates(
+            PlanWithTemplate plan,
+            Recipient recipient,
+            int firstStep,
+            Subject initialSubject
+    ) throws EmailSchedulingException {
+        // Add "Re:" prefix to follow-up emails
+        Subject followUpSubject = createFollowUpSubject(initialSubject);
 
-            newFollowUps.add(followUpEmail);
-            lastScheduledDate = nextEmailDate; // Update for next iteration
+        List<Template> resolvedTemplates = new ArrayList<>();
+        for (int i = firstStep; i < plan.getStepsWithTemplates().size(); i++) {
+            Template resolvedTemplate = resolveTemplateForRecipient(plan.getStepsWithTemplates().get(i).template(), recipient);
+            resolvedTemplates.add(updateTemplateSubject(resolvedTemplate, followUpSubject));
         }
-
-        return newFollowUps;
+        return resolvedTemplates;
     }
 
     /**
-     * Creates and schedules a follow-up email.
+     * Creates a follow-up email from a resolved template. The email is not saved yet.
      */
-    private EntityData<Email, EmailMetadata> createAndScheduleFollowUpEmail(
+    private EntityData<Email, EmailMetadata> createFollowUpEmail(
             Recipient recipient,
-            Template template,
+            Template resolvedTemplate,
             LocalDate scheduledDate,
             int followUpNumber,
-            Email initialEmail
+            EntityId<Email> initialEmailId
     ) throws EmailSchedulingException {
         try {
-            // Resolve template with recipient data
-            Template resolvedTemplate = resolveTemplateForRecipient(template, recipient);
-
-            // Add "Re:" prefix to follow-up emails
-            Subject followUpSubject = createFollowUpSubject(initialEmail.getSubject());
-            resolvedTemplate = updateTemplateSubject(resolvedTemplate, followUpSubject);
+            return emailFactory.createFollowUpEmail(
+                    recipient,
+                    resolvedTemplate,
+                    scheduledDate,
+                    followUpNumber,
+                    initialEmailId
+            );
+        } catch (Exception e) {
+            throw new EmailSchedulingException("Failed to create follow-up email", e);
+        }
+    }
 
-            // Create follow-up email
-            EntityData<Email, EmailMetadata> followUpEmail =
-                    emailFactory.createFollowUpEmail(
-                            recipient,
-                            resolvedTemplate,
-                            scheduledDate,
-                            followUpNumber,
-                            initialEmail.getId()
-                    );
-
-            // Save to repository
-            emailRepository.saveWithMetadata(followUpEmail.entity(), followUpEmail.metadata());
-            return followUpEmail;
+    /**
+     * Saves the follow-up emails of one recipient in a single batch.
+     */
+    private List<EntityData<Email, EmailMetadata>> saveFollowUpEmails(
+            List<EntityData<Email, EmailMetadata>> followUpEmails) throws EmailSchedulingException {
+        try {
+            return emailRepository.saveAllWithMetadata(followUpEmails);
         } catch (Exception e) {
-            throw new EmailSchedulingException("Failed to create or save follow-up email", e);
+            throw new EmailSchedulingException("Failed to save follow-up emails", e);
         }
     }
 
@@ -309,11 +362,8 @@ public class EmailScheduler {
      */
     private Template updateTemplateSubject(Template template, Subject subject) {
         return new Template.Builder()
-                .setId(template.getId())
-                .setType(template.getType())
+                .from(template)
                 .setSubject(subject)
-                .setBody(template.getBody())
-                .setPlaceholderManager(template.getPlaceholderManager())
                 .build();
     }
 
@@ -323,7 +373,12 @@ public class EmailScheduler {
     private Template resolveTemplateForRecipient(Template template, Recipient recipient)
             throws EmailSchedulingException {
         try {
+            if (template.getCompiled().isPresent()) {
+                return renderCompiledTemplate(template, template.getCompiled().get(), recipient);
+            }
+
             Body resolvedBody = placeholderResolver.resolveTemplatePlaceholders(
+                    template.getId(),
                     template.getBody(),
                     template.getPlaceholderManager(),
                     recipient
@@ -343,6 +398,27 @@ public class EmailScheduler {
         }
     }
 
+    /**
+     * Renders both body parts of a compiled template from the recipient's placeholder values.
+     */
+    private Template renderCompiledTemplate(Template template, CompiledTemplate compiled, Recipient recipient)
+            throws TemplateResolutionException {
+        Map<String, String> values = placeholderResolver.resolvePlaceholderValues(
+                template.getPlaceholderManager(),
+                recipient
+        );
+        CompiledTemplate.RenderedBody rendered = compiled.render(values);
+
+        return new Template.Builder()
+                .setId(template.getId())
+                .setType(template.getType())
+                .setSubject(template.getSubject())
+                .setBody(rendered.html())
+                .setPlainTextBody(rendered.plainText())
+                .setPlaceholderManager(null) // No longer needed after resolution
+                .build();
+    }
+
     /**
      * Creates a context object with information about current email scheduling state.
      */
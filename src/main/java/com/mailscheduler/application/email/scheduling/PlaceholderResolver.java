@@ -2,29 +2,46 @@ package com.mailscheduler.application.email.scheduling;
 
 import com.google.api.services.sheets.v4.model.ValueRange;
 import com.mailscheduler.application.synchronization.spreadsheet.gateway.SpreadsheetGateway;
+import com.mailscheduler.domain.model.common.base.EntityId;
 import com.mailscheduler.domain.model.common.vo.email.Body;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
 import com.mailscheduler.domain.model.recipient.Recipient;
+import com.mailscheduler.domain.model.template.Template;
 import com.mailscheduler.domain.model.template.placeholder.PlaceholderManager;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderTemplate;
 import com.mailscheduler.domain.repository.ContactRepository;
 import com.mailscheduler.domain.repository.RecipientRepository;
+import com.mailscheduler.util.LongIntHashMap;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class PlaceholderResolver {
     private static final Logger LOGGER = Logger.getLogger(PlaceholderResolver.class.getName());
     private static final String DEFAULT_SHEET_TITLE = "Tabellenblatt1";
+    private static final char[] DEFAULT_DELIMITERS = {'{', '}'};
+    /**
+     * Rows closer together than this are fetched as one range; the cells in between are read but unused.
+     */
+    private static final int MAX_ROW_GAP = 50;
+    private static final int MAX_RANGES_PER_BATCH = 200;
 
     private final String spreadsheetId;
     private final SpreadsheetGateway spreadsheetGateway;
     private final ContactRepository contactRepository;
     private final RecipientRepository recipientRepository;
+    private final Map<EntityId<Template>, PlaceholderTemplate> compiledBodies = new ConcurrentHashMap<>();
+    private volatile PlaceholderValueGrid preloadedValues;
 
     public PlaceholderResolver(
             SpreadsheetGateway spreadsheetGateway,
@@ -43,35 +60,81 @@ public class PlaceholderResolver {
             PlaceholderManager manager,
             Recipient recipient
     ) throws TemplateResolutionException {
-        try {
-            // Validate inputs
-            validateInputs(body, manager, recipient);
+        return resolveTemplatePlaceholders(null, body, manager, recipient);
+    }
 
-            // Find row for recipient
-            var recipientDataOpt = recipientRepository.findByIdWithMetadata(recipient.getId());
-            if (recipientDataOpt.isEmpty()) {
-                throw new TemplateResolutionException("Recipient not found: " + recipient.getId());
-            }
+    /**
+     * Resolves the placeholders of a template body for a recipient.
+     * <p>
+     *     The body is parsed with the manager's delimiters once per template ID and the parsed form is reused
+     *     for every further recipient, as long as the body and delimiters stay the same.
+     * </p>
+     *
+     * @param templateId The ID of the template the body belongs to, or null to skip caching
+     * @param body The template body
+     * @param manager The placeholder definitions, may be null
+     * @param recipient The recipient whose spreadsheet row provides the values
+     * @return The body with all known placeholders replaced
+     * @throws TemplateResolutionException If the recipient's row or the values cannot be read
+     */
+    public Body resolveTemplatePlaceholders(
+            EntityId<Template> templateId,
+            Body body,
+            PlaceholderManager manager,
+            Recipient recipient
+    ) throws TemplateResolutionException {
+        // Validate inputs
+        validateInputs(body, manager, recipient);
+
+        Map<String, String> placeholderValues = resolvePlaceholderValues(manager, recipient);
+        if (placeholderValues.isEmpty()) {
+            return body;
+        }
+
+        // Replace placeholders in body
+        PlaceholderTemplate compiled = compiledBody(templateId, body, manager);
+        return Body.of(compiled.render(placeholderValues));
+    }
 
-            var contactOpt = contactRepository.findByIdWithMetadata(recipientDataOpt.get().metadata().contactId());
-            if (contactOpt.isEmpty()) {
-                throw new TemplateResolutionException("Contact not found for recipient: " + recipient.getId());
+    /**
+     * Looks up the values of all placeholders of a template for a recipient.
+     *
+     * @param manager The placeholder definitions, may be null
+     * @param recipient The recipient whose spreadsheet row provides the values
+     * @return Placeholder values by key
+     * @throws TemplateResolutionException If the recipient's row or the values cannot be read
+     */
+    public Map<String, String> resolvePlaceholderValues(
+            PlaceholderManager manager,
+            Recipient recipient
+    ) throws TemplateResolutionException {
+        if (recipient == null || recipient.getId() == null) {
+            throw new TemplateResolutionException("Recipient or recipient ID cannot be null");
+        }
+
+        PlaceholderValueGrid grid = preloadedValues;
+        if (grid != null && grid.containsRecipient(recipient.getId())) {
+            return grid.valuesFor(manager, recipient.getId());
+        }
+
+        try {
+            // Find row for recipient with a single recipients/contacts lookup
+            LongIntHashMap rows = recipientRepository.findSpreadsheetRowsByRecipientIds(List.of(recipient.getId()));
+            if (!rows.containsKey(recipient.getId().value())) {
+                throw new TemplateResolutionException("Recipient or contact not found: " + recipient.getId());
             }
 
-            int row = contactOpt.get().entity().getSpreadsheetRow().extractRowNumber();
+            int row = rows.getOrDefault(recipient.getId().value(), -1);
 
             // Get cells to retrieve from spreadsheet
             List<SpreadsheetReference> cellReferences = buildCellReferences(manager, row);
             if (cellReferences.isEmpty()) {
                 // No placeholders to resolve
-                return body;
+                return Map.of();
             }
 
             // Get values from spreadsheet
-            Map<String, String> placeholderValues = fetchPlaceholderValues(manager, cellReferences);
-
-            // Replace placeholders in body
-            return replacePlaceholders(body, placeholderValues);
+            return fetchPlaceholderValues(manager, cellReferences);
 
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error resolving placeholders", e);
@@ -79,6 +142,111 @@ public class PlaceholderResolver {
         }
     }
 
+    /**
+     * Loads the placeholder values of a whole scheduling run up front.
+     * <p>
+     *     Looks up the spreadsheet rows of all recipients at once and reads every placeholder column used by
+     *     the given managers for those rows in a single batched Sheets request, using one range per column and
+     *     group of nearby rows. Until {@link #clearPreloaded()} is called, values for these recipients are
+     *     served from memory; other recipients are still resolved one by one. If the values cannot be read,
+     *     nothing is preloaded and every recipient falls back to the per-recipient lookup.
+     * </p>
+     *
+     * @param recipients The recipients of the run
+     * @param managers The placeholder definitions of all templates in the run; null entries are ignored
+     */
+    public void preload(Collection<Recipient> recipients, Collection<PlaceholderManager> managers) {
+        List<EntityId<Recipient>> recipientIds = recipients.stream()
+                .filter(Objects::nonNull)
+                .map(Recipient::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+
+        Set<String> columns = new TreeSet<>();
+        for (PlaceholderManager manager : managers) {
+            if (manager != null) {
+                manager.getPlaceholders().values().forEach(column -> columns.add(column.getReference()));
+            }
+        }
+
+        try {
+            LongIntHashMap rows = recipientRepository.findSpreadsheetRowsByRecipientIds(recipientIds);
+            PlaceholderValueGrid grid = new PlaceholderValueGrid(rows);
+            if (!columns.isEmpty() && !rows.isEmpty()) {
+                fillGrid(grid, columns, rowRanges(rows));
+            }
+            preloadedValues = grid;
+            LOGGER.info("Preloaded placeholder values for " + grid.recipientCount() + " recipients from "
+                    + columns.size() + " columns");
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to preload placeholder values; resolving per recipient", e);
+        }
+    }
+
+    /**
+     * Drops the values loaded by {@link #preload}.
+     */
+    public void clearPreloaded() {
+        preloadedValues = null;
+    }
+
+    /**
+     * Groups the rows into inclusive ranges of nearby rows.
+     */
+    private List<int[]> rowRanges(LongIntHashMap rowsByRecipientId) {
+        TreeSet<Integer> rows = new TreeSet<>();
+        rowsByRecipientId.forEach((recipientId, row) -> rows.add(row));
+
+        List<int[]> ranges = new ArrayList<>();
+        int start = rows.first();
+        int end = start;
+        for (int row : rows.tailSet(start, false)) {
+            if (row - end > MAX_ROW_GAP) {
+                ranges.add(new int[]{start, end});
+                start = row;
+            }
+            end = row;
+        }
+        ranges.add(new int[]{start, end});
+        return ranges;
+    }
+
+    private void fillGrid(PlaceholderValueGrid grid, Set<String> columns, List<int[]> rowRanges) throws IOException {
+        List<SpreadsheetReference> ranges = new ArrayList<>(columns.size() * rowRanges.size());
+        List<String> rangeColumns = new ArrayList<>(ranges.size());
+        List<Integer> rangeStartRows = new ArrayList<>(ranges.size());
+        for (String column : columns) {
+            for (int[] rowRange : rowRanges) {
+                ranges.add(SpreadsheetReference.ofRange(
+                        DEFAULT_SHEET_TITLE, column + rowRange[0] + ":" + column + rowRange[1]));
+                rangeColumns.add(column);
+                rangeStartRows.add(rowRange[0]);
+            }
+        }
+
+        for (int from = 0; from < ranges.size(); from += MAX_RANGES_PER_BATCH) {
+            int to = Math.min(from + MAX_RANGES_PER_BATCH, ranges.size());
+            List<ValueRange> values = spreadsheetGateway.readDataBatch(spreadsheetId, ranges.subList(from, to));
+            for (int i = 0; i < values.size() && from + i < to; i++) {
+                List<List<Object>> cells = values.get(i).getValues();
+                if (cells == null) {
+                    continue;
+                }
+                String column = rangeColumns.get(from + i);
+                int startRow = rangeStartRows.get(from + i);
+                for (int offset = 0; offset < cells.size(); offset++) {
+                    List<Object> cell = cells.get(offset);
+                    if (cell != null && !cell.isEmpty() && cell.get(0) != null) {
+                        grid.put(column, startRow + offset, cell.get(0).toString());
+                    }
+                }
+            }
+        }
+    }
+
     private void validateInputs(Body body, PlaceholderManager manager, Recipient recipient)
             throws TemplateResolutionException {
         if (body == null) {
@@ -162,15 +330,18 @@ public class PlaceholderResolver {
         return cellValue != null ? cellValue.toString() : "";
     }
 
-    private Body replacePlaceholders(Body body, Map<String, String> placeholderValues) {
-        String bodyText = body.value();
-
-        for (Map.Entry<String, String> entry : placeholderValues.entrySet()) {
-            String placeholder = "{" + entry.getKey() + "}";
-            String replacement = entry.getValue();
-            bodyText = bodyText.replace(placeholder, replacement);
+    private PlaceholderTemplate compiledBody(EntityId<Template> templateId, Body body, PlaceholderManager manager) {
+        char[] delimiters = manager != null ? manager.getDelimiters() : DEFAULT_DELIMITERS;
+        if (templateId == null) {
+            return PlaceholderTemplate.compile(body.value(), delimiters);
         }
 
-        return Body.of(bodyText);
+        PlaceholderTemplate cached = compiledBodies.get(templateId);
+        if (cached != null && cached.matches(body.value(), delimiters)) {
+            return cached;
+        }
+        PlaceholderTemplate compiled = PlaceholderTemplate.compile(body.value(), delimiters);
+        compiledBodies.put(templateId, compiled);
+        return compiled;
     }
 }
@@ -0,0 +1,66 @@
+package com.mailscheduler.application.email.scheduling;
+
+import com.mailscheduler.domain.model.common.base.EntityId;
+import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
+import com.mailscheduler.domain.model.recipient.Recipient;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderManager;
+import com.mailscheduler.util.LongIntHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory copy of the spreadsheet cells that provide placeholder values for one scheduling run.
+ * <p>
+ *     Holds the spreadsheet row of every recipient in the run and the cell values of every placeholder column
+ *     in those rows, so the values for any recipient and template step can be looked up without further
+ *     database or Sheets calls. Cells that were fetched but are empty resolve to an empty string.
+ * </p>
+ */
+final class PlaceholderValueGrid {
+    private final LongIntHashMap rowsByRecipientId;
+    private final Map<String, Map<Integer, String>> valuesByColumn = new HashMap<>();
+
+    PlaceholderValueGrid(LongIntHashMap rowsByRecipientId) {
+        this.rowsByRecipientId = rowsByRecipientId;
+    }
+
+    /**
+     * Stores the value of a cell.
+     */
+    void put(String column, int row, String value) {
+        valuesByColumn.computeIfAbsent(column, key -> new HashMap<>()).put(row, value);
+    }
+
+    /**
+     * Checks whether the grid was loaded for the recipient.
+     */
+    boolean containsRecipient(EntityId<Recipient> recipientId) {
+        return recipientId != null && rowsByRecipientId.containsKey(recipientId.value());
+    }
+
+    /**
+     * Gets the values of all placeholders of a template for a recipient of this run.
+     *
+     * @param manager The placeholder definitions, may be null
+     * @param recipientId A recipient for which {@link #containsRecipient} is true
+     * @return Placeholder values by key
+     */
+    Map<String, String> valuesFor(PlaceholderManager manager, EntityId<Recipient> recipientId) {
+        if (manager == null || manager.getPlaceholders().isEmpty()) {
+            return Map.of();
+        }
+
+        int row = rowsByRecipientId.getOrDefault(recipientId.value(), -1);
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, SpreadsheetReference> entry : manager.getPlaceholders().entrySet()) {
+            Map<Integer, String> column = valuesByColumn.getOrDefault(entry.getValue().getReference(), Map.of());
+            values.put(entry.getKey(), column.getOrDefault(row, ""));
+        }
+        return values;
+    }
+
+    int recipientCount() {
+        return rowsByRecipientId.size();
+    }
+}
@@ -0,0 +1,179 @@
+package com.mailscheduler.application.email.sending;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs send requests on a bounded pool of worker threads and collects their results in input order.
+ * <p>
+ *     Requests are never interrupted: a send that is already in flight may have been accepted by the server,
+ *     and abandoning it would leave its outcome unrecorded. Bounding a hanging request is left to the
+ *     connect and read timeouts of the HTTP transport, pacing against API quotas to the gateway
+ *     (see {@link QuotaRateLimiter}).
+ * </p>
+ */
+public class ConcurrentSendExecutor implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ConcurrentSendExecutor.class.getName());
+
+    private final int parallelism;
+    private final ExecutorService workers;
+
+    /**
+     * @param parallelism maximum number of requests in flight
+     */
+    public ConcurrentSendExecutor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        this.workers = Executors.newFixedThreadPool(parallelism, namedDaemonThreads("email-send"));
+    }
+
+    private ConcurrentSendExecutor() {
+        this.parallelism = 1;
+        this.workers = null;
+    }
+
+    /**
+     * Creates an executor that runs every request on the calling thread, one after another.
+     */
+    public static ConcurrentSendExecutor sequential() {
+        return new ConcurrentSendExecutor();
+    }
+
+    /**
+     * Runs the task for every item and returns the results in the order of the items.
+     * <p>
+     *     Each result is handed to {@code onResult} on the calling thread as soon as its task has finished,
+     *     in completion order, so callers can persist outcomes without waiting for the whole batch.
+     * </p>
+     *
+     * @param items the items to process
+     * @param task the work to do per item
+     * @param onFailure creates the result for an item whose task threw
+     * @param onResult called on the calling thread with every result once it is available
+     * @return one result per item, in input order
+     */
+    public <T, R> List<R> executeAll(List<T> items, Function<T, R> task, BiFunction<T, Throwable, R> onFailure,
+                                     Consumer<R> onResult) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        if (workers == null) {
+            return executeSequentially(items, task, onFailure, onResult);
+        }
+
+        CompletionService<R> completion = new ExecutorCompletionService<>(workers);
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        Map<Future<R>, Integer> indexes = new IdentityHashMap<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            Future<R> future = completion.submit(() -> task.apply(item));
+            futures.add(future);
+            indexes.put(future, i);
+        }
+
+        List<R> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        for (int remaining = items.size(); remaining > 0; remaining--) {
+            Future<R> done;
+            try {
+                done = completion.take();
+            } catch (InterruptedException e) {
+                LOGGER.log(Level.WARNING, "Interrupted while waiting for send results; cancelling queued requests");
+                // Requests already running are left to finish
+                futures.forEach(pending -> pending.cancel(false));
+                Thread.currentThread().interrupt();
+                failUnfinished(items, results, onFailure, onResult, e);
+                break;
+            }
+            int index = indexes.get(done);
+            R result = resultOf(items.get(index), done, onFailure);
+            results.set(index, result);
+            onResult.accept(result);
+        }
+        return results;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private <T, R> List<R> executeSequentially(List<T> items, Function<T, R> task, BiFunction<T, Throwable, R> onFailure,
+                                               Consumer<R> onResult) {
+        List<R> results = new ArrayList<>(items.size());
+        for (T item : items) {
+            R result;
+            try {
+                result = task.apply(item);
+            } catch (RuntimeException e) {
+                result = onFailure.apply(item, e);
+            }
+            results.add(result);
+            onResult.accept(result);
+        }
+        return results;
+    }
+
+    private <T, R> R resultOf(T item, Future<R> future, BiFunction<T, Throwable, R> onFailure) {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            return onFailure.apply(item, e);
+        } catch (ExecutionException e) {
+            return onFailure.apply(item, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return onFailure.apply(item, e);
+        }
+    }
+
+    /**
+     * Creates failure results for all items whose result has not been collected yet.
+     */
+    private <T, R> void failUnfinished(List<T> items, List<R> results, BiFunction<T, Throwable, R> onFailure,
+                                       Consumer<R> onResult, InterruptedException cause) {
+        for (int i = 0; i < items.size(); i++) {
+            if (results.get(i) == null) {
+                R result = onFailure.apply(items.get(i), cause);
+                results.set(i, result);
+                onResult.accept(result);
+            }
+        }
+    }
+
+    /**
+     * Stops the worker threads after the requests already submitted have finished.
+     */
+    @Override
+    public void close() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,157 @@
+package com.mailscheduler.application.email.sending;
+
+import com.mailscheduler.domain.model.common.base.EntityId;
+import com.mailscheduler.domain.model.email.Email;
+import com.mailscheduler.domain.repository.OutboxRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Claims due emails for this worker and keeps their leases alive until they are processed.
+ * <p>
+ *     Claimed emails are held until {@link #release(Collection)} or {@link #close()}; a background heartbeat
+ *     renews their leases every third of the lease duration. If the process dies, the leases simply expire
+ *     and another worker, or this one after a restart, picks the emails up again. An email sent right before
+ *     a crash but not yet marked as sent can therefore be sent a second time.
+ * </p>
+ */
+public class EmailOutbox implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(EmailOutbox.class.getName());
+    private static final String WORKER_ID_PROPERTY = "mailscheduler.outbox.workerId";
+
+    private final OutboxRepository outboxRepository;
+    private final String workerId;
+    private final Duration leaseDuration;
+    private final int batchSize;
+    private final Clock clock;
+    private final Set<EntityId<Email>> held = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService heartbeat;
+
+    /**
+     * @param outboxRepository the queue to claim from
+     * @param workerId the lease owner; must be unique among running workers
+     * @param leaseDuration how long a claim stays valid without a heartbeat
+     * @param batchSize maximum number of emails per claim
+     */
+    public EmailOutbox(OutboxRepository outboxRepository, String workerId, Duration leaseDuration, int batchSize) {
+        this(outboxRepository, workerId, leaseDuration, batchSize, Clock.systemUTC());
+    }
+
+    EmailOutbox(OutboxRepository outboxRepository, String workerId, Duration leaseDuration, int batchSize, Clock clock) {
+        if (leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("Lease duration must be positive");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.outboxRepository = Objects.requireNonNull(outboxRepository, "Outbox repository cannot be null");
+        this.workerId = Objects.requireNonNull(workerId, "Worker ID cannot be null");
+        this.leaseDuration = leaseDuration;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the worker ID from the {@value #WORKER_ID_PROPERTY} system property, or creates a unique one.
+     * A fixed ID lets a restarted worker reclaim its own unexpired leases straight away.
+     */
+    public static String defaultWorkerId() {
+        String configured = System.getProperty(WORKER_ID_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return configured.trim();
+        }
+        return "worker-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Clears expired leases and claims the next batch of due emails for this worker.
+     *
+     * @param dueBefore Only emails scheduled before this date are claimed
+     * @return The IDs of the claimed emails, in scheduling order
+     */
+    public List<EntityId<Email>> claim(LocalDate dueBefore) {
+        outboxRepository.reapExpired(clock.instant());
+        List<EntityId<Email>> claimed = outboxRepository.claim(
+                workerId, batchSize, dueBefore, clock.instant(), clock.instant().plus(leaseDuration));
+
+        if (!claimed.isEmpty()) {
+            held.addAll(claimed);
+            startHeartbeat();
+        }
+        LOGGER.info("Worker " + workerId + " claimed " + claimed.size() + " emails");
+        return claimed;
+    }
+
+    /**
+     * Releases the leases on the given emails. Emails that were sent or failed have already left the queue;
+     * the rest become claimable again immediately.
+     */
+    public void release(Collection<EntityId<Email>> emailIds) {
+        List<EntityId<Email>> owned = emailIds.stream().filter(held::remove).toList();
+        if (!owned.isEmpty()) {
+            outboxRepository.release(workerId, owned);
+        }
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Stops the heartbeat and releases all emails still held.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (heartbeat != null) {
+                heartbeat.shutdownNow();
+                heartbeat = null;
+            }
+        }
+        try {
+            release(List.copyOf(held));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to release outbox leases; they will expire on their own", e);
+        }
+    }
+
+    private synchronized void startHeartbeat() {
+        if (heartbeat != null) {
+            return;
+        }
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = Math.max(1, leaseDuration.toMillis() / 3);
+        heartbeat.scheduleAtFixedRate(this::renewLeases, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void renewLeases() {
+        List<EntityId<Email>> snapshot = List.copyOf(held);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            int renewed = outboxRepository.renew(workerId, snapshot, clock.instant().plus(leaseDuration));
+            // Sent emails leave the queue, so fewer renewals are expected as the batch progresses
+            LOGGER.fine("Renewed " + renewed + " of " + snapshot.size() + " outbox leases");
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to renew outbox leases", e);
+        }
+    }
+}
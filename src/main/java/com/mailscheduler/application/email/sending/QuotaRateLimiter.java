@@ -0,0 +1,112 @@
+package com.mailscheduler.application.email.sending;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket that paces API calls by their quota cost.
+ * <p>
+ *     Gmail limits each user to {@value #GMAIL_UNITS_PER_USER_PER_SECOND} quota units per second, and every
+ *     method has its own cost (see the {@code *_UNITS} constants). The bucket holds at most one second worth
+ *     of units and refills continuously, so short bursts are allowed while the long-term rate stays under
+ *     the quota. Thread-safe; waiting callers are served in arrival order.
+ * </p>
+ */
+public class QuotaRateLimiter {
+    public static final int GMAIL_UNITS_PER_USER_PER_SECOND = 250;
+
+    public static final int MESSAGES_SEND_UNITS = 100;
+    public static final int DRAFTS_CREATE_UNITS = 10;
+    public static final int THREADS_GET_UNITS = 10;
+    public static final int HISTORY_LIST_UNITS = 2;
+    public static final int GET_PROFILE_UNITS = 1;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final double capacity;
+    private final double unitsPerNano;
+    private double available;
+    private long lastRefillNanos;
+
+    /**
+     * @param unitsPerSecond sustained rate, which is also the burst capacity
+     */
+    public QuotaRateLimiter(int unitsPerSecond) {
+        if (unitsPerSecond < 1) {
+            throw new IllegalArgumentException("Units per second must be at least 1");
+        }
+        this.capacity = unitsPerSecond;
+        this.unitsPerNano = unitsPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.available = unitsPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a limiter for the Gmail per-user quota.
+     */
+    public static QuotaRateLimiter forGmail() {
+        return new QuotaRateLimiter(GMAIL_UNITS_PER_USER_PER_SECOND);
+    }
+
+    /**
+     * Waits until the given number of units is available and takes them.
+     *
+     * @param units quota cost of the call about to be made
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire(int units) throws InterruptedException {
+        if (units > capacity) {
+            throw new IllegalArgumentException("Cannot acquire " + units + " units from a bucket of " + (int) capacity);
+        }
+
+        // Holding the fair lock while sleeping keeps callers in arrival order
+        lock.lockInterruptibly();
+        try {
+            long waitNanos;
+            while ((waitNanos = reserve(units)) > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the largest number of units a single {@link #acquire(int)} may request.
+     */
+    public int getCapacity() {
+        return (int) capacity;
+    }
+
+    /**
+     * Gets the number of units currently available without waiting.
+     */
+    public int availableUnits() {
+        lock.lock();
+        try {
+            refill();
+            return (int) available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the units if available.
+     *
+     * @return 0 if the units were taken, otherwise the nanoseconds until they will be available
+     */
+    private long reserve(int units) {
+        refill();
+        if (available >= units) {
+            available -= units;
+            return 0;
+        }
+        return (long) Math.ceil((units - available) / unitsPerNano);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * unitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -6,6 +6,8 @@ import com.mailscheduler.domain.model.email.Email;
 import com.mailscheduler.domain.model.common.vo.ThreadId;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 public interface EmailGateway {
     /**
@@ -37,4 +39,18 @@ public interface EmailGateway {
      * @throws IOException If checking fails
      */
     boolean hasReplies(ThreadId threadId, int minimumReplyCount) throws IOException;
+
+    /**
+     * Counts the messages in several threads at once, so replies can be checked before sending
+     * without one round trip per thread.
+     * The default implementation returns an empty map, which makes callers fall back to
+     * {@link #hasReplies(ThreadId, int)}.
+     *
+     * @param threadIds The thread IDs to check
+     * @return Map of thread IDs to message counts; threads that could not be checked are absent
+     * @throws IOException If checking fails
+     */
+    default Map<ThreadId, Integer> countThreadMessages(Collection<ThreadId> threadIds) throws IOException {
+        return Map.of();
+    }
 }
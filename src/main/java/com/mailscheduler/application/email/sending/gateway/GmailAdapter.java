@@ -4,6 +4,7 @@ package com.mailscheduler.application.email.sending.gateway;
 import com.google.api.services.gmail.model.Draft;
 import com.google.api.services.gmail.model.Message;
 import com.mailscheduler.application.email.sending.EmailSendException;
+import com.mailscheduler.application.email.sending.QuotaRateLimiter;
 import com.mailscheduler.application.email.sending.SendResult;
 import com.mailscheduler.domain.model.email.Email;
 import com.mailscheduler.domain.model.common.vo.ThreadId;
@@ -11,19 +12,33 @@ import com.mailscheduler.infrastructure.google.gmail.GmailService;
 import com.mailscheduler.util.EmailConverter;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Implementation of EmailGateway using Gmail API.
+ * Every call is paced by a {@link QuotaRateLimiter} according to its Gmail quota cost, so concurrent
+ * senders stay within the per-user quota.
  */
 public class GmailAdapter implements EmailGateway {
     private static final Logger LOGGER = Logger.getLogger(GmailAdapter.class.getName());
 
     private final GmailService gmailService;
+    private final QuotaRateLimiter quotaLimiter;
 
     public GmailAdapter(GmailService gmailService) {
+        this(gmailService, QuotaRateLimiter.forGmail());
+    }
+
+    public GmailAdapter(GmailService gmailService, QuotaRateLimiter quotaLimiter) {
         this.gmailService = gmailService;
+        this.quotaLimiter = quotaLimiter;
     }
 
     @Override
@@ -31,6 +46,7 @@ public class GmailAdapter implements EmailGateway {
         Message message = convertEmailToMessage(email, threadId);
 
         try {
+            acquireQuota(QuotaRateLimiter.MESSAGES_SEND_UNITS);
             Message sentMessage = gmailService.sendEmail(message);
             LOGGER.info("Email sent successfully");
 
@@ -51,6 +67,7 @@ public class GmailAdapter implements EmailGateway {
         Message message = convertEmailToMessage(email, threadId);
 
         try {
+            acquireQuota(QuotaRateLimiter.DRAFTS_CREATE_UNITS);
             Draft savedDraft = gmailService.createDraft(message);
 
             // Use existing thread ID if provided, otherwise get it from the draft message
@@ -72,6 +89,7 @@ public class GmailAdapter implements EmailGateway {
         }
 
         try {
+            acquireQuota(QuotaRateLimiter.THREADS_GET_UNITS);
             return gmailService.hasReplies(threadId.value(), minimumReplyCount);
         } catch (IOException e) {
             LOGGER.log(Level.WARNING, "Error checking for replies", e);
@@ -79,6 +97,39 @@ public class GmailAdapter implements EmailGateway {
         }
     }
 
+    @Override
+    public Map<ThreadId, Integer> countThreadMessages(Collection<ThreadId> threadIds) throws IOException {
+        List<String> ids = threadIds.stream()
+                .filter(Objects::nonNull)
+                .map(ThreadId::value)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        // Every thread in a batch is billed as a separate threads.get call, so one batch must fit the bucket
+        int batchSize = Math.max(1, quotaLimiter.getCapacity() / QuotaRateLimiter.THREADS_GET_UNITS);
+        Map<String, Integer> counts = gmailService.getThreadMessageCounts(ids,
+                Math.min(batchSize, GmailService.MAX_BATCH_SIZE),
+                calls -> acquireQuota(calls * QuotaRateLimiter.THREADS_GET_UNITS));
+
+        Map<ThreadId, Integer> result = new HashMap<>();
+        counts.forEach((threadId, count) -> result.put(new ThreadId(threadId), count));
+        LOGGER.info("Checked " + result.size() + " of " + ids.size() + " threads for replies");
+        return result;
+    }
+
+    private void acquireQuota(int units) throws InterruptedIOException {
+        try {
+            quotaLimiter.acquire(units);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for Gmail quota");
+        }
+    }
+
     private Message convertEmailToMessage(Email email, ThreadId threadId) throws EmailSendException {
         try {
             return EmailConverter.convertEmailToMessage(email, threadId);
@@ -3,6 +3,7 @@ package com.mailscheduler.application.email.service;
 import com.mailscheduler.application.email.scheduling.EmailScheduler;
 import com.mailscheduler.application.email.scheduling.PlanWithTemplatesRecipientsMap;
 import com.mailscheduler.application.email.scheduling.RecipientScheduledEmailsMap;
+import com.mailscheduler.application.email.sending.EmailOutbox;
 import com.mailscheduler.domain.model.common.base.EntityId;
 import com.mailscheduler.domain.model.email.Email;
 import com.mailscheduler.domain.model.email.EmailMetadata;
@@ -16,7 +17,7 @@ import java.time.LocalDate;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for scheduling and managing emails.
@@ -27,10 +28,20 @@ public class EmailSchedulingService {
 
     private final EmailScheduler emailScheduler;
     private final EmailRepository emailRepository;
+    private final EmailOutbox emailOutbox;
 
     public EmailSchedulingService(EmailScheduler scheduler, EmailRepository emailRepository) {
+        this(scheduler, emailRepository, null);
+    }
+
+    /**
+     * @param emailOutbox when set, pending emails are claimed from the outbox so that several workers
+     *                    can send concurrently without sending an email twice
+     */
+    public EmailSchedulingService(EmailScheduler scheduler, EmailRepository emailRepository, EmailOutbox emailOutbox) {
         this.emailScheduler = scheduler;
         this.emailRepository = emailRepository;
+        this.emailOutbox = emailOutbox;
     }
 
     /**
@@ -67,25 +78,43 @@ public class EmailSchedulingService {
      * @return list of pending emails with their metadata
      */
     public List<EntityData<Email, EmailMetadata>> getPendingEmails() {
+        if (emailOutbox != null) {
+            return claimPendingEmails();
+        }
+
         try {
             LocalDate cutoff = LocalDate.now().plusDays(1);
             LOGGER.info("Finding pending emails scheduled before " + cutoff);
 
-            // Get emails scheduled for today or earlier
-            List<EntityData<Email, EmailMetadata>> pendingEmails =
-                    emailRepository.findPendingScheduledBefore(cutoff);
-
-            LOGGER.info("Found " + pendingEmails.size() + " pending emails");
-
-            // Filter out externally managed emails
-            List<EntityData<Email, EmailMetadata>> filteredEmails = filterInternalEmails(pendingEmails);
-            LOGGER.info("After filtering: " + filteredEmails.size() + " internal emails");
+            // Stream emails scheduled for today or earlier, keeping only the next email per recipient
+            Map<EntityId<Recipient>, EntityData<Email, EmailMetadata>> nextEmailByRecipient = new LinkedHashMap<>();
+            int pendingCount = 0;
+            int internalCount = 0;
+
+            try (Stream<EntityData<Email, EmailMetadata>> pendingEmails =
+                         emailRepository.streamPendingScheduledBefore(cutoff)) {
+                Iterator<EntityData<Email, EmailMetadata>> iterator = pendingEmails.iterator();
+                while (iterator.hasNext()) {
+                    EntityData<Email, EmailMetadata> email = iterator.next();
+                    pendingCount++;
+
+                    // Filter out externally managed emails
+                    if (isExternalEmail(email.entity().getType())) {
+                        continue;
+                    }
+                    internalCount++;
+
+                    EntityId<Recipient> recipientId = email.metadata().recipientId();
+                    if (recipientId != null) {
+                        nextEmailByRecipient.merge(recipientId, email, EmailSchedulingService::lowerFollowupNumber);
+                    }
+                }
+            }
 
-            // Group by recipient and get next email for each
-            Map<EntityId<Recipient>, List<EntityData<Email, EmailMetadata>>> emailsByRecipient =
-                    groupEmailsByRecipient(filteredEmails);
+            LOGGER.info("Found " + pendingCount + " pending emails");
+            LOGGER.info("After filtering: " + internalCount + " internal emails");
 
-            List<EntityData<Email, EmailMetadata>> nextEmails = selectNextEmailsToSend(emailsByRecipient);
+            List<EntityData<Email, EmailMetadata>> nextEmails = new ArrayList<>(nextEmailByRecipient.values());
             LOGGER.info("Selected " + nextEmails.size() + " emails to send (one per recipient)");
 
             return nextEmails;
@@ -96,60 +125,64 @@ public class EmailSchedulingService {
     }
 
     /**
-     * Filters out emails that are managed externally.
+     * Claims the next due emails from the outbox. The outbox applies the same rules as the unclaimed path:
+     * externally managed emails are never queued and only the lowest follow-up per recipient is claimed.
      */
-    private List<EntityData<Email, EmailMetadata>> filterInternalEmails(
-            List<EntityData<Email, EmailMetadata>> emails) {
-        return emails.stream()
-                .filter(email -> !isExternalEmail(email.entity().getType()))
-                .collect(Collectors.toList());
-    }
+    private List<EntityData<Email, EmailMetadata>> claimPendingEmails() {
+        try {
+            List<EntityId<Email>> claimedIds = emailOutbox.claim(LocalDate.now().plusDays(1));
+            if (claimedIds.isEmpty()) {
+                return List.of();
+            }
 
-    private boolean isExternalEmail(EmailType type) {
-        return EmailType.EXTERNALLY_INITIAL.equals(type) ||
-                EmailType.EXTERNALLY_FOLLOW_UP.equals(type);
+            Map<EntityId<Email>, EntityData<Email, EmailMetadata>> emailsById =
+                    emailRepository.findAllByIdsWithMetadata(claimedIds);
+            List<EntityData<Email, EmailMetadata>> claimedEmails = new ArrayList<>(claimedIds.size());
+            for (EntityId<Email> emailId : claimedIds) {
+                EntityData<Email, EmailMetadata> email = emailsById.get(emailId);
+                if (email != null) {
+                    claimedEmails.add(email);
+                }
+            }
+
+            LOGGER.info("Selected " + claimedEmails.size() + " emails to send from the outbox");
+            return claimedEmails;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error claiming pending emails", e);
+            return List.of();
+        }
     }
 
     /**
-     * Groups emails by recipient ID.
+     * Releases claimed emails after they have been processed, so that emails which are still pending
+     * (for example skipped ones) can be claimed again without waiting for their leases to expire.
+     *
+     * @param emailIds The IDs of the processed emails
      */
-    private Map<EntityId<Recipient>, List<EntityData<Email, EmailMetadata>>> groupEmailsByRecipient(
-            List<EntityData<Email, EmailMetadata>> emails) {
-
-        Map<EntityId<Recipient>, List<EntityData<Email, EmailMetadata>>> result = new HashMap<>();
-
-        for (EntityData<Email, EmailMetadata> email : emails) {
-            EntityId<Recipient> recipientId = email.metadata().recipientId();
-            if (recipientId != null) {
-                result.computeIfAbsent(recipientId, k -> new ArrayList<>()).add(email);
-            }
+    public void releaseClaimedEmails(Collection<EntityId<Email>> emailIds) {
+        if (emailOutbox == null || emailIds.isEmpty()) {
+            return;
         }
 
-        // Sort each recipient's emails by follow-up number
-        for (List<EntityData<Email, EmailMetadata>> recipientEmails : result.values()) {
-            recipientEmails.sort(Comparator.comparing(email -> email.metadata().followupNumber()));
+        try {
+            emailOutbox.release(emailIds);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to release claimed emails; their leases will expire", e);
         }
+    }
 
-        return result;
+    private boolean isExternalEmail(EmailType type) {
+        return EmailType.EXTERNALLY_INITIAL.equals(type) ||
+                EmailType.EXTERNALLY_FOLLOW_UP.equals(type);
     }
 
     /**
-     * Selects the next email to send for each recipient.
-     * For each recipient, we take the email with the lowest follow-up number.
+     * Selects the email with the lower follow-up number, preferring the first one on ties.
      */
-    private List<EntityData<Email, EmailMetadata>> selectNextEmailsToSend(
-            Map<EntityId<Recipient>, List<EntityData<Email, EmailMetadata>>> emailsByRecipient) {
-
-        List<EntityData<Email, EmailMetadata>> result = new ArrayList<>();
-
-        // For each recipient, take the first email (lowest follow-up number)
-        for (List<EntityData<Email, EmailMetadata>> recipientEmails : emailsByRecipient.values()) {
-            if (!recipientEmails.isEmpty()) {
-                result.add(recipientEmails.get(0));
-            }
-        }
-
-        return result;
+    private static EntityData<Email, EmailMetadata> lowerFollowupNumber(
+            EntityData<Email, EmailMetadata> current,
+            EntityData<Email, EmailMetadata> candidate) {
+        return candidate.metadata().followupNumber() < current.metadata().followupNumber() ? candidate : current;
     }
 
     /**
@@ -2,11 +2,16 @@ package com.mailscheduler.application.email.service;
 
 import com.mailscheduler.application.email.sending.*;
 import com.mailscheduler.application.email.sending.gateway.EmailGateway;
+import com.mailscheduler.domain.model.common.vo.ThreadId;
 import com.mailscheduler.domain.model.email.EmailMetadata;
 import com.mailscheduler.domain.model.email.EmailStatus;
 import com.mailscheduler.domain.repository.EmailRepository;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,10 +24,17 @@ public class EmailSendingService {
 
     private final EmailGateway emailGateway;
     private final EmailRepository emailRepository;
+    private final ConcurrentSendExecutor sendExecutor;
 
     public EmailSendingService(EmailGateway emailGateway, EmailRepository emailRepository) {
+        this(emailGateway, emailRepository, ConcurrentSendExecutor.sequential());
+    }
+
+    public EmailSendingService(EmailGateway emailGateway, EmailRepository emailRepository,
+                               ConcurrentSendExecutor sendExecutor) {
         this.emailGateway = emailGateway;
         this.emailRepository = emailRepository;
+        this.sendExecutor = sendExecutor;
     }
 
     /**
@@ -34,6 +46,16 @@ public class EmailSendingService {
      * @throws IllegalArgumentException If the request is invalid
      */
     public EmailSendingResult send(EmailSendRequest request, boolean saveAsDraft) {
+        EmailSendingResult result = attemptSend(request, saveAsDraft, Map.of());
+        recordOutcome(result);
+        return result;
+    }
+
+    /**
+     * Checks for replies and hands the email to the gateway, without touching the repository.
+     */
+    private EmailSendingResult attemptSend(EmailSendRequest request, boolean saveAsDraft,
+                                           Map<ThreadId, Integer> threadMessageCounts) {
         validateRequest(request);
 
         try {
@@ -41,7 +63,7 @@ public class EmailSendingService {
                     request.metadata().recipientId(), request.followUpNumber()));
 
             // Check if recipient has already replied (for follow-ups only)
-            if (shouldSkipDueToReplies(request)) {
+            if (shouldSkipDueToReplies(request, threadMessageCounts)) {
                 LOGGER.info("Skipping follow-up email due to detected replies from recipient "
                         + request.metadata().recipientId());
 
@@ -59,9 +81,6 @@ public class EmailSendingService {
 
             SendResult result = sendOrSaveDraft(request, saveAsDraft);
 
-            // Update email status based on result
-            updateEmailStatus(request, result);
-
             return new EmailSendingResult(
                     request.metadata().recipientId(),
                     false,
@@ -71,10 +90,8 @@ public class EmailSendingService {
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sending email: " + e.getMessage(), e);
 
-            handleSendingFailure(request, e);
-
             // Return failure result
-            SendResult failResult = new SendResult(SendStatus.FAILURE, null, e.getMessage());
+            SendResult failResult = new SendResult(SendStatus.FAILURE, null, "Exception: " + e.getMessage());
             return new EmailSendingResult(
                     request.metadata().recipientId(),
                     false,
@@ -96,17 +113,37 @@ public class EmailSendingService {
             return new EmailSendingResult[0];
         }
 
-        EmailSendingResult[] results = new EmailSendingResult[requests.length];
-        for (int i = 0; i < requests.length; i++) {
-            try {
-                results[i] = send(requests[i], saveAsDraft);
-            } catch (Exception e) {
-                LOGGER.log(Level.SEVERE, "Error processing batch email #" + i, e);
-                results[i] = createFailureResult(requests[i], e.getMessage());
-            }
+        return sendAll(Arrays.asList(requests), saveAsDraft).toArray(new EmailSendingResult[0]);
+    }
+
+    /**
+     * Sends all emails concurrently on the configured send executor.
+     * Replies to follow-ups are checked up front for all threads at once; the send loop only falls back to
+     * checking a single thread if its message count could not be fetched. The workers only talk to the
+     * gateway; each status is stored on the calling thread as soon as its request has returned, so emails
+     * delivered before a crash are not claimed and sent again.
+     *
+     * @param requests The requests to process
+     * @param saveAsDraft Whether to save as drafts
+     * @return Results in the same order as the requests
+     */
+    public List<EmailSendingResult> sendAll(List<EmailSendRequest> requests, boolean saveAsDraft) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
         }
 
-        return results;
+        Map<ThreadId, Integer> threadMessageCounts = prefetchThreadMessageCounts(requests);
+
+        return sendExecutor.executeAll(
+                requests,
+                request -> attemptSend(request, saveAsDraft, threadMessageCounts),
+                (request, error) -> {
+                    LOGGER.log(Level.SEVERE, "Error processing email for recipient "
+                            + (request.metadata() != null ? request.metadata().recipientId() : null), error);
+                    return createFailureResult(request, error.getMessage());
+                },
+                this::recordOutcome
+        );
     }
 
     /**
@@ -144,12 +181,40 @@ public class EmailSendingService {
         }
     }
 
-    private boolean shouldSkipDueToReplies(EmailSendRequest request) {
+    /**
+     * Fetches the message counts of all threads that pending follow-ups will be sent to.
+     */
+    private Map<ThreadId, Integer> prefetchThreadMessageCounts(List<EmailSendRequest> requests) {
+        List<ThreadId> threadIds = requests.stream()
+                .filter(Objects::nonNull)
+                .filter(request -> request.followUpNumber() > 0 && request.threadId() != null)
+                .map(EmailSendRequest::threadId)
+                .distinct()
+                .toList();
+        if (threadIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return emailGateway.countThreadMessages(threadIds);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Batched reply check failed, checking threads individually: " + e.getMessage(), e);
+            return Map.of();
+        }
+    }
+
+    private boolean shouldSkipDueToReplies(EmailSendRequest request, Map<ThreadId, Integer> threadMessageCounts) {
         // Only check for replies on follow-up emails
         if (request.followUpNumber() <= 0 || request.threadId() == null) {
             return false;
         }
 
+        // Same rule as EmailGateway.hasReplies(threadId, followUpNumber + 1)
+        Integer messageCount = threadMessageCounts.get(request.threadId());
+        if (messageCount != null) {
+            return messageCount > request.followUpNumber() + 1;
+        }
+
         try {
             return emailGateway.hasReplies(request.threadId(), request.followUpNumber() + 1);
         } catch (Exception e) {
@@ -171,9 +236,26 @@ public class EmailSendingService {
         }
     }
 
-    private void updateEmailStatus(EmailSendRequest request, SendResult result) {
-        if (result == null || request == null) return;
+    /**
+     * Stores the status of an email after the gateway returned. A failure is only logged, since the
+     * email may already have been sent.
+     */
+    private void recordOutcome(EmailSendingResult result) {
+        EmailSendRequest request = result.sendRequest();
+        if (result.hasReplied() || result.sendResult() == null || request == null
+                || request.email() == null || request.metadata() == null) {
+            return;
+        }
+
+        try {
+            updateEmailStatus(request, result.sendResult());
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to update status of email for recipient "
+                    + request.metadata().recipientId(), e);
+        }
+    }
 
+    private void updateEmailStatus(EmailSendRequest request, SendResult result) {
         switch (result.status()) {
             case SUCCESS -> {
                 EmailMetadata updatedMetadata = new EmailMetadata.Builder()
@@ -197,21 +279,6 @@ public class EmailSendingService {
         }
     }
 
-    private void handleSendingFailure(EmailSendRequest request, Exception exception) {
-        EmailMetadata failedMetadata = new EmailMetadata.Builder()
-                .from(request.metadata())
-                .status(EmailStatus.FAILED)
-                .failureReason("Exception: " + exception.getMessage())
-                .build();
-
-        try {
-            emailRepository.updateWithMetadata(request.email(), failedMetadata);
-        } catch (Exception e) {
-            // If updating the repository fails too, just log it
-            LOGGER.log(Level.SEVERE, "Failed to update email status after sending error", e);
-        }
-    }
-
     private EmailSendingResult createFailureResult(EmailSendRequest request, String errorMessage) {
         SendResult failResult = SendResult.failed(errorMessage);
         return new EmailSendingResult(
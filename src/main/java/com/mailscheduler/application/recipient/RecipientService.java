@@ -18,6 +18,7 @@ import com.mailscheduler.domain.model.common.vo.ThreadId;
 import com.mailscheduler.domain.repository.ContactRepository;
 import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.domain.repository.RecipientRepository;
+import com.mailscheduler.util.LongIntHashMap;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -25,6 +26,7 @@ import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service responsible for managing recipients and their interactions with contacts.
@@ -117,8 +119,17 @@ public class RecipientService {
             Map<Integer, List<EntityData<Email, EmailMetadata>>> rowsToScheduledEmails = new HashMap<>();
             var emailMap = scheduledEmailsMap.map();
 
-            for (var recipientData : recipients) {
-                mapRecipientToRow(recipientData, emailMap, rowsToScheduledEmails);
+            List<EntityId<Recipient>> recipientIds = recipients.stream()
+                    .map(recipientData -> recipientData.entity().getId())
+                    .filter(id -> hasScheduledEmails(emailMap, id))
+                    .toList();
+            LongIntHashMap rowsByRecipientId = recipientRepository.findSpreadsheetRowsByRecipientIds(recipientIds);
+
+            for (EntityId<Recipient> recipientId : recipientIds) {
+                int rowNumber = rowsByRecipientId.getOrDefault(recipientId.value(), -1);
+                if (rowNumber != -1) {
+                    rowsToScheduledEmails.put(rowNumber, emailMap.get(recipientId));
+                }
             }
 
             LOGGER.info("Mapped " + rowsToScheduledEmails.size() + " rows to scheduled emails");
@@ -142,14 +153,34 @@ public class RecipientService {
             return Collections.emptyMap();
         }
 
-        Map<EntityId<Recipient>, Integer> recipientIdToRowMap = new HashMap<>();
+        try {
+            LongIntHashMap rowsByRecipientId = recipientRepository.findSpreadsheetRowsByRecipientIds(recipientIds);
+            Map<EntityId<Recipient>, Integer> recipientIdToRowMap = new HashMap<>();
+
+            for (var recipientId : recipientIds) {
+                if (recipientId != null && rowsByRecipientId.containsKey(recipientId.value())) {
+                    recipientIdToRowMap.put(recipientId, rowsByRecipientId.getOrDefault(recipientId.value(), -1));
+                }
+            }
 
-        for (var recipientId : recipientIds) {
-            findRowForRecipient(recipientId)
-                    .ifPresent(row -> recipientIdToRowMap.put(recipientId, row));
+            return recipientIdToRowMap;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error mapping recipient IDs to rows", e);
+            return Collections.emptyMap();
         }
+    }
+
+    /**
+     * Retrieves several recipients by ID with metadata in one lookup.
+     *
+     * @param ids The IDs of the recipients to retrieve
+     * @return Map of the found recipient IDs to their recipients with metadata
+     */
+    public Map<EntityId<Recipient>, EntityData<Recipient, RecipientMetadata>> getRecipients(
+            Collection<EntityId<Recipient>> ids) {
+        Objects.requireNonNull(ids, "Recipient IDs cannot be null");
 
-        return recipientIdToRowMap;
+        return recipientRepository.findAllByIdsWithMetadata(ids);
     }
 
     /**
@@ -324,9 +355,11 @@ public class RecipientService {
         Set<Integer> qualifyingRows = identifyQualifyingRows(data, DEFAULT_STARTING_ROW);
 
         // Find contacts that fulfill sending criterion
-        List<EntityData<Contact, NoMetadata>> allContacts = contactRepository.findAllWithMetadata();
-        List<Contact> qualifyingContacts = filterContactsMatchingCriteria(
-                allContacts, sheetConfig.title(), qualifyingRows);
+        List<Contact> qualifyingContacts;
+        try (Stream<EntityData<Contact, NoMetadata>> sheetContacts =
+                     contactRepository.streamBySheetTitle(sheetConfig.title())) {
+            qualifyingContacts = filterContactsMatchingCriteria(sheetContacts, qualifyingRows);
+        }
 
         // Find and update eligible recipients
         return findAndUpdateEligibleRecipients(qualifyingContacts);
@@ -352,13 +385,11 @@ public class RecipientService {
     }
 
     private List<Contact> filterContactsMatchingCriteria(
-            List<EntityData<Contact, NoMetadata>> contacts,
-            String sheetTitle,
+            Stream<EntityData<Contact, NoMetadata>> sheetContacts,
             Set<Integer> qualifyingRows) {
 
-        return contacts.stream()
+        return sheetContacts
                 .map(EntityData::entity)
-                .filter(contact -> sheetTitle.equals(contact.getSheetTitle()))
                 .filter(contact -> {
                     int rowNumber = contact.getSpreadsheetRow().extractRowNumber();
                     return qualifyingRows.contains(rowNumber);
@@ -400,44 +431,10 @@ public class RecipientService {
         return recipient.getInitialContactDate() == null && !recipient.hasReplied();
     }
 
-    private void mapRecipientToRow(
-            EntityData<Recipient, RecipientMetadata> recipientData,
+    private boolean hasScheduledEmails(
             Map<EntityId<Recipient>, List<EntityData<Email, EmailMetadata>>> emailMap,
-            Map<Integer, List<EntityData<Email, EmailMetadata>>> rowsToScheduledEmails) {
-
-        List<EntityData<Email, EmailMetadata>> scheduledEmails =
-                emailMap.get(recipientData.entity().getId());
-
-        if (scheduledEmails == null || scheduledEmails.isEmpty()) {
-            return;
-        }
-
-        findRowForRecipient(recipientData.entity().getId()).ifPresent(
-                rowNumber -> rowsToScheduledEmails.put(rowNumber, scheduledEmails)
-        );
-    }
-
-    private Optional<Integer> findRowForRecipient(EntityId<Recipient> recipientId) {
-        try {
-            Optional<EntityData<Recipient, RecipientMetadata>> recipientOpt =
-                    recipientRepository.findByIdWithMetadata(recipientId);
-
-            if (recipientOpt.isEmpty()) {
-                return Optional.empty();
-            }
-
-            EntityId<Contact> contactId = recipientOpt.get().metadata().contactId();
-            Optional<EntityData<Contact, NoMetadata>> contactOpt =
-                    contactRepository.findByIdWithMetadata(contactId);
-
-            if (contactOpt.isEmpty()) {
-                return Optional.empty();
-            }
-
-            return Optional.of(contactOpt.get().entity().getSpreadsheetRow().extractRowNumber());
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error finding row for recipient " + recipientId, e);
-            return Optional.empty();
-        }
+            EntityId<Recipient> recipientId) {
+        List<EntityData<Email, EmailMetadata>> scheduledEmails = emailMap.get(recipientId);
+        return scheduledEmails != null && !scheduledEmails.isEmpty();
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import com.mailscheduler.domain.repository.TemplateRepository;
 import com.mailscheduler.infrastructure.service.FollowUpManagementService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -146,9 +147,16 @@ public class PlanService {
 
             PlanWithTemplate plan = new PlanWithTemplate();
 
+            // Load the templates of all steps at once
+            List<EntityId<Template>> templateIds = followUpStepsData.stream()
+                    .map(stepData -> stepData.metadata().templateId())
+                    .toList();
+            Map<EntityId<Template>, EntityData<Template, TemplateMetadata>> templatesById =
+                    templateRepository.findAllByIdsWithMetadata(templateIds);
+
             // Add each step to the plan with its template
             for (var stepData : followUpStepsData) {
-                addStepToTemplate(plan, stepData);
+                addStepToTemplate(plan, stepData, templatesById);
             }
 
             LOGGER.info("Created plan with " + plan.getStepsWithTemplates().size() +
@@ -200,13 +208,14 @@ public class PlanService {
 
     private void addStepToTemplate(
             PlanWithTemplate plan,
-            EntityData<FollowUpStep, FollowUpStepMetadata> stepData) {
+            EntityData<FollowUpStep, FollowUpStepMetadata> stepData,
+            Map<EntityId<Template>, EntityData<Template, TemplateMetadata>> templatesById) {
 
-        Optional<EntityData<Template, TemplateMetadata>> templateOpt =
-                templateRepository.findByIdWithMetadata(stepData.metadata().templateId());
+        EntityId<Template> templateId = stepData.metadata().templateId();
+        EntityData<Template, TemplateMetadata> template = templateId != null ? templatesById.get(templateId) : null;
 
-        if (templateOpt.isPresent()) {
-            plan.addStep(new PlanStepWithTemplate(stepData.entity(), templateOpt.get().entity()));
+        if (template != null) {
+            plan.addStep(new PlanStepWithTemplate(stepData.entity(), template.entity()));
             LOGGER.fine("Added step " + stepData.entity().getStepNumber() + " to plan");
         } else {
             LOGGER.warning("Template not found for step " + stepData.entity().getStepNumber() +
@@ -0,0 +1,224 @@
+package com.mailscheduler.application.synchronization;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs synchronization stages concurrently as far as their dependencies allow.
+ * <p>
+ *     Stages are added with the names of the stages they depend on, which must have been added before, so
+ *     the stages always form a directed acyclic graph. A stage starts once all its dependencies have
+ *     finished; stages without a path between them run at the same time. A required dependency must have
+ *     succeeded, otherwise the stage is skipped. An ordering-only dependency just has to finish first, for
+ *     stages that can work with stale or missing results. Every stage is timed, and failures are recorded
+ *     in the report instead of being thrown.
+ * </p>
+ */
+public class SyncStageExecutor {
+    private static final Logger LOGGER = Logger.getLogger(SyncStageExecutor.class.getName());
+
+    private final int parallelism;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+
+    /**
+     * Work of one stage.
+     */
+    @FunctionalInterface
+    public interface StageTask {
+        /**
+         * @return true if the stage succeeded
+         * @throws Exception if the stage failed
+         */
+        boolean run() throws Exception;
+    }
+
+    public enum StageStatus {
+        SUCCEEDED,
+        FAILED,
+        /**
+         * Not run because a required dependency did not succeed.
+         */
+        SKIPPED
+    }
+
+    /**
+     * Outcome of one stage.
+     *
+     * @param name the stage name
+     * @param status whether the stage succeeded
+     * @param elapsed time from the start to the end of the stage
+     * @param error the exception the stage threw, or null
+     */
+    public record StageResult(String name, StageStatus status, Duration elapsed, Throwable error) {
+        public boolean succeeded() {
+            return status == StageStatus.SUCCEEDED;
+        }
+    }
+
+    /**
+     * Outcome of all stages.
+     *
+     * @param stages the stage results, in the order the stages were added
+     * @param elapsed wall time of the whole run
+     */
+    public record Report(List<StageResult> stages, Duration elapsed) {
+        public boolean succeeded() {
+            return stages.stream().allMatch(StageResult::succeeded);
+        }
+
+        public StageResult stage(String name) {
+            return stages.stream()
+                    .filter(result -> result.name().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown stage: " + name));
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder summary = new StringBuilder("total " + elapsed.toMillis() + " ms");
+            for (StageResult stage : stages) {
+                summary.append(", ").append(stage.name()).append(' ').append(stage.status())
+                        .append(" in ").append(stage.elapsed().toMillis()).append(" ms");
+            }
+            return summary.toString();
+        }
+    }
+
+    private record Stage(String name, StageTask task, List<String> required, List<String> after) {
+        List<String> dependencies() {
+            List<String> dependencies = new ArrayList<>(required);
+            dependencies.addAll(after);
+            return dependencies;
+        }
+    }
+
+    /**
+     * @param parallelism The maximum number of stages running at the same time, at least one
+     */
+    public SyncStageExecutor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Adds a stage that only runs if all its dependencies succeeded.
+     *
+     * @param name A unique name of the stage
+     * @param task The work of the stage
+     * @param required Names of previously added stages that must succeed before this one starts
+     * @return this executor
+     * @throws IllegalArgumentException if the name is taken or a dependency is unknown
+     */
+    public SyncStageExecutor addStage(String name, StageTask task, String... required) {
+        return addStage(name, task, List.of(required), List.of());
+    }
+
+    /**
+     * Adds a stage with required and ordering-only dependencies.
+     *
+     * @param name A unique name of the stage
+     * @param task The work of the stage
+     * @param required Names of previously added stages that must succeed before this one starts
+     * @param after Names of previously added stages that must finish, successfully or not, before this one starts
+     * @return this executor
+     * @throws IllegalArgumentException if the name is taken or a dependency is unknown
+     */
+    public SyncStageExecutor addStage(String name, StageTask task, List<String> required, List<String> after) {
+        Objects.requireNonNull(name, "Stage name cannot be null");
+        Objects.requireNonNull(task, "Stage task cannot be null");
+        if (stages.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate stage: " + name);
+        }
+        Stage stage = new Stage(name, task, List.copyOf(required), List.copyOf(after));
+        for (String dependency : stage.dependencies()) {
+            if (!stages.containsKey(dependency)) {
+                throw new IllegalArgumentException("Stage " + name + " depends on unknown stage: " + dependency);
+            }
+        }
+        stages.put(name, stage);
+        return this;
+    }
+
+    /**
+     * Runs all stages and waits until they have finished.
+     *
+     * @return the result and duration of every stage
+     */
+    public Report run() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(parallelism, stages.size())), namedDaemonThreads("sync-stage"));
+        try {
+            Map<String, CompletableFuture<StageResult>> futures = new LinkedHashMap<>();
+            for (Stage stage : stages.values()) {
+                CompletableFuture<?>[] dependencies = stage.dependencies().stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                List<CompletableFuture<StageResult>> required = stage.required().stream()
+                        .map(futures::get)
+                        .toList();
+                // Stage results never complete exceptionally, so every stage gets a result
+                futures.put(stage.name(), CompletableFuture.allOf(dependencies)
+                        .thenApplyAsync(ignored -> runOrSkip(stage, required), executor));
+            }
+
+            List<StageResult> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<StageResult> future : futures.values()) {
+                results.add(future.join());
+            }
+
+            Report report = new Report(List.copyOf(results), Duration.ofNanos(System.nanoTime() - start));
+            LOGGER.info("Synchronization stages: " + report);
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StageResult runOrSkip(Stage stage, List<CompletableFuture<StageResult>> required) {
+        for (CompletableFuture<StageResult> dependency : required) {
+            StageResult result = dependency.join();
+            if (!result.succeeded()) {
+                LOGGER.warning("Skipping stage " + stage.name() + " because " + result.name() + " "
+                        + result.status());
+                return new StageResult(stage.name(), StageStatus.SKIPPED, Duration.ZERO, null);
+            }
+        }
+        return runStage(stage);
+    }
+
+    private StageResult runStage(Stage stage) {
+        LOGGER.fine(() -> "Starting stage " + stage.name());
+        long start = System.nanoTime();
+        try {
+            boolean succeeded = stage.task().run();
+            return new StageResult(stage.name(), succeeded ? StageStatus.SUCCEEDED : StageStatus.FAILED,
+                    Duration.ofNanos(System.nanoTime() - start), null);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Stage " + stage.name() + " failed", e);
+            return new StageResult(stage.name(), StageStatus.FAILED, Duration.ofNanos(System.nanoTime() - start), e);
+        }
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
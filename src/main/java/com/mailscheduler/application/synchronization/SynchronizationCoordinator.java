@@ -4,6 +4,7 @@ import com.mailscheduler.application.synchronization.spreadsheet.SpreadsheetSync
 import com.mailscheduler.application.synchronization.template.TemplateSyncStrategy;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetConfiguration;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,6 +16,16 @@ import java.util.logging.Logger;
 public class SynchronizationCoordinator {
     private static final Logger LOGGER = Logger.getLogger(SynchronizationCoordinator.class.getName());
 
+    private static final String TEMPLATES_STAGE = "templates";
+    private static final String PREFETCH_STAGE = "sheet-prefetch";
+    private static final String CONFIG_STAGE = "config";
+    private static final String CONTACTS_STAGE = "contacts";
+    private static final String EMAILS_STAGE = "emails";
+    /**
+     * The widest level of the stage graph: templates next to the sheet prefetch.
+     */
+    private static final int MAX_CONCURRENT_STAGES = 2;
+
     private final SpreadsheetSynchronizationService spreadsheetSyncService;
     private final TemplateSyncStrategy templateSyncStrategy;
     private final SpreadsheetConfiguration spreadsheetConfig;
@@ -32,32 +43,39 @@ public class SynchronizationCoordinator {
     /**
      * Synchronizes all components of the system.
      * This includes Gmail templates and Google Sheets data.
+     * <p>
+     *     The work runs as stages: templates, then the Configuration sheet (its follow-up plans reference
+     *     the synchronized templates), then contacts and recipients, then emails. Reading the prospect sheets
+     *     depends on none of these and overlaps with the template synchronization. Contacts are skipped if the
+     *     Configuration sheet failed, emails if contacts failed.
+     * </p>
      *
      * @return true if synchronization was successful, false otherwise
      */
     public boolean synchronizeAll() {
         LOGGER.info("Starting full system synchronization");
-        boolean templateSyncSuccess = false;
-        boolean spreadsheetSyncSuccess = false;
 
-        try {
-            // Synchronize Gmail templates
-            templateSyncSuccess = templateSyncStrategy.synchronize();
-            LOGGER.info("Template synchronization " + (templateSyncSuccess ? "succeeded" : "failed"));
+        SyncStageExecutor.Report report = new SyncStageExecutor(MAX_CONCURRENT_STAGES)
+                .addStage(TEMPLATES_STAGE, templateSyncStrategy::synchronize)
+                .addStage(PREFETCH_STAGE, () -> spreadsheetSyncService.prefetchSheets(spreadsheetConfig))
+                // Without fresh templates the follow-up plans keep their previous links, as before
+                .addStage(CONFIG_STAGE, () -> spreadsheetSyncService.synchronizeConfigSheet(spreadsheetConfig),
+                        List.of(), List.of(TEMPLATES_STAGE))
+                // A failed prefetch only means the sheets are read again
+                .addStage(CONTACTS_STAGE, () -> spreadsheetSyncService.synchronizeContactsAndRecipients(spreadsheetConfig),
+                        List.of(CONFIG_STAGE), List.of(PREFETCH_STAGE))
+                .addStage(EMAILS_STAGE, () -> spreadsheetSyncService.synchronizeEmails(spreadsheetConfig),
+                        CONTACTS_STAGE)
+                .run();
 
-            // Synchronize spreadsheet data
-            spreadsheetSyncService.performFullSync(spreadsheetConfig);
-            spreadsheetSyncSuccess = true;
-            LOGGER.info("Spreadsheet synchronization succeeded");
-            return templateSyncSuccess && spreadsheetSyncSuccess;
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Synchronization failed with exception", e);
-            return false;
-        } finally {
-            LOGGER.info("Synchronization completed - Templates: " +
-                    (templateSyncSuccess ? "Success" : "Failed") +
-                    ", Spreadsheet: " + (spreadsheetSyncSuccess ? "Success" : "Failed"));
-        }
+        boolean templateSyncSuccess = report.stage(TEMPLATES_STAGE).succeeded();
+        boolean spreadsheetSyncSuccess = report.stage(CONFIG_STAGE).succeeded()
+                && report.stage(CONTACTS_STAGE).succeeded()
+                && report.stage(EMAILS_STAGE).succeeded();
+        LOGGER.info("Synchronization completed - Templates: " +
+                (templateSyncSuccess ? "Success" : "Failed") +
+                ", Spreadsheet: " + (spreadsheetSyncSuccess ? "Success" : "Failed"));
+        return templateSyncSuccess && spreadsheetSyncSuccess;
     }
 
     /**
@@ -7,10 +7,12 @@ import com.mailscheduler.application.synchronization.spreadsheet.strategies.Cont
 import com.mailscheduler.application.synchronization.spreadsheet.strategies.EmailSyncStrategy;
 import com.mailscheduler.application.synchronization.spreadsheet.strategies.SpreadsheetSynchronizationStrategy;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetConfiguration;
+import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
 import com.mailscheduler.domain.repository.*;
+import com.mailscheduler.infrastructure.persistence.database.TransactionTemplate;
 import com.mailscheduler.infrastructure.service.FollowUpManagementService;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.logging.Level;
@@ -23,7 +25,10 @@ import java.util.logging.Logger;
 public class SpreadsheetSynchronizationService {
     private static final Logger LOGGER = Logger.getLogger(SpreadsheetSynchronizationService.class.getName());
 
-    private final List<SpreadsheetSynchronizationStrategy> synchronizationStrategies;
+    private final SpreadsheetGateway spreadsheetGateway;
+    private final ConfigSheetSyncStrategy configStrategy;
+    private final ContactRecipientSyncStrategy contactRecipientStrategy;
+    private final EmailSyncStrategy emailStrategy;
 
     public SpreadsheetSynchronizationService(
             SpreadsheetGateway spreadsheetGateway,
@@ -32,7 +37,10 @@ public class SpreadsheetSynchronizationService {
             EmailRepository emailRepository,
             ConfigurationRepository configurationRepository,
             TemplateRepository templateRepository,
-            FollowUpManagementService followUpManagementService
+            FollowUpManagementService followUpManagementService,
+            TransactionTemplate transactionTemplate,
+            RowFingerprintRepository rowFingerprintRepository,
+            int sheetParallelism
     ) {
         Objects.requireNonNull(spreadsheetGateway, "SpreadsheetGateway cannot be null");
         Objects.requireNonNull(contactRepository, "ContactRepository cannot be null");
@@ -41,54 +49,34 @@ public class SpreadsheetSynchronizationService {
         Objects.requireNonNull(configurationRepository, "ConfigurationRepository cannot be null");
         Objects.requireNonNull(templateRepository, "TemplateRepository cannot be null");
         Objects.requireNonNull(followUpManagementService, "FollowUpManagementService cannot be null");
+        Objects.requireNonNull(transactionTemplate, "TransactionTemplate cannot be null");
+        Objects.requireNonNull(rowFingerprintRepository, "RowFingerprintRepository cannot be null");
 
+        this.spreadsheetGateway = spreadsheetGateway;
         ColumnMappingService mappingService = new ColumnMappingService(configurationRepository);
 
-        this.synchronizationStrategies = initializeSynchronizationStrategies(
-                spreadsheetGateway,
-                contactRepository,
-                recipientRepository,
-                emailRepository,
-                configurationRepository,
-                templateRepository,
-                followUpManagementService,
-                mappingService
-        );
-    }
-
-    /**
-     * Initializes all synchronization strategies needed by this service.
-     */
-    private List<SpreadsheetSynchronizationStrategy> initializeSynchronizationStrategies(
-            SpreadsheetGateway spreadsheetGateway,
-            ContactRepository contactRepository,
-            RecipientRepository recipientRepository,
-            EmailRepository emailRepository,
-            ConfigurationRepository configurationRepository,
-            TemplateRepository templateRepository,
-            FollowUpManagementService followUpManagementService,
-            ColumnMappingService mappingService
-    ) {
-        List<SpreadsheetSynchronizationStrategy> strategies = new ArrayList<>();
-
-        // Config sheet strategy must be first since it sets up configuration for others
-        strategies.add(new ConfigSheetSyncStrategy(
-                spreadsheetGateway, configurationRepository, templateRepository, followUpManagementService));
-
-        strategies.add(new ContactRecipientSyncStrategy(
-                spreadsheetGateway, contactRepository, recipientRepository, mappingService));
+        this.configStrategy = new ConfigSheetSyncStrategy(
+                spreadsheetGateway, configurationRepository, templateRepository, followUpManagementService);
 
-        strategies.add(new EmailSyncStrategy(
-                spreadsheetGateway, emailRepository, recipientRepository, mappingService));
+        // Prospect sheets are independent, so their Sheets reads can overlap; writes stay serialized
+        this.contactRecipientStrategy = new ContactRecipientSyncStrategy(
+                spreadsheetGateway, contactRepository, recipientRepository, mappingService, transactionTemplate,
+                rowFingerprintRepository);
+        contactRecipientStrategy.setSheetParallelism(sheetParallelism);
 
-        return strategies;
+        this.emailStrategy = new EmailSyncStrategy(
+                spreadsheetGateway, emailRepository, recipientRepository, mappingService);
+        emailStrategy.setSheetParallelism(sheetParallelism);
     }
 
     /**
-     * Performs a full synchronization using all registered strategies.
+     * Performs a full synchronization: the Configuration sheet first, since it sets up the column mappings
+     * the other strategies read, then contacts and recipients, then emails. Stops at the first strategy that
+     * fails.
      *
      * @param configuration The spreadsheet configuration
      * @throws IllegalArgumentException if configuration is invalid
+     * @throws SynchronizationException if a strategy fails
      */
     public void performFullSync(SpreadsheetConfiguration configuration) {
         LOGGER.info("Starting full synchronization");
@@ -97,26 +85,87 @@ public class SpreadsheetSynchronizationService {
             throw new IllegalArgumentException("SpreadsheetConfiguration cannot be null");
         }
 
-        try {
-            // Always run config sheet sync first and sequentially
-            SpreadsheetSynchronizationStrategy configStrategy = synchronizationStrategies.get(0);
-            configStrategy.synchronize(configuration);
+        for (SpreadsheetSynchronizationStrategy strategy : List.of(configStrategy, contactRecipientStrategy, emailStrategy)) {
+            if (!runStrategy(strategy, configuration)) {
+                throw new SynchronizationException("Full synchronization failed at " + strategy.getStrategyName(), null);
+            }
+        }
+
+        LOGGER.info("Full synchronization completed successfully");
+    }
 
-            runStrategies(configuration);
+    /**
+     * Synchronizes the Configuration sheet, which the other strategies read their column mappings from.
+     *
+     * @param configuration The spreadsheet configuration
+     * @return true if the synchronization completed
+     */
+    public boolean synchronizeConfigSheet(SpreadsheetConfiguration configuration) {
+        return runStrategy(configStrategy, configuration);
+    }
 
-            LOGGER.info("Full synchronization completed successfully");
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error during full synchronization", e);
-            throw new SynchronizationException("Full synchronization failed", e);
+    /**
+     * Synchronizes contacts and recipients from the prospect sheets. Requires a synchronized Configuration sheet.
+     *
+     * @param configuration The spreadsheet configuration
+     * @return true if the synchronization completed
+     */
+    public boolean synchronizeContactsAndRecipients(SpreadsheetConfiguration configuration) {
+        return runStrategy(contactRecipientStrategy, configuration);
+    }
+
+    /**
+     * Synchronizes the emails of the prospect sheets. Requires synchronized recipients to link emails to.
+     *
+     * @param configuration The spreadsheet configuration
+     * @return true if the synchronization completed
+     */
+    public boolean synchronizeEmails(SpreadsheetConfiguration configuration) {
+        return runStrategy(emailStrategy, configuration);
+    }
+
+    /**
+     * Reads one cell of every sheet the contact and email strategies process, in a single batch request.
+     * <p>
+     *     Behind a caching gateway this loads the whole sheets, so the later strategies read from memory.
+     *     Needs no configuration from the database and can therefore run before the Configuration sheet is
+     *     synchronized. A failure only loses the head start.
+     * </p>
+     *
+     * @param configuration The spreadsheet configuration
+     * @return true if the sheets were read
+     */
+    public boolean prefetchSheets(SpreadsheetConfiguration configuration) {
+        List<SpreadsheetReference> references = configuration.sheetConfigurations().stream()
+                .filter(sheet -> contactRecipientStrategy.shouldProcessSheet(sheet)
+                        || emailStrategy.shouldProcessSheet(sheet))
+                .map(sheet -> SpreadsheetReference.ofCell(sheet.title(), "A1"))
+                .toList();
+        if (references.isEmpty()) {
+            return true;
+        }
+
+        try {
+            spreadsheetGateway.readDataBatch(configuration.spreadsheetId(), references);
+            LOGGER.info("Prefetched " + references.size() + " sheets");
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to prefetch sheets", e);
+            return false;
         }
     }
 
-    private void runStrategies(SpreadsheetConfiguration configuration) {
-        for (SpreadsheetSynchronizationStrategy strategy : synchronizationStrategies.subList(1, synchronizationStrategies.size())) {
-            // if (strategy.shouldProcessSheet(configuration.getSheetConfiguration())) {
-            LOGGER.info("Running strategy: " + strategy.getStrategyName());
-            strategy.synchronize(configuration);
+    private boolean runStrategy(SpreadsheetSynchronizationStrategy strategy, SpreadsheetConfiguration configuration) {
+        if (configuration == null) {
+            throw new IllegalArgumentException("SpreadsheetConfiguration cannot be null");
+        }
+
+        LOGGER.info("Running strategy: " + strategy.getStrategyName());
+        boolean succeeded = strategy.synchronize(configuration);
+        if (!succeeded) {
+            LOGGER.severe(strategy.getStrategyName() + " failed");
         }
+        return succeeded;
     }
 
     public static class SynchronizationException extends RuntimeException {
@@ -0,0 +1,491 @@
+package com.mailscheduler.application.synchronization.spreadsheet.gateway;
+
+import com.google.api.services.sheets.v4.model.Sheet;
+import com.google.api.services.sheets.v4.model.Spreadsheet;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
+import com.mailscheduler.util.SpreadsheetColumns;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link SpreadsheetGateway} decorator that answers reads from in-memory snapshots of whole sheets.
+ * <p>
+ *     The first read of a sheet loads its used range once; every later read of any range on that sheet is cut
+ *     out of the snapshot, shaped like the Sheets API would return it (trailing empty cells and rows omitted,
+ *     {@code null} values for an empty result). Reads in one batch that need several unloaded sheets load them
+ *     with a single request. Writes through this gateway invalidate the sheets they touch.
+ * </p>
+ * <p>
+ *     Snapshots expire after a fixed time, and the least recently used ones are evicted once their estimated
+ *     size exceeds the memory limit. References without a sheet title cannot be matched to a snapshot and
+ *     are passed through. Changes made to the spreadsheet outside this gateway are only seen after expiry.
+ *     Thread-safe.
+ * </p>
+ */
+public class CachingSpreadsheetGateway implements SpreadsheetGateway {
+    private static final Logger LOGGER = Logger.getLogger(CachingSpreadsheetGateway.class.getName());
+
+    /**
+     * Column count assumed for sheets missing from the spreadsheet metadata.
+     */
+    private static final int DEFAULT_COLUMN_COUNT = 26;
+    private static final long CELL_OVERHEAD_BYTES = 48;
+    private static final long ROW_OVERHEAD_BYTES = 40;
+
+    private final SpreadsheetGateway delegate;
+    private final long ttlNanos;
+    private final long maxBytes;
+
+    private final LinkedHashMap<SheetKey, SheetSnapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+    private final Map<String, Map<String, Integer>> columnCounts = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Counters of a caching gateway since it was created.
+     *
+     * @param hits reads answered from a snapshot
+     * @param misses reads that needed a sheet to be loaded first
+     * @param loads sheets loaded from the delegate
+     * @param evictions snapshots dropped to stay under the memory limit
+     * @param invalidations snapshots dropped because of a write or expiry
+     * @param cachedSheets snapshots currently held
+     * @param cachedBytes estimated size of the snapshots currently held
+     */
+    public record Stats(long hits, long misses, long loads, long evictions, long invalidations,
+                        int cachedSheets, long cachedBytes) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    /**
+     * @param delegate the gateway that talks to the Sheets API
+     * @param ttl how long a snapshot may be used after it was loaded
+     * @param maxBytes upper bound for the estimated size of all snapshots
+     */
+    public CachingSpreadsheetGateway(SpreadsheetGateway delegate, Duration ttl, long maxBytes) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate cannot be null");
+        Objects.requireNonNull(ttl, "TTL cannot be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Memory limit must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public Spreadsheet getSpreadsheet(String spreadsheetId) throws IOException {
+        return delegate.getSpreadsheet(spreadsheetId);
+    }
+
+    @Override
+    public void createSheet(String spreadsheetId, String title, Integer index) throws IOException {
+        delegate.createSheet(spreadsheetId, title, index);
+        columnCounts.remove(spreadsheetId);
+        invalidate(spreadsheetId, title);
+    }
+
+    @Override
+    public List<List<Object>> readData(String spreadsheetId, SpreadsheetReference range) throws IOException {
+        if (spreadsheetId == null || range == null || !hasSheetTitle(range)) {
+            return delegate.readData(spreadsheetId, range);
+        }
+
+        SheetKey key = new SheetKey(spreadsheetId, range.getSheetTitle());
+        SheetSnapshot snapshot = cachedSnapshot(key);
+        if (snapshot != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            snapshot = loadSnapshots(spreadsheetId, List.of(key)).get(key);
+        }
+        return snapshot.read(range);
+    }
+
+    @Override
+    public List<ValueRange> readDataBatch(String spreadsheetId, List<SpreadsheetReference> ranges) throws IOException {
+        if (spreadsheetId == null || ranges == null || ranges.isEmpty()) {
+            return delegate.readDataBatch(spreadsheetId, ranges);
+        }
+        if (!ranges.stream().allMatch(CachingSpreadsheetGateway::hasSheetTitle)) {
+            return delegate.readDataBatch(spreadsheetId, ranges);
+        }
+
+        Map<SheetKey, SheetSnapshot> available = new HashMap<>();
+        Set<SheetKey> missing = new LinkedHashSet<>();
+        for (SpreadsheetReference range : ranges) {
+            SheetKey key = new SheetKey(spreadsheetId, range.getSheetTitle());
+            if (available.containsKey(key) || missing.contains(key)) {
+                continue;
+            }
+            SheetSnapshot snapshot = cachedSnapshot(key);
+            if (snapshot != null) {
+                available.put(key, snapshot);
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            available.putAll(loadSnapshots(spreadsheetId, missing));
+        }
+
+        List<ValueRange> result = new ArrayList<>(ranges.size());
+        for (SpreadsheetReference range : ranges) {
+            SheetKey key = new SheetKey(spreadsheetId, range.getSheetTitle());
+            if (missing.contains(key)) {
+                misses.incrementAndGet();
+            } else {
+                hits.incrementAndGet();
+            }
+            result.add(new ValueRange()
+                    .setRange(range.getGoogleSheetsReference())
+                    .setMajorDimension("ROWS")
+                    .setValues(available.get(key).read(range)));
+        }
+        return result;
+    }
+
+    @Override
+    public void writeData(String spreadsheetId, List<SpreadsheetReference> rows, List<List<Object>> values) throws IOException {
+        try {
+            delegate.writeData(spreadsheetId, rows, values);
+        } finally {
+            invalidate(spreadsheetId, rows);
+        }
+    }
+
+    @Override
+    public void writeDataBatch(String spreadsheetId, List<ValueRange> data) throws IOException {
+        try {
+            delegate.writeDataBatch(spreadsheetId, data);
+        } finally {
+            if (data != null) {
+                for (ValueRange valueRange : data) {
+                    invalidate(spreadsheetId, sheetTitleOf(valueRange.getRange()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void writeDataToCell(String spreadsheetId, SpreadsheetReference cell, String value) throws IOException {
+        try {
+            delegate.writeDataToCell(spreadsheetId, cell, value);
+        } finally {
+            invalidate(spreadsheetId, cell == null ? List.of() : List.of(cell));
+        }
+    }
+
+    @Override
+    public void writeDataToCells(String spreadsheetId, List<SpreadsheetReference> cells, List<String> value) throws IOException {
+        try {
+            delegate.writeDataToCells(spreadsheetId, cells, value);
+        } finally {
+            invalidate(spreadsheetId, cells);
+        }
+    }
+
+    @Override
+    public void clearValues(String spreadsheetId, SpreadsheetReference range) throws IOException {
+        try {
+            delegate.clearValues(spreadsheetId, range);
+        } finally {
+            invalidate(spreadsheetId, range == null ? List.of() : List.of(range));
+        }
+    }
+
+    @Override
+    public void formatCells(String spreadsheetId, SpreadsheetReference range,
+                            Boolean bold, String backgroundColor, String textColor) throws IOException {
+        delegate.formatCells(spreadsheetId, range, bold, backgroundColor, textColor);
+    }
+
+    /**
+     * Drops all snapshots, for example at the start of a new run.
+     */
+    public void invalidateAll() {
+        synchronized (snapshots) {
+            invalidations.addAndGet(snapshots.size());
+            snapshots.clear();
+            cachedBytes = 0;
+        }
+    }
+
+    public Stats getStats() {
+        synchronized (snapshots) {
+            return new Stats(hits.get(), misses.get(), loads.get(), evictions.get(), invalidations.get(),
+                    snapshots.size(), cachedBytes);
+        }
+    }
+
+    /**
+     * Gets the sheet title of an A1 range such as {@code 'My Sheet'!A1:B2}, or null if it has none.
+     */
+    private static String sheetTitleOf(String range) {
+        int separator = range == null ? -1 : range.lastIndexOf('!');
+        if (separator <= 0) {
+            return null;
+        }
+        String title = range.substring(0, separator);
+        if (title.length() >= 2 && title.startsWith("'") && title.endsWith("'")) {
+            title = title.substring(1, title.length() - 1).replace("''", "'");
+        }
+        return title;
+    }
+
+    private static boolean hasSheetTitle(SpreadsheetReference reference) {
+        return reference != null && reference.getSheetTitle() != null && !reference.getSheetTitle().isBlank();
+    }
+
+    /**
+     * Gets the snapshot of a sheet if it is cached and not expired.
+     */
+    private SheetSnapshot cachedSnapshot(SheetKey key) {
+        synchronized (snapshots) {
+            SheetSnapshot snapshot = snapshots.get(key);
+            if (snapshot == null) {
+                return null;
+            }
+            if (System.nanoTime() - snapshot.loadedAtNanos > ttlNanos) {
+                remove(key);
+                invalidations.incrementAndGet();
+                return null;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Loads the used ranges of the given sheets with one request and caches them.
+     */
+    private Map<SheetKey, SheetSnapshot> loadSnapshots(String spreadsheetId, Collection<SheetKey> keys) throws IOException {
+        List<SheetKey> keyList = new ArrayList<>(keys);
+        List<SpreadsheetReference> usedRanges = new ArrayList<>(keyList.size());
+        for (SheetKey key : keyList) {
+            // Ranges must stay within the grid, so the last column comes from the sheet's properties
+            String lastColumn = SpreadsheetColumns.toLetters(columnCount(spreadsheetId, key.sheetTitle()) - 1);
+            usedRanges.add(SpreadsheetReference.ofRange(key.sheetTitle(), "A1:" + lastColumn));
+        }
+
+        List<ValueRange> loaded = delegate.readDataBatch(spreadsheetId, usedRanges);
+        loads.addAndGet(keyList.size());
+
+        Map<SheetKey, SheetSnapshot> result = new HashMap<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            ValueRange valueRange = loaded != null && i < loaded.size() ? loaded.get(i) : null;
+            SheetSnapshot snapshot = SheetSnapshot.of(valueRange != null ? valueRange.getValues() : null);
+            result.put(keyList.get(i), snapshot);
+            store(keyList.get(i), snapshot);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of columns of a sheet, reading the spreadsheet metadata once per spreadsheet.
+     */
+    private int columnCount(String spreadsheetId, String sheetTitle) throws IOException {
+        Map<String, Integer> counts = columnCounts.get(spreadsheetId);
+        if (counts == null) {
+            counts = new HashMap<>();
+            Spreadsheet spreadsheet = delegate.getSpreadsheet(spreadsheetId);
+            if (spreadsheet != null && spreadsheet.getSheets() != null) {
+                for (Sheet sheet : spreadsheet.getSheets()) {
+                    if (sheet.getProperties() != null && sheet.getProperties().getGridProperties() != null
+                            && sheet.getProperties().getGridProperties().getColumnCount() != null) {
+                        counts.put(sheet.getProperties().getTitle(),
+                                sheet.getProperties().getGridProperties().getColumnCount());
+                    }
+                }
+            }
+            columnCounts.put(spreadsheetId, counts);
+        }
+        return Math.max(1, counts.getOrDefault(sheetTitle, DEFAULT_COLUMN_COUNT));
+    }
+
+    private void store(SheetKey key, SheetSnapshot snapshot) {
+        if (snapshot.estimatedBytes > maxBytes) {
+            LOGGER.log(Level.FINE, "Sheet {0} exceeds the cache limit and is not cached", key.sheetTitle());
+            return;
+        }
+
+        synchronized (snapshots) {
+            remove(key);
+            snapshots.put(key, snapshot);
+            cachedBytes += snapshot.estimatedBytes;
+
+            Iterator<Map.Entry<SheetKey, SheetSnapshot>> eldest = snapshots.entrySet().iterator();
+            while (cachedBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<SheetKey, SheetSnapshot> entry = eldest.next();
+                if (entry.getKey().equals(key)) {
+                    continue;
+                }
+                cachedBytes -= entry.getValue().estimatedBytes;
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(SheetKey key) {
+        SheetSnapshot removed = snapshots.remove(key);
+        if (removed != null) {
+            cachedBytes -= removed.estimatedBytes;
+        }
+    }
+
+    /**
+     * Invalidates the sheets written to; references without a sheet title invalidate the whole spreadsheet.
+     */
+    private void invalidate(String spreadsheetId, List<SpreadsheetReference> references) {
+        if (references == null) {
+            return;
+        }
+        for (SpreadsheetReference reference : references) {
+            invalidate(spreadsheetId, hasSheetTitle(reference) ? reference.getSheetTitle() : null);
+        }
+    }
+
+    private void invalidate(String spreadsheetId, String sheetTitle) {
+        synchronized (snapshots) {
+            Iterator<Map.Entry<SheetKey, SheetSnapshot>> it = snapshots.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<SheetKey, SheetSnapshot> entry = it.next();
+                SheetKey key = entry.getKey();
+                if (Objects.equals(key.spreadsheetId(), spreadsheetId)
+                        && (sheetTitle == null || key.sheetTitle().equals(sheetTitle))) {
+                    cachedBytes -= entry.getValue().estimatedBytes;
+                    it.remove();
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private record SheetKey(String spreadsheetId, String sheetTitle) {
+    }
+
+    /**
+     * Immutable copy of a sheet's used range, starting at cell A1.
+     */
+    private static final class SheetSnapshot {
+        private final List<List<Object>> rows;
+        private final long estimatedBytes;
+        private final long loadedAtNanos;
+
+        private SheetSnapshot(List<List<Object>> rows, long estimatedBytes) {
+            this.rows = rows;
+            this.estimatedBytes = estimatedBytes;
+            this.loadedAtNanos = System.nanoTime();
+        }
+
+        static SheetSnapshot of(List<List<Object>> values) {
+            if (values == null) {
+                return new SheetSnapshot(List.of(), ROW_OVERHEAD_BYTES);
+            }
+            List<List<Object>> rows = new ArrayList<>(values.size());
+            long bytes = ROW_OVERHEAD_BYTES;
+            for (List<Object> row : values) {
+                List<Object> copy = row == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(row));
+                rows.add(copy);
+                bytes += ROW_OVERHEAD_BYTES;
+                for (Object cell : copy) {
+                    bytes += CELL_OVERHEAD_BYTES + (cell == null ? 0 : 2L * cell.toString().length());
+                }
+            }
+            return new SheetSnapshot(Collections.unmodifiableList(rows), bytes);
+        }
+
+        /**
+         * Cuts a range out of the snapshot the way the Sheets API returns it.
+         *
+         * @return the rows of the range, or null if the range holds no values
+         */
+        List<List<Object>> read(SpreadsheetReference reference) {
+            Bounds bounds = Bounds.of(reference);
+            int lastRow = Math.min(bounds.lastRow(), rows.size() - 1);
+
+            List<List<Object>> result = new ArrayList<>();
+            int nonEmptyRows = 0;
+            for (int r = bounds.firstRow(); r <= lastRow; r++) {
+                List<Object> row = rows.get(r);
+                int lastColumn = Math.min(bounds.lastColumn(), row.size() - 1);
+                while (lastColumn >= bounds.firstColumn() && isEmpty(row.get(lastColumn))) {
+                    lastColumn--;
+                }
+                List<Object> cells = lastColumn < bounds.firstColumn()
+                        ? new ArrayList<>()
+                        : new ArrayList<>(row.subList(bounds.firstColumn(), lastColumn + 1));
+                result.add(cells);
+                if (!cells.isEmpty()) {
+                    nonEmptyRows = result.size();
+                }
+            }
+            if (nonEmptyRows == 0) {
+                return null;
+            }
+            return new ArrayList<>(result.subList(0, nonEmptyRows));
+        }
+
+        private static boolean isEmpty(Object cell) {
+            return cell == null || cell.toString().isEmpty();
+        }
+    }
+
+    /**
+     * Zero-based, inclusive row and column bounds of a reference.
+     */
+    private record Bounds(int firstRow, int lastRow, int firstColumn, int lastColumn) {
+        static Bounds of(SpreadsheetReference reference) {
+            String value = reference.getReference();
+            return switch (reference.getType()) {
+                case COLUMN -> {
+                    int column = SpreadsheetColumns.toIndex(value);
+                    yield new Bounds(0, Integer.MAX_VALUE, column, column);
+                }
+                case ROW -> {
+                    int row = Integer.parseInt(value) - 1;
+                    yield new Bounds(row, row, 0, Integer.MAX_VALUE);
+                }
+                case CELL -> {
+                    int row = SpreadsheetColumns.rowIndex(value);
+                    int column = SpreadsheetColumns.toIndex(value);
+                    yield new Bounds(row, row, column, column);
+                }
+                case RANGE -> {
+                    String[] parts = value.split(":");
+                    int lastRow = SpreadsheetColumns.rowIndex(parts[1]);
+                    yield new Bounds(SpreadsheetColumns.rowIndex(parts[0]), lastRow < 0 ? Integer.MAX_VALUE : lastRow,
+                            SpreadsheetColumns.toIndex(parts[0]), SpreadsheetColumns.toIndex(parts[1]));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.mailscheduler.application.synchronization.spreadsheet.gateway;
+
+import com.google.api.services.sheets.v4.model.Spreadsheet;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
+import com.mailscheduler.util.SpreadsheetColumns;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link SpreadsheetGateway} decorator that only writes cells whose value actually changes.
+ * <p>
+ *     Before the first write to a column of a sheet, the column's current values are read once and kept as the
+ *     last known values. Each write is compared cell by cell against them: cells that already hold the intended
+ *     value are left out, and a write that changes nothing is not sent at all. Inside a range, unchanged cells
+ *     are sent as {@code null}, which the Sheets API skips. After a successful write the written values become
+ *     the last known values.
+ * </p>
+ * <p>
+ *     Values are compared by their text, so a value the sheet displays differently (for example a reformatted
+ *     date) is written again rather than skipped. References without a sheet title, or whose shape is not a
+ *     cell or range, are passed through unchanged. Thread-safe.
+ * </p>
+ */
+public class DiffingSpreadsheetGateway implements SpreadsheetGateway {
+    private static final Logger LOGGER = Logger.getLogger(DiffingSpreadsheetGateway.class.getName());
+
+    private final SpreadsheetGateway delegate;
+
+    /**
+     * Last known values by spreadsheet and sheet, column index (0-based) and row number (1-based).
+     */
+    private final Map<ColumnKey, Map<Integer, String>> knownValues = new HashMap<>();
+
+    private final AtomicLong issuedCells = new AtomicLong();
+    private final AtomicLong suppressedCells = new AtomicLong();
+    private final AtomicLong skippedRequests = new AtomicLong();
+
+    /**
+     * Counters of a diffing gateway since it was created.
+     *
+     * @param issuedCells cells sent to the delegate
+     * @param suppressedCells cells left out because they already held the intended value
+     * @param skippedRequests writes not sent at all because none of their cells changed
+     */
+    public record Stats(long issuedCells, long suppressedCells, long skippedRequests) {
+    }
+
+    public DiffingSpreadsheetGateway(SpreadsheetGateway delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate cannot be null");
+    }
+
+    @Override
+    public Spreadsheet getSpreadsheet(String spreadsheetId) throws IOException {
+        return delegate.getSpreadsheet(spreadsheetId);
+    }
+
+    @Override
+    public void createSheet(String spreadsheetId, String title, Integer index) throws IOException {
+        delegate.createSheet(spreadsheetId, title, index);
+    }
+
+    @Override
+    public List<List<Object>> readData(String spreadsheetId, SpreadsheetReference range) throws IOException {
+        return delegate.readData(spreadsheetId, range);
+    }
+
+    @Override
+    public List<ValueRange> readDataBatch(String spreadsheetId, List<SpreadsheetReference> ranges) throws IOException {
+        return delegate.readDataBatch(spreadsheetId, ranges);
+    }
+
+    @Override
+    public void writeData(String spreadsheetId, List<SpreadsheetReference> rows, List<List<Object>> values) throws IOException {
+        if (spreadsheetId == null || rows == null || values == null || rows.size() != values.size()) {
+            delegate.writeData(spreadsheetId, rows, values);
+            return;
+        }
+
+        List<Write> writes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            writes.add(Write.of(spreadsheetId, rows.get(i), Collections.singletonList(values.get(i))));
+        }
+        List<Write> changed = diff(spreadsheetId, writes);
+        if (changed.isEmpty()) {
+            skippedRequests.incrementAndGet();
+            return;
+        }
+
+        List<SpreadsheetReference> changedRows = new ArrayList<>(changed.size());
+        List<List<Object>> changedValues = new ArrayList<>(changed.size());
+        for (Write write : changed) {
+            changedRows.add(write.reference());
+            changedValues.add(write.values().get(0));
+        }
+        delegate.writeData(spreadsheetId, changedRows, changedValues);
+        remember(spreadsheetId, changed);
+    }
+
+    @Override
+    public void writeDataBatch(String spreadsheetId, List<ValueRange> data) throws IOException {
+        if (spreadsheetId == null || data == null) {
+            delegate.writeDataBatch(spreadsheetId, data);
+            return;
+        }
+
+        List<Write> writes = new ArrayList<>(data.size());
+        for (ValueRange valueRange : data) {
+            writes.add(Write.of(spreadsheetId, parseRange(valueRange.getRange()), valueRange.getValues()));
+        }
+        List<Write> changed = diff(spreadsheetId, writes);
+        if (changed.isEmpty()) {
+            skippedRequests.incrementAndGet();
+            return;
+        }
+
+        List<ValueRange> changedData = new ArrayList<>(changed.size());
+        for (Write write : changed) {
+            changedData.add(new ValueRange()
+                    .setRange(write.range())
+                    .setMajorDimension("ROWS")
+                    .setValues(write.values()));
+        }
+        delegate.writeDataBatch(spreadsheetId, changedData);
+        remember(spreadsheetId, changed);
+    }
+
+    @Override
+    public void writeDataToCell(String spreadsheetId, SpreadsheetReference cell, String value) throws IOException {
+        writeDataToCells(spreadsheetId, Collections.singletonList(cell), Collections.singletonList(value));
+    }
+
+    @Override
+    public void writeDataToCells(String spreadsheetId, List<SpreadsheetReference> cells, List<String> value) throws IOException {
+        if (spreadsheetId == null || cells == null || value == null || cells.size() != value.size()) {
+            delegate.writeDataToCells(spreadsheetId, cells, value);
+            return;
+        }
+
+        List<Write> writes = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            writes.add(Write.of(spreadsheetId, cells.get(i),
+                    Collections.singletonList(Collections.singletonList(value.get(i)))));
+        }
+        List<Write> changed = diff(spreadsheetId, writes);
+        if (changed.isEmpty()) {
+            skippedRequests.incrementAndGet();
+            return;
+        }
+
+        List<SpreadsheetReference> changedCells = new ArrayList<>(changed.size());
+        List<String> changedValues = new ArrayList<>(changed.size());
+        for (Write write : changed) {
+            changedCells.add(write.reference());
+            Object cellValue = write.values().get(0).get(0);
+            changedValues.add(cellValue == null ? null : cellValue.toString());
+        }
+        delegate.writeDataToCells(spreadsheetId, changedCells, changedValues);
+        remember(spreadsheetId, changed);
+    }
+
+    @Override
+    public void clearValues(String spreadsheetId, SpreadsheetReference range) throws IOException {
+        try {
+            delegate.clearValues(spreadsheetId, range);
+        } finally {
+            forget(spreadsheetId);
+        }
+    }
+
+    @Override
+    public void formatCells(String spreadsheetId, SpreadsheetReference range,
+                            Boolean bold, String backgroundColor, String textColor) throws IOException {
+        delegate.formatCells(spreadsheetId, range, bold, backgroundColor, textColor);
+    }
+
+    public Stats getStats() {
+        return new Stats(issuedCells.get(), suppressedCells.get(), skippedRequests.get());
+    }
+
+    /**
+     * Drops the last known values of a spreadsheet, so the next write reads them again.
+     */
+    public void forget(String spreadsheetId) {
+        synchronized (knownValues) {
+            knownValues.keySet().removeIf(key -> key.spreadsheetId().equals(spreadsheetId));
+        }
+    }
+
+    /**
+     * Removes unchanged cells from the writes.
+     * <p>
+     *     A range is split into one write per contiguous run of changed cells in a row, so that no unchanged
+     *     cell has to be sent. Null values cannot stand in for them: the JSON serializer drops null list
+     *     elements, which would shift the following values into the wrong columns.
+     * </p>
+     *
+     * @return the writes that still change at least one cell, each covering only changed cells
+     */
+    private List<Write> diff(String spreadsheetId, List<Write> writes) throws IOException {
+        loadColumns(spreadsheetId, writes);
+
+        List<Write> changed = new ArrayList<>(writes.size());
+        int changedRanges = 0;
+        for (Write write : writes) {
+            if (!write.comparable()) {
+                changed.add(write);
+                changedRanges++;
+                issuedCells.addAndGet(write.cellCount());
+                continue;
+            }
+
+            boolean anyChange = false;
+            for (int r = 0; r < write.values().size(); r++) {
+                List<Object> row = write.values().get(r);
+                List<Object> run = new ArrayList<>();
+                int runStart = -1;
+                for (int c = 0; row != null && c <= row.size(); c++) {
+                    Object intended = c < row.size() ? row.get(c) : null;
+                    boolean unchanged = intended == null
+                            || matchesKnown(write, write.firstRow() + r, write.firstColumn() + c, intended);
+                    if (unchanged) {
+                        if (intended != null) {
+                            suppressedCells.incrementAndGet();
+                        }
+                        if (!run.isEmpty()) {
+                            changed.add(write.run(r, runStart, run));
+                            run = new ArrayList<>();
+                        }
+                    } else {
+                        if (run.isEmpty()) {
+                            runStart = c;
+                        }
+                        run.add(intended);
+                        issuedCells.incrementAndGet();
+                    }
+                }
+                anyChange |= runStart >= 0;
+            }
+            if (anyChange) {
+                changedRanges++;
+            }
+        }
+
+        if (changedRanges < writes.size()) {
+            LOGGER.log(Level.FINE, "Skipped {0} of {1} ranges whose cells already hold the intended values",
+                    new Object[]{writes.size() - changedRanges, writes.size()});
+        }
+        return changed;
+    }
+
+    private boolean matchesKnown(Write write, int row, int column, Object intended) {
+        synchronized (knownValues) {
+            Map<Integer, String> known = knownValues.get(new ColumnKey(write.spreadsheetId(), write.sheetTitle(), column));
+            return known != null && intended.toString().equals(known.getOrDefault(row, ""));
+        }
+    }
+
+    /**
+     * Reads the current values of all columns touched by the writes that are not known yet, in one request.
+     */
+    private void loadColumns(String spreadsheetId, List<Write> writes) throws IOException {
+        Set<ColumnKey> missing = new LinkedHashSet<>();
+        synchronized (knownValues) {
+            for (Write write : writes) {
+                if (!write.comparable()) {
+                    continue;
+                }
+                for (int c = 0; c < write.width(); c++) {
+                    ColumnKey key = new ColumnKey(spreadsheetId, write.sheetTitle(), write.firstColumn() + c);
+                    if (!knownValues.containsKey(key)) {
+                        missing.add(key);
+                    }
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        List<ColumnKey> keys = new ArrayList<>(missing);
+        List<SpreadsheetReference> columns = new ArrayList<>(keys.size());
+        for (ColumnKey key : keys) {
+            columns.add(SpreadsheetReference.ofColumn(key.sheetTitle(), SpreadsheetColumns.toLetters(key.column())));
+        }
+        List<ValueRange> loaded = delegate.readDataBatch(spreadsheetId, columns);
+
+        synchronized (knownValues) {
+            for (int i = 0; i < keys.size(); i++) {
+                Map<Integer, String> values = new HashMap<>();
+                List<List<Object>> rows = loaded != null && i < loaded.size() ? loaded.get(i).getValues() : null;
+                for (int r = 0; rows != null && r < rows.size(); r++) {
+                    List<Object> row = rows.get(r);
+                    if (row != null && !row.isEmpty() && row.get(0) != null) {
+                        values.put(r + 1, row.get(0).toString());
+                    }
+                }
+                knownValues.put(keys.get(i), values);
+            }
+        }
+    }
+
+    /**
+     * Records the written values as the last known values.
+     */
+    private void remember(String spreadsheetId, List<Write> written) {
+        synchronized (knownValues) {
+            for (Write write : written) {
+                if (!write.comparable()) {
+                    continue;
+                }
+                for (int r = 0; r < write.values().size(); r++) {
+                    List<Object> row = write.values().get(r);
+                    for (int c = 0; row != null && c < row.size(); c++) {
+                        if (row.get(c) != null) {
+                            knownValues.computeIfAbsent(
+                                            new ColumnKey(spreadsheetId, write.sheetTitle(), write.firstColumn() + c),
+                                            key -> new HashMap<>())
+                                    .put(write.firstRow() + r, row.get(c).toString());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static SpreadsheetReference parseRange(String range) {
+        if (range == null) {
+            return null;
+        }
+        try {
+            return SpreadsheetReference.fromGoogleReference(range);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record ColumnKey(String spreadsheetId, String sheetTitle, int column) {
+    }
+
+    /**
+     * One range to write, anchored at its top-left cell.
+     *
+     * @param reference the target as passed in, or null if it could not be parsed
+     * @param range the target in A1 notation
+     * @param firstRow the spreadsheet row of the top-left cell (1-based), or -1 if not comparable
+     * @param firstColumn the column index of the top-left cell (0-based), or -1 if not comparable
+     */
+    private record Write(String spreadsheetId, SpreadsheetReference reference, String range, String sheetTitle,
+                         int firstRow, int firstColumn, List<List<Object>> values) {
+
+        static Write of(String spreadsheetId, SpreadsheetReference reference, List<List<Object>> values) {
+            List<List<Object>> rows = values == null ? List.of() : values;
+            String range = reference == null ? null : reference.getGoogleSheetsReference();
+            boolean anchored = reference != null
+                    && reference.getSheetTitle() != null && !reference.getSheetTitle().isBlank()
+                    && (reference.getType() == SpreadsheetReference.ReferenceType.CELL
+                    || reference.getType() == SpreadsheetReference.ReferenceType.RANGE);
+            if (!anchored) {
+                return new Write(spreadsheetId, reference, range, null, -1, -1, rows);
+            }
+            String firstCell = reference.getReference().split(":")[0];
+            return new Write(spreadsheetId, reference, range, reference.getSheetTitle(),
+                    SpreadsheetColumns.rowIndex(firstCell) + 1, SpreadsheetColumns.toIndex(firstCell), rows);
+        }
+
+        /**
+         * A single-row write of a run of cells inside this write.
+         *
+         * @param row the row offset of the run within this write
+         * @param column the column offset of the first cell of the run within this write
+         * @param runValues the values of the run
+         */
+        Write run(int row, int column, List<Object> runValues) {
+            int runRow = firstRow + row;
+            int runColumn = firstColumn + column;
+            String firstCell = SpreadsheetColumns.toLetters(runColumn) + runRow;
+            SpreadsheetReference runReference = runValues.size() == 1
+                    ? SpreadsheetReference.ofCell(sheetTitle, firstCell)
+                    : SpreadsheetReference.ofRange(sheetTitle, firstCell + ":"
+                    + SpreadsheetColumns.toLetters(runColumn + runValues.size() - 1) + runRow);
+            return new Write(spreadsheetId, runReference, runReference.getGoogleSheetsReference(), sheetTitle,
+                    runRow, runColumn, List.of(List.copyOf(runValues)));
+        }
+
+        boolean comparable() {
+            return firstRow > 0 && firstColumn >= 0;
+        }
+
+        int width() {
+            int width = 0;
+            for (List<Object> row : values) {
+                width = Math.max(width, row == null ? 0 : row.size());
+            }
+            return width;
+        }
+
+        long cellCount() {
+            long count = 0;
+            for (List<Object> row : values) {
+                for (int c = 0; row != null && c < row.size(); c++) {
+                    if (row.get(c) != null) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+    }
+}
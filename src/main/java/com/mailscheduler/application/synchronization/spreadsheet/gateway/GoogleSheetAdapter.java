@@ -47,6 +47,12 @@ public class GoogleSheetAdapter implements SpreadsheetGateway {
         googleSheetService.writeToSpreadsheetRows(spreadsheetId, rows, values);
     }
 
+    @Override
+    public void writeDataBatch(String spreadsheetId, List<ValueRange> data) throws IOException {
+        if (spreadsheetId == null || data == null || data.isEmpty()) return;
+        googleSheetService.writeToSpreadsheetRanges(spreadsheetId, data);
+    }
+
     @Override
     public void writeDataToCell(String spreadsheetId, SpreadsheetReference cell, String value) throws IOException {
         googleSheetService.writeToSpreadsheetCell(spreadsheetId, cell, value);
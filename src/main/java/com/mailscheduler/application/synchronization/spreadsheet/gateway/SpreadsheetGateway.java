@@ -33,6 +33,11 @@ public interface SpreadsheetGateway {
      */
     void writeData(String spreadsheetId, List<SpreadsheetReference> rows, List<List<Object>> values) throws IOException;
 
+    /**
+     * Writes several ranges, each with its own rows of values, in a single request.
+     */
+    void writeDataBatch(String spreadsheetId, List<ValueRange> data) throws IOException;
+
     /**
      * Writes data to a specific cell in the spreadsheet.
      */
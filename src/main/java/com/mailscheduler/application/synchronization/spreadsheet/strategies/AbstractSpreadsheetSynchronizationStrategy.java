@@ -6,11 +6,21 @@ import com.mailscheduler.application.synchronization.spreadsheet.gateway.Spreads
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SheetConfiguration;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetConfiguration;
+import com.mailscheduler.domain.repository.RowFingerprintRepository;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,6 +32,10 @@ public abstract class AbstractSpreadsheetSynchronizationStrategy implements Spre
     private static final String CONFIGURATION_SHEET_NAME = "Configuration";
     protected final Logger logger;
     protected final SpreadsheetGateway spreadsheetGateway;
+    private final RowFingerprintRepository rowFingerprintRepository;
+    private final ReentrantLock writerLock = new ReentrantLock(true);
+    private volatile int sheetParallelism = 1;
+    private SheetRowChanges.Summary rowChangeSummary = SheetRowChanges.Summary.EMPTY;
 
     /**
      * Creates a new abstract synchronization strategy with the required gateway.
@@ -29,24 +43,42 @@ public abstract class AbstractSpreadsheetSynchronizationStrategy implements Spre
      * @param spreadsheetGateway Gateway for accessing spreadsheet data
      */
     protected AbstractSpreadsheetSynchronizationStrategy(SpreadsheetGateway spreadsheetGateway) {
+        this(spreadsheetGateway, null);
+    }
+
+    /**
+     * Creates a new abstract synchronization strategy that skips rows unchanged since the previous run.
+     *
+     * @param spreadsheetGateway Gateway for accessing spreadsheet data
+     * @param rowFingerprintRepository Store of row fingerprints, or null to process every row on every run
+     */
+    protected AbstractSpreadsheetSynchronizationStrategy(
+            SpreadsheetGateway spreadsheetGateway,
+            RowFingerprintRepository rowFingerprintRepository
+    ) {
         this.spreadsheetGateway = Objects.requireNonNull(spreadsheetGateway, "SpreadsheetGateway cannot be null");
+        this.rowFingerprintRepository = rowFingerprintRepository;
         this.logger = Logger.getLogger(this.getClass().getName());
     }
 
     @Override
-    public void synchronize(SpreadsheetConfiguration configuration) {
+    public boolean synchronize(SpreadsheetConfiguration configuration) {
         // Validate the configuration
         try {
             validateConfiguration(configuration);
         } catch (IllegalArgumentException e) {
             logger.severe("Invalid configuration: " + e.getMessage());
             handleSynchronizationError(new SyncException("Configuration validation failed", e));
-            return;
+            return false;
         }
 
         logger.info(() -> String.format("%s starting synchronization", getStrategyName()));
 
         try {
+            synchronized (this) {
+                rowChangeSummary = SheetRowChanges.Summary.EMPTY;
+            }
+
             // Process each sheet in the configuration
             processSheetsInSpreadsheet(configuration);
 
@@ -54,10 +86,12 @@ public abstract class AbstractSpreadsheetSynchronizationStrategy implements Spre
             doPostProcessing(configuration);
 
             logger.info(() -> String.format("%s completed synchronization successfully", getStrategyName()));
+            return true;
         } catch (Exception e) {
             logger.log(Level.SEVERE,
                     String.format("%s encountered error during synchronization", getStrategyName()), e);
             handleSynchronizationError(e);
+            return false;
         }
     }
 
@@ -90,33 +124,173 @@ public abstract class AbstractSpreadsheetSynchronizationStrategy implements Spre
 
     /**
      * Processes all sheets in the spreadsheet that should be handled by this strategy.
+     * <p>
+     *     With a sheet parallelism above one, up to that many sheets are processed at the same time; their
+     *     database writes must go through {@link #writeSerially(Runnable)}. An error in one sheet is logged and
+     *     counted, and the other sheets are still processed.
+     * </p>
      *
      * @param configuration The spreadsheet configuration
      */
     protected void processSheetsInSpreadsheet(SpreadsheetConfiguration configuration) {
+        List<SheetConfiguration> sheets = configuration.sheetConfigurations().stream()
+                .filter(this::shouldProcessSheet)
+                .toList();
+
         int processedCount = 0;
         int errorCount = 0;
 
-        for (SheetConfiguration sheetConfiguration : configuration.sheetConfigurations()) {
-            if (shouldProcessSheet(sheetConfiguration)) {
-                try {
-                    logger.fine(() -> String.format("Processing sheet: %s", sheetConfiguration.title()));
-                    processSheet(configuration.spreadsheetId(), sheetConfiguration);
+        if (sheetParallelism <= 1 || sheets.size() <= 1) {
+            for (SheetConfiguration sheetConfiguration : sheets) {
+                if (processSheetSafely(configuration.spreadsheetId(), sheetConfiguration)) {
                     processedCount++;
-                } catch (Exception e) {
+                } else {
                     errorCount++;
-                    logger.log(Level.WARNING,
-                            String.format("Error processing sheet %s: %s",
-                                    sheetConfiguration.title(), e.getMessage()), e);
-                    // Continue with other sheets despite this error
                 }
             }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.min(sheetParallelism, sheets.size()), namedDaemonThreads("sheet-sync"));
+            try {
+                List<Future<Boolean>> results = new ArrayList<>(sheets.size());
+                for (SheetConfiguration sheetConfiguration : sheets) {
+                    results.add(executor.submit(
+                            () -> processSheetSafely(configuration.spreadsheetId(), sheetConfiguration)));
+                }
+                for (Future<Boolean> result : results) {
+                    if (awaitSheet(result)) {
+                        processedCount++;
+                    } else {
+                        errorCount++;
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
         }
 
         int finalProcessedCount = processedCount;
         int finalErrorCount = errorCount;
         logger.info(() -> String.format("%s processed %d sheets successfully, %d with errors",
                 getStrategyName(), finalProcessedCount, finalErrorCount));
+        if (rowFingerprintRepository != null) {
+            SheetRowChanges.Summary summary;
+            synchronized (this) {
+                summary = rowChangeSummary;
+            }
+            logger.info(() -> String.format("%s rows: %s", getStrategyName(), summary));
+        }
+    }
+
+    /**
+     * Sets how many sheets are processed at the same time. Defaults to one, processing sheets in order.
+     *
+     * @param sheetParallelism The maximum number of sheets processed at once, at least one
+     */
+    public void setSheetParallelism(int sheetParallelism) {
+        if (sheetParallelism < 1) {
+            throw new IllegalArgumentException("Sheet parallelism must be at least 1");
+        }
+        this.sheetParallelism = sheetParallelism;
+    }
+
+    /**
+     * Runs database work of a sheet while no other sheet of this strategy writes, so sheets processed in
+     * parallel share a single writer. Reads may run outside of it.
+     *
+     * @param write The writes, typically one transaction
+     */
+    protected void writeSerially(Runnable write) {
+        writerLock.lock();
+        try {
+            write.run();
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    /**
+     * Processes one sheet, logging instead of throwing errors.
+     *
+     * @return true if the sheet was processed without error
+     */
+    private boolean processSheetSafely(String spreadsheetId, SheetConfiguration sheetConfiguration) {
+        try {
+            logger.fine(() -> String.format("Processing sheet: %s", sheetConfiguration.title()));
+            processSheet(spreadsheetId, sheetConfiguration);
+            return true;
+        } catch (Exception e) {
+            logger.log(Level.WARNING,
+                    String.format("Error processing sheet %s: %s",
+                            sheetConfiguration.title(), e.getMessage()), e);
+            // Continue with other sheets despite this error
+            return false;
+        }
+    }
+
+    private boolean awaitSheet(Future<Boolean> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            logger.log(Level.WARNING, "Error processing sheet", e.getCause());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            return false;
+        }
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Compares the rows read from a sheet with their fingerprints from the previous run.
+     * Pass the result to {@link SheetRowChanges#withoutUnchangedRows(List)} to skip unchanged rows and to
+     * {@link #saveRowChanges(SheetRowChanges)} once the changed rows have been saved.
+     * Without a fingerprint store, every row is reported as new.
+     *
+     * @param sheetTitle Title of the sheet
+     * @param valueRanges The columns read from the sheet, all starting at the same row
+     * @return The new, changed, deleted and unchanged rows
+     */
+    protected SheetRowChanges detectRowChanges(String sheetTitle, List<ValueRange> valueRanges) {
+        Map<Integer, Long> stored = rowFingerprintRepository != null
+                ? rowFingerprintRepository.findBySheet(getFingerprintScope(), sheetTitle)
+                : Map.of();
+        SheetRowChanges changes = SheetRowChanges.compare(getFingerprintScope(), sheetTitle, valueRanges, stored);
+        synchronized (this) {
+            rowChangeSummary = rowChangeSummary.plus(changes.summary());
+        }
+        logger.info(() -> String.format("Rows of sheet %s: %s", sheetTitle, changes.summary()));
+        return changes;
+    }
+
+    /**
+     * Stores the fingerprints of new and changed rows. Call in the same transaction that saves the rows,
+     * so a failed save leaves them to be processed again on the next run.
+     *
+     * @param changes The result of {@link #detectRowChanges(String, List)}
+     */
+    protected void saveRowChanges(SheetRowChanges changes) {
+        if (rowFingerprintRepository != null && changes.hasChanges()) {
+            rowFingerprintRepository.update(changes.getScope(), changes.getSheetTitle(),
+                    changes.getFingerprintsToStore(), changes.getDeletedRows());
+        }
+    }
+
+    /**
+     * Gets the name under which this strategy's row fingerprints are stored.
+     * Strategies reading different columns must use different scopes.
+     */
+    protected String getFingerprintScope() {
+        return getClass().getSimpleName();
     }
 
     /**
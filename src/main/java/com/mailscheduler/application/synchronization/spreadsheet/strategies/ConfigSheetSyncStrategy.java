@@ -1,6 +1,7 @@
 package com.mailscheduler.application.synchronization.spreadsheet.strategies;
 
 import com.google.api.services.sheets.v4.model.ValueRange;
+import com.mailscheduler.application.synchronization.template.TemplateCompiler;
 import com.mailscheduler.application.synchronization.spreadsheet.gateway.SpreadsheetGateway;
 import com.mailscheduler.domain.factory.FollowUpPlanFactory;
 import com.mailscheduler.domain.model.common.base.EntityId;
@@ -754,10 +755,11 @@ public class ConfigSheetSyncStrategy extends AbstractSpreadsheetSynchronizationS
                 new HashMap<>(placeholderManager.getPlaceholders())
         );
 
-        // Update template with new placeholder manager
+        // Update template with new placeholder manager; the delimiters may have changed, so compile again
         return new Template.Builder()
                 .from(template)
                 .setPlaceholderManager(templatePlaceholderManager)
+                .setCompiled(TemplateCompiler.compile(template.getBody(), templatePlaceholderManager))
                 .build();
     }
 
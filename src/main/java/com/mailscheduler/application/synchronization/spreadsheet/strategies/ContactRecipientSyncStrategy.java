@@ -6,6 +6,7 @@ import com.mailscheduler.application.synchronization.spreadsheet.RecipientSpread
 import com.mailscheduler.application.synchronization.spreadsheet.gateway.SpreadsheetGateway;
 import com.mailscheduler.domain.model.common.base.EntityId;
 import com.mailscheduler.domain.model.common.base.NoMetadata;
+import com.mailscheduler.domain.model.common.vo.email.EmailAddress;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.ColumnMapping;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SheetConfiguration;
@@ -16,11 +17,14 @@ import com.mailscheduler.domain.model.recipient.RecipientMetadata;
 import com.mailscheduler.domain.repository.ContactRepository;
 import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.domain.repository.RecipientRepository;
+import com.mailscheduler.domain.repository.RowFingerprintRepository;
 import com.mailscheduler.infrastructure.google.sheet.mapper.SpreadsheetContactMapper;
 import com.mailscheduler.infrastructure.google.sheet.mapper.SpreadsheetRecipientMapper;
+import com.mailscheduler.infrastructure.persistence.database.TransactionTemplate;
 
 import java.util.*;
 import java.util.logging.Level;
+import java.util.stream.Stream;
 
 /**
  * Strategy for synchronizing contact and recipient data between a spreadsheet and the local database.
@@ -34,6 +38,7 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
     private final ColumnMappingService mappingService;
     private final SpreadsheetContactMapper contactMapper;
     private final SpreadsheetRecipientMapper recipientMapper;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Creates a new ContactRecipientSyncStrategy with the necessary dependencies.
@@ -42,12 +47,15 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
             SpreadsheetGateway spreadsheetGateway,
             ContactRepository contactRepository,
             RecipientRepository recipientRepository,
-            ColumnMappingService mappingService
+            ColumnMappingService mappingService,
+            TransactionTemplate transactionTemplate,
+            RowFingerprintRepository rowFingerprintRepository
     ) {
-        super(spreadsheetGateway);
+        super(spreadsheetGateway, rowFingerprintRepository);
         this.contactRepository = Objects.requireNonNull(contactRepository, "ContactRepository cannot be null");
         this.recipientRepository = Objects.requireNonNull(recipientRepository, "RecipientRepository cannot be null");
         this.mappingService = Objects.requireNonNull(mappingService, "ColumnMappingService cannot be null");
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate, "TransactionTemplate cannot be null");
         this.contactMapper = new SpreadsheetContactMapper();
         this.recipientMapper = new SpreadsheetRecipientMapper();
     }
@@ -77,15 +85,30 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
             return;
         }
 
-        // Process contacts first
-        List<Contact> contacts = contactMapper.buildContactsFromColumns(valueRanges, sheetConfiguration.title());
-        int contactCount = processContacts(contacts);
-        logger.info("Processed " + contactCount + " contacts from sheet: " + sheetConfiguration.title());
+        // Rows whose fingerprint is unchanged since the previous run are neither mapped nor compared
+        SheetRowChanges rowChanges = detectRowChanges(sheetConfiguration.title(), valueRanges);
+        if (!rowChanges.hasChanges()) {
+            logger.info("No changed rows in sheet: " + sheetConfiguration.title());
+            return;
+        }
+        List<ValueRange> changedRanges = rowChanges.withoutUnchangedRows(valueRanges);
+
+        List<Contact> contacts = contactMapper.buildContactsFromColumns(changedRanges, sheetConfiguration.title());
+        List<RecipientSpreadsheetEntry> recipientEntries = recipientMapper.buildRecipientsFromColumns(changedRanges);
+
+        // One query each for the contacts and recipients already stored for this sheet
+        SheetIndex index = loadSheetIndex(sheetConfiguration.title());
 
-        // Then process recipients
-        List<RecipientSpreadsheetEntry> recipientEntries = recipientMapper.buildRecipientsFromColumns(valueRanges);
-        int recipientCount = processRecipients(recipientEntries);
-        logger.info("Processed " + recipientCount + " recipient entries from sheet: " + sheetConfiguration.title());
+        // Contacts first, since new recipients need the IDs of new contacts; both in one transaction
+        writeSerially(() -> transactionTemplate.executeWithoutResult(() -> {
+            int contactCount = processContacts(contacts, index);
+            logger.info("Processed " + contactCount + " contacts from sheet: " + sheetConfiguration.title());
+
+            int recipientCount = processRecipients(recipientEntries, sheetConfiguration.title(), index);
+            logger.info("Processed " + recipientCount + " recipient entries from sheet: " + sheetConfiguration.title());
+
+            saveRowChanges(rowChanges);
+        }));
     }
 
     @Override
@@ -120,80 +143,101 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
 
         return references;    }
 
+    /**
+     * Loads the stored contacts and recipients of a sheet into hash maps.
+     *
+     * @param sheetTitle Title of the sheet
+     * @return Contacts by sheet row and recipients by contact and email address
+     */
+    private SheetIndex loadSheetIndex(String sheetTitle) {
+        SheetIndex index = new SheetIndex();
+        try (Stream<EntityData<Contact, NoMetadata>> sheetContacts = contactRepository.streamBySheetTitle(sheetTitle)) {
+            sheetContacts.forEach(data -> index.putContact(data.entity()));
+        }
+        for (EntityData<Recipient, RecipientMetadata> data : recipientRepository.findBySheetTitle(sheetTitle)) {
+            index.putRecipient(data);
+        }
+        logger.fine(() -> String.format("Loaded %d contacts and %d recipients of sheet %s",
+                index.contactsByRow.size(), index.recipientsByContactAndEmail.size(), sheetTitle));
+        return index;
+    }
+
     /**
      * Processes contact data, updating existing contacts or creating new ones as needed.
+     * All changes are written in a single batch; the index is updated with the saved contacts.
      *
      * @param contacts List of contacts parsed from the spreadsheet
+     * @param index The stored contacts and recipients of the sheet
      * @return Number of contacts processed
      */
-    private int processContacts(List<Contact> contacts) {
+    private int processContacts(List<Contact> contacts, SheetIndex index) {
         if (contacts.isEmpty()) {
             return 0;
         }
 
         int createdCount = 0;
         int updatedCount = 0;
+        int unchangedCount = 0;
+        List<EntityData<Contact, NoMetadata>> pendingSaves = new ArrayList<>();
 
         for (Contact contact : contacts) {
-            if (contact == null) {
+            if (contact == null || contact.getSpreadsheetRow() == null) {
                 continue;
             }
 
-            // Find existing contact by row number
-            Optional<Contact> existingContactOpt = contactRepository.findBySpreadsheetRow(
-                    contact.getSpreadsheetRow().extractRowNumber());
-
-            if (existingContactOpt.isPresent()) {
-                if (updateExistingContact(existingContactOpt.get(), contact)) {
-                    updatedCount++;
-                }
-            } else {
-                contactRepository.save(contact);
+            Contact existingContact = index.contactsByRow.get(SheetRowKey.of(contact));
+            if (existingContact == null) {
+                pendingSaves.add(EntityData.of(contact, NoMetadata.getInstance()));
                 createdCount++;
+            } else if (updateExistingContact(existingContact, contact)) {
+                pendingSaves.add(EntityData.of(contact, NoMetadata.getInstance()));
+                updatedCount++;
+            } else {
+                unchangedCount++;
             }
         }
 
-        logger.info(String.format("Contacts: created %d, updated %d", createdCount, updatedCount));
+        for (EntityData<Contact, NoMetadata> saved : contactRepository.saveAllWithMetadata(pendingSaves)) {
+            index.putContact(saved.entity());
+        }
+
+        logger.info(String.format("Contacts: created %d, updated %d, unchanged %d",
+                createdCount, updatedCount, unchangedCount));
         return createdCount + updatedCount;
     }
 
     /**
-     * Updates an existing contact with new data if needed.
+     * Prepares an existing contact for an update with new data if needed.
      *
      * @param existingContact The existing contact from the database
      * @param newContact The new contact data from the spreadsheet
-     * @return true if the contact was updated, false if no changes were needed
+     * @return true if the contact needs to be saved, false if no changes were needed
      */
     private boolean updateExistingContact(Contact existingContact, Contact newContact) {
-        if (existingContact.equals(newContact)) {
-            return false; // No changes needed
-        }
-
-        // Preserve the existing ID
+        // Preserve the existing ID; entities are only equal when their IDs match
         newContact.setId(existingContact.getId());
-        contactRepository.save(newContact);
-        return true;
+        return !existingContact.equals(newContact);
     }
 
     /**
      * Processes recipient entries, linking them to their contacts and creating or updating as needed.
      *
      * @param recipientEntries List of recipient entries parsed from the spreadsheet
+     * @param sheetTitle Title of the sheet the entries were read from
+     * @param index The stored contacts and recipients of the sheet, including the contacts just saved
      * @return Number of recipient entries processed
      */
-    private int processRecipients(List<RecipientSpreadsheetEntry> recipientEntries) {
+    private int processRecipients(List<RecipientSpreadsheetEntry> recipientEntries, String sheetTitle, SheetIndex index) {
         if (recipientEntries.isEmpty()) {
             return 0;
         }
 
-        // Create mapping from row number to contact ID
-        Map<Integer, Long> rowToContactIdMap = createRowToContactIdMap();
-
         int totalRecipients = 0;
         int createdCount = 0;
         int updatedCount = 0;
         int skippedDueToMissingContact = 0;
         int skippedNoChanges = 0;
+        List<EntityData<Recipient, RecipientMetadata>> pendingSaves = new ArrayList<>();
 
         // Process each recipient entry
         for (RecipientSpreadsheetEntry entry : recipientEntries) {
@@ -201,16 +245,15 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
                 continue;
             }
 
-            Long contactId = rowToContactIdMap.get(entry.spreadsheetRow());
-            if (contactId == null) {
+            Contact contact = index.contactsByRow.get(new SheetRowKey(sheetTitle, entry.spreadsheetRow()));
+            if (contact == null || contact.getId() == null) {
                 logger.warning("No contact found for row: " + entry.spreadsheetRow());
                 skippedDueToMissingContact += entry.recipients().size();
                 continue;
             }
 
             // Process all recipients for this entry
-            RecipientMetadata metadata = createRecipientMetadata(contactId);
-            EntityId<Contact> contactEntityId = EntityId.of(contactId);
+            RecipientMetadata metadata = createRecipientMetadata(contact.getId());
 
             for (Recipient recipient : entry.recipients()) {
                 if (recipient == null) {
@@ -219,7 +262,7 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
 
                 totalRecipients++;
 
-                RecipientProcessResult result = processRecipient(recipient, contactEntityId, metadata);
+                RecipientProcessResult result = processRecipient(recipient, metadata, index, pendingSaves);
                 switch (result) {
                     case CREATED -> createdCount++;
                     case UPDATED -> updatedCount++;
@@ -228,6 +271,9 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
             }
         }
 
+        // Upsert so that an address listed twice for the same contact does not violate the unique key
+        recipientRepository.upsertAll(pendingSaves);
+
         logger.info(String.format("Recipients: created %d, updated %d, unchanged %d, skipped due to missing contact %d (total: %d)",
                 createdCount, updatedCount, skippedNoChanges, skippedDueToMissingContact, totalRecipients));
         return totalRecipients - skippedDueToMissingContact;
@@ -242,83 +288,99 @@ public class ContactRecipientSyncStrategy extends AbstractSpreadsheetSynchroniza
         NO_CHANGES
     }
 
-
-    /**
-     * Creates a mapping from spreadsheet row numbers to contact IDs.
-     *
-     * @return Map of row numbers to contact IDs
-     */
-    private Map<Integer, Long> createRowToContactIdMap() {
-        List<EntityData<Contact, NoMetadata>> allSavedContacts = contactRepository.findAllWithMetadata();
-        Map<Integer, Long> rowToContactIdMap = new HashMap<>();
-
-        for (EntityData<Contact, NoMetadata> contactData : allSavedContacts) {
-            Contact contact = contactData.entity();
-            if (contact != null && contact.getSpreadsheetRow() != null) {
-                rowToContactIdMap.put(
-                        contact.getSpreadsheetRow().extractRowNumber(),
-                        contact.getId().value()
-                );
-            }
-        }
-
-        return rowToContactIdMap;
-    }
-
     /**
      * Creates metadata for a recipient.
      *
      * @param contactId The ID of the contact associated with the recipient
      * @return RecipientMetadata object
      */
-    private RecipientMetadata createRecipientMetadata(Long contactId) {
+    private RecipientMetadata createRecipientMetadata(EntityId<Contact> contactId) {
         return new RecipientMetadata.Builder()
-                .contactId(EntityId.of(contactId))
+                .contactId(contactId)
                 .followupPlanId(EntityId.of(DEFAULT_FOLLOWUP_PLAN_ID))
                 .build();
     }
 
     /**
-     * Processes a single recipient, updating if it exists or creating if it doesn't.
+     * Processes a single recipient, queueing an update if it exists or a creation if it doesn't.
      *
      * @param recipient The recipient to process
-     * @param contactId The ID of the contact associated with the recipient
      * @param metadata The metadata to associate with the recipient
+     * @param index The stored recipients of the sheet; queued recipients are added to it
+     * @param pendingSaves Collects the recipients that need to be saved
      * @return Result indicating whether recipient was created, updated, or unchanged
      */
-    private RecipientProcessResult processRecipient(Recipient recipient, EntityId<Contact> contactId, RecipientMetadata metadata) {
-        List<EntityData<Recipient, RecipientMetadata>> existingRecipients =
-                recipientRepository.findByContactId(contactId);
-
-        // Check if recipient already exists
-        Optional<EntityData<Recipient, RecipientMetadata>> existingRecipientOpt = existingRecipients.stream()
-                .filter(r -> r.entity().getEmailAddress().equals(recipient.getEmailAddress()))
-                .findFirst();
-
-        if (existingRecipientOpt.isPresent()) {
-            // Recipient exists - check if update is needed
-            EntityData<Recipient, RecipientMetadata> existingData = existingRecipientOpt.get();
-            Recipient existingRecipient = existingData.entity();
-
-            if (existingRecipient.equals(recipient)) {
-                // No changes needed
-                return RecipientProcessResult.NO_CHANGES;
-            } else {
-                Recipient updatedRecipient = new Recipient.Builder()
-                        .from(existingRecipient)
-                        .setSalutation(recipient.getSalutation())
-                        .setHasReplied(recipient.hasReplied())
-                        .setInitialContactDate(recipient.getInitialContactDate())
-                        .build();
-
-                recipientRepository.updateWithMetadata(updatedRecipient, existingData.metadata());
-                return RecipientProcessResult.UPDATED;
-            }
-        } else {
+    private RecipientProcessResult processRecipient(
+            Recipient recipient,
+            RecipientMetadata metadata,
+            SheetIndex index,
+            List<EntityData<Recipient, RecipientMetadata>> pendingSaves
+    ) {
+        ContactEmailKey key = new ContactEmailKey(metadata.contactId().value(), recipient.getEmailAddress());
+        EntityData<Recipient, RecipientMetadata> existingData = index.recipientsByContactAndEmail.get(key);
+
+        if (existingData == null) {
             // Create new recipient
-            recipientRepository.saveWithMetadata(recipient, metadata);
+            EntityData<Recipient, RecipientMetadata> created = EntityData.of(recipient, metadata);
+            pendingSaves.add(created);
+            index.recipientsByContactAndEmail.put(key, created);
             return RecipientProcessResult.CREATED;
         }
+
+        // Recipient exists - check if update is needed
+        Recipient existingRecipient = existingData.entity();
+        Recipient updatedRecipient = new Recipient.Builder()
+                .from(existingRecipient)
+                .setSalutation(recipient.getSalutation())
+                // Replies detected in the inbox are only stored in the database, so the sheet cannot undo them
+                .setHasReplied(existingRecipient.hasReplied() || recipient.hasReplied())
+                .setInitialContactDate(recipient.getInitialContactDate())
+                .build();
+
+        if (existingRecipient.equals(updatedRecipient)) {
+            // No changes needed
+            return RecipientProcessResult.NO_CHANGES;
+        }
+
+        EntityData<Recipient, RecipientMetadata> updated = EntityData.of(updatedRecipient, existingData.metadata());
+        pendingSaves.add(updated);
+        index.recipientsByContactAndEmail.put(key, updated);
+        return RecipientProcessResult.UPDATED;
+    }
+
+    /**
+     * Identifies a contact by the sheet and row it was imported from.
+     */
+    private record SheetRowKey(String sheetTitle, int row) {
+        static SheetRowKey of(Contact contact) {
+            return new SheetRowKey(contact.getSheetTitle(), contact.getSpreadsheetRow().extractRowNumber());
+        }
+    }
+
+    /**
+     * Identifies a recipient by its contact and email address, the natural key of the recipients table.
+     */
+    private record ContactEmailKey(long contactId, EmailAddress emailAddress) {
+    }
+
+    /**
+     * The stored contacts and recipients of one sheet.
+     */
+    private static final class SheetIndex {
+        private final Map<SheetRowKey, Contact> contactsByRow = new HashMap<>();
+        private final Map<ContactEmailKey, EntityData<Recipient, RecipientMetadata>> recipientsByContactAndEmail =
+                new HashMap<>();
+
+        void putContact(Contact contact) {
+            if (contact != null && contact.getSpreadsheetRow() != null) {
+                contactsByRow.put(SheetRowKey.of(contact), contact);
+            }
+        }
+
+        void putRecipient(EntityData<Recipient, RecipientMetadata> data) {
+            recipientsByContactAndEmail.put(
+                    new ContactEmailKey(data.metadata().contactId().value(), data.entity().getEmailAddress()), data);
+        }
     }
 
     @Override
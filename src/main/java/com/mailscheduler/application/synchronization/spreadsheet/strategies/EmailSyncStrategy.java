@@ -18,6 +18,7 @@ import com.mailscheduler.domain.repository.EmailRepository;
 import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.domain.repository.RecipientRepository;
 import com.mailscheduler.infrastructure.google.sheet.mapper.SpreadsheetEmailMapper;
+import com.mailscheduler.util.LongIntHashMap;
 
 import java.util.*;
 import java.util.logging.Level;
@@ -32,6 +33,11 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
     private final ColumnMappingService mappingService;
     private final SpreadsheetEmailMapper emailMapper;
 
+    /**
+     * Lookups and queued saves of the running synchronization; null between runs.
+     */
+    private LinkState linkState;
+
     /**
      * Creates a new EmailSyncStrategy with the required dependencies.
      */
@@ -53,6 +59,13 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
         return "Email Synchronization Strategy";
     }
 
+    @Override
+    protected void processSheetsInSpreadsheet(SpreadsheetConfiguration configuration) {
+        // Lookups are loaded on the first sheet with emails, so they reflect the contacts synced just before
+        linkState = null;
+        super.processSheetsInSpreadsheet(configuration);
+    }
+
     @Override
     protected void processSheet(String spreadsheetId, SheetConfiguration sheetConfiguration) {
         logger.info("Processing emails for sheet: " + sheetConfiguration.title());
@@ -82,36 +95,44 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
             return;
         }
 
-        // Link emails to their recipients and save to repository
-        linkEmailsToRecipients(emails);
+        // Link emails to their recipients; they are saved together after the last sheet
+        writeSerially(() -> linkEmailsToRecipients(emails));
     }
 
     @Override
     protected void doPostProcessing(SpreadsheetConfiguration configuration) {
+        try {
+            saveLinkedEmails();
+        } finally {
+            linkState = null;
+        }
+
         // After all sheets are processed, link follow-up emails
         linkFollowUpEmails();
     }
 
     /**
-     * Links emails to their corresponding recipients based on email addresses.
+     * Links emails to their corresponding recipients based on email addresses, entirely in memory.
+     * The linked emails are queued and saved by {@link #saveLinkedEmails()}.
      *
      * @param emails The list of email data to process
      */
     private void linkEmailsToRecipients(List<EntityData<Email, EmailMetadata>> emails) {
-        // Create a mapping from email address to recipient ID
-        Map<EmailAddress, Long> emailAddressToRecipientIdMap = createRecipientEmailAddressMap();
+        if (linkState == null) {
+            linkState = LinkState.load(recipientRepository, emailRepository);
+        }
+        LinkState state = linkState;
 
         int linkedCount = 0;
         int skippedCount = 0;
 
-        // Link emails to recipients and save to repository
         for (EntityData<Email, EmailMetadata> emailData : emails) {
             Email email = emailData.entity();
             EmailMetadata metadata = emailData.metadata();
             int curFollowupNumber = metadata.followupNumber();
 
             // Find the recipient ID for this email's recipient address
-            Long recipientId = emailAddressToRecipientIdMap.get(email.getRecipient());
+            Long recipientId = state.recipientIdsByAddress.get(email.getRecipient());
             if (recipientId == null) {
                 logger.warning("No recipient found for email address: " + email.getRecipient());
                 skippedCount++;
@@ -119,8 +140,8 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
             }
 
             // If the recipient already has linked emails, skip linking
-            var existingEmails = emailRepository.findByRecipientId(EntityId.of(recipientId));
-            if (curFollowupNumber < existingEmails.size()) {
+            int linkedEmailCount = state.emailCountsByRecipientId.getOrDefault(recipientId, 0);
+            if (curFollowupNumber < linkedEmailCount) {
                 logger.info(String.format(
                         "Skipping email %s for recipient %s because it is not the next follow-up email",
                         email.getId(), recipientId));
@@ -128,15 +149,14 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
                 continue;
             }
 
-
             // Update the metadata with the recipient ID
             EmailMetadata updatedMetadata = new EmailMetadata.Builder()
                     .from(metadata)
                     .recipientId(EntityId.of(recipientId))
                     .build();
 
-            // Save the email with updated metadata
-            emailRepository.saveWithMetadata(email, updatedMetadata);
+            state.pendingSaves.add(EntityData.of(email, updatedMetadata));
+            state.emailCountsByRecipientId.put(recipientId, linkedEmailCount + 1);
             linkedCount++;
         }
 
@@ -144,25 +164,45 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
     }
 
     /**
-     * Creates a mapping from recipient email addresses to their entity IDs.
-     *
-     * @return Map of email addresses to recipient IDs
+     * Saves the emails linked from all sheets in a single batch.
      */
-    private Map<EmailAddress, Long> createRecipientEmailAddressMap() {
-        List<EntityData<Recipient, RecipientMetadata>> recipients = recipientRepository.findAllWithMetadata();
-        Map<EmailAddress, Long> emailAddressToIdMap = new HashMap<>();
-
-        for (EntityData<Recipient, RecipientMetadata> recipientData : recipients) {
-            Recipient recipient = recipientData.entity();
-            if (recipient != null && recipient.getEmailAddress() != null) {
-                emailAddressToIdMap.put(
-                        recipient.getEmailAddress(),
-                        recipient.getId().value()
-                );
-            }
+    private void saveLinkedEmails() {
+        if (linkState == null || linkState.pendingSaves.isEmpty()) {
+            return;
         }
+        emailRepository.saveAllWithMetadata(linkState.pendingSaves);
+        logger.info("Saved " + linkState.pendingSaves.size() + " linked emails");
+    }
 
-        return emailAddressToIdMap;
+    /**
+     * Recipient lookups shared by all sheets of one synchronization, loaded with one query each.
+     */
+    private static final class LinkState {
+        private final Map<EmailAddress, Long> recipientIdsByAddress;
+        /**
+         * Emails per recipient ID, stored and queued.
+         */
+        private final LongIntHashMap emailCountsByRecipientId;
+        private final List<EntityData<Email, EmailMetadata>> pendingSaves = new ArrayList<>();
+
+        private LinkState(Map<EmailAddress, Long> recipientIdsByAddress, LongIntHashMap emailCountsByRecipientId) {
+            this.recipientIdsByAddress = recipientIdsByAddress;
+            this.emailCountsByRecipientId = emailCountsByRecipientId;
+        }
+
+        static LinkState load(RecipientRepository recipientRepository, EmailRepository emailRepository) {
+            Map<EmailAddress, Long> recipientIdsByAddress = new HashMap<>();
+            for (EntityData<Recipient, RecipientMetadata> recipientData : recipientRepository.findAllWithMetadata()) {
+                Recipient recipient = recipientData.entity();
+                if (recipient != null && recipient.getEmailAddress() != null) {
+                    recipientIdsByAddress.put(recipient.getEmailAddress(), recipient.getId().value());
+                }
+            }
+            Map<Long, Integer> emailCounts = emailRepository.countByRecipientId();
+            LongIntHashMap emailCountsByRecipientId = new LongIntHashMap(emailCounts.size());
+            emailCounts.forEach(emailCountsByRecipientId::put);
+            return new LinkState(recipientIdsByAddress, emailCountsByRecipientId);
+        }
     }
 
     /**
@@ -192,6 +232,7 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
      */
     private Map<EntityId<Recipient>, EntityId<Email>> mapInitialEmails(List<EntityData<Email, EmailMetadata>> allEmails) {
         Map<EntityId<Recipient>, EntityId<Email>> recipientToInitialEmailMap = new HashMap<>();
+        List<EntityData<Email, EmailMetadata>> pendingSaves = new ArrayList<>();
         int initialEmailCount = 0;
 
         for (EntityData<Email, EmailMetadata> emailData : allEmails) {
@@ -209,7 +250,7 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
                         .initialEmailId(email.getId())
                         .build();
 
-                emailRepository.saveWithMetadata(email, updatedMetadata);
+                pendingSaves.add(EntityData.of(email, updatedMetadata));
 
                 // Add to map for follow-up processing
                 recipientToInitialEmailMap.put(
@@ -220,6 +261,7 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
             }
         }
 
+        emailRepository.saveAllWithMetadata(pendingSaves);
         logger.info("Processed " + initialEmailCount + " initial emails");
         return recipientToInitialEmailMap;
     }
@@ -233,6 +275,7 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
     private void linkFollowUpEmailsToInitial(
             List<EntityData<Email, EmailMetadata>> allEmails,
             Map<EntityId<Recipient>, EntityId<Email>> recipientToInitialEmailMap) {
+        List<EntityData<Email, EmailMetadata>> pendingSaves = new ArrayList<>();
         int followUpCount = 0;
 
         for (EntityData<Email, EmailMetadata> emailData : allEmails) {
@@ -257,11 +300,12 @@ public class EmailSyncStrategy extends AbstractSpreadsheetSynchronizationStrateg
                         .initialEmailId(initialEmailId)
                         .build();
 
-                emailRepository.saveWithMetadata(email, updatedMetadata);
+                pendingSaves.add(EntityData.of(email, updatedMetadata));
                 followUpCount++;
             }
         }
 
+        emailRepository.saveAllWithMetadata(pendingSaves);
         logger.info("Linked " + followUpCount + " follow-up emails");
     }
 
@@ -0,0 +1,239 @@
+package com.mailscheduler.application.synchronization.spreadsheet.strategies;
+
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.mailscheduler.util.SpreadsheetColumns;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The rows of a sheet that are new, changed, deleted or unchanged since the previous synchronization,
+ * determined by comparing row fingerprints.
+ * <p>
+ *     A fingerprint is a 64-bit FNV-1a hash of the cell values a strategy read from a row, seeded with the
+ *     indices of the columns read, so changing the column mapping invalidates all fingerprints. Empty rows
+ *     have no fingerprint; a row that had one and is now empty or gone counts as deleted.
+ * </p>
+ */
+final class SheetRowChanges {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char CELL_SEPARATOR = '\u001f';
+    private static final char NULL_CELL = '\u001e';
+
+    private final String scope;
+    private final String sheetTitle;
+    private final Map<Integer, Long> fingerprintsToStore;
+    private final Set<Integer> unchangedRows;
+    private final List<Integer> deletedRows;
+    private final int newRows;
+    private final int changedRows;
+
+    /**
+     * Counts of one or more compared sheets.
+     *
+     * @param newRows rows without a stored fingerprint
+     * @param changedRows rows whose fingerprint differs from the stored one
+     * @param deletedRows rows with a stored fingerprint that are now empty or gone
+     * @param skippedRows rows whose fingerprint is unchanged, so they are not mapped or saved
+     */
+    record Summary(int newRows, int changedRows, int deletedRows, int skippedRows) {
+        static final Summary EMPTY = new Summary(0, 0, 0, 0);
+
+        Summary plus(Summary other) {
+            return new Summary(newRows + other.newRows, changedRows + other.changedRows,
+                    deletedRows + other.deletedRows, skippedRows + other.skippedRows);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d new, %d changed, %d deleted, %d skipped",
+                    newRows, changedRows, deletedRows, skippedRows);
+        }
+    }
+
+    private SheetRowChanges(String scope, String sheetTitle, Map<Integer, Long> fingerprintsToStore,
+                            Set<Integer> unchangedRows, List<Integer> deletedRows, int newRows, int changedRows) {
+        this.scope = scope;
+        this.sheetTitle = sheetTitle;
+        this.fingerprintsToStore = fingerprintsToStore;
+        this.unchangedRows = unchangedRows;
+        this.deletedRows = deletedRows;
+        this.newRows = newRows;
+        this.changedRows = changedRows;
+    }
+
+    /**
+     * Compares the rows read from a sheet with the stored fingerprints.
+     *
+     * @param scope The strategy the fingerprints belong to
+     * @param sheetTitle The title of the sheet
+     * @param valueRanges The columns read from the sheet, all starting at the same row
+     * @param storedFingerprints The fingerprints of the previous run by row number
+     */
+    static SheetRowChanges compare(String scope, String sheetTitle, List<ValueRange> valueRanges,
+                                   Map<Integer, Long> storedFingerprints) {
+        long seed = FNV_OFFSET_BASIS;
+        int rowCount = 0;
+        for (ValueRange valueRange : valueRanges) {
+            seed = hash(hash(seed, Integer.toString(columnIndexOf(valueRange))), CELL_SEPARATOR);
+            if (valueRange.getValues() != null) {
+                rowCount = Math.max(rowCount, valueRange.getValues().size());
+            }
+        }
+        int firstRow = valueRanges.isEmpty() ? 1 : firstRowOf(valueRanges.get(0));
+
+        Map<Integer, Long> fingerprintsToStore = new HashMap<>();
+        Set<Integer> unchangedRows = new HashSet<>();
+        Set<Integer> presentRows = new HashSet<>();
+        int newRows = 0;
+        int changedRows = 0;
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            Long fingerprint = fingerprint(seed, valueRanges, rowIndex);
+            if (fingerprint == null) {
+                continue;
+            }
+
+            int row = firstRow + rowIndex;
+            presentRows.add(row);
+            Long stored = storedFingerprints.get(row);
+            if (stored == null) {
+                newRows++;
+                fingerprintsToStore.put(row, fingerprint);
+            } else if (stored.longValue() != fingerprint) {
+                changedRows++;
+                fingerprintsToStore.put(row, fingerprint);
+            } else {
+                unchangedRows.add(row);
+            }
+        }
+
+        List<Integer> deletedRows = new ArrayList<>();
+        for (Integer row : storedFingerprints.keySet()) {
+            if (!presentRows.contains(row)) {
+                deletedRows.add(row);
+            }
+        }
+
+        return new SheetRowChanges(scope, sheetTitle, fingerprintsToStore, unchangedRows, deletedRows,
+                newRows, changedRows);
+    }
+
+    /**
+     * Copies the value ranges with the cells of unchanged rows removed, so mappers skip those rows as empty.
+     */
+    List<ValueRange> withoutUnchangedRows(List<ValueRange> valueRanges) {
+        if (unchangedRows.isEmpty()) {
+            return valueRanges;
+        }
+
+        List<ValueRange> filtered = new ArrayList<>(valueRanges.size());
+        for (ValueRange valueRange : valueRanges) {
+            List<List<Object>> values = valueRange.getValues();
+            if (values == null) {
+                filtered.add(valueRange);
+                continue;
+            }
+
+            int firstRow = firstRowOf(valueRange);
+            List<List<Object>> remaining = new ArrayList<>(values.size());
+            for (int rowIndex = 0; rowIndex < values.size(); rowIndex++) {
+                remaining.add(unchangedRows.contains(firstRow + rowIndex) ? List.of() : values.get(rowIndex));
+            }
+            filtered.add(new ValueRange()
+                    .setRange(valueRange.getRange())
+                    .setMajorDimension(valueRange.getMajorDimension())
+                    .setValues(remaining));
+        }
+        return filtered;
+    }
+
+    String getScope() {
+        return scope;
+    }
+
+    String getSheetTitle() {
+        return sheetTitle;
+    }
+
+    /**
+     * Gets the fingerprints of new and changed rows.
+     */
+    Map<Integer, Long> getFingerprintsToStore() {
+        return fingerprintsToStore;
+    }
+
+    List<Integer> getDeletedRows() {
+        return deletedRows;
+    }
+
+    boolean hasChanges() {
+        return !fingerprintsToStore.isEmpty() || !deletedRows.isEmpty();
+    }
+
+    Summary summary() {
+        return new Summary(newRows, changedRows, deletedRows.size(), unchangedRows.size());
+    }
+
+    /**
+     * Hashes one row across all columns.
+     *
+     * @return the fingerprint, or null if all cells of the row are empty
+     */
+    private static Long fingerprint(long seed, List<ValueRange> valueRanges, int rowIndex) {
+        long hash = seed;
+        boolean empty = true;
+        for (ValueRange valueRange : valueRanges) {
+            List<List<Object>> column = valueRange.getValues();
+            Object value = null;
+            if (column != null && rowIndex < column.size()) {
+                List<Object> cell = column.get(rowIndex);
+                value = cell != null && !cell.isEmpty() ? cell.get(0) : null;
+            }
+
+            if (value == null || value.toString().isEmpty()) {
+                hash = hash(hash, NULL_CELL);
+            } else {
+                empty = false;
+                hash = hash(hash, value.toString());
+                hash = hash(hash, CELL_SEPARATOR);
+            }
+        }
+        return empty ? null : hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = hash(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, char value) {
+        hash = (hash ^ (value & 0xff)) * FNV_PRIME;
+        return (hash ^ (value >>> 8)) * FNV_PRIME;
+    }
+
+    private static int firstRowOf(ValueRange valueRange) {
+        int row = SpreadsheetColumns.rowIndex(startCellOf(valueRange));
+        return row < 0 ? 1 : row + 1;
+    }
+
+    private static int columnIndexOf(ValueRange valueRange) {
+        return SpreadsheetColumns.toIndex(startCellOf(valueRange));
+    }
+
+    /**
+     * Gets the first cell of a range such as "Sheet!B6:B200", without sheet title and {@code $} anchors.
+     */
+    private static String startCellOf(ValueRange valueRange) {
+        String range = valueRange.getRange() == null ? "" : valueRange.getRange();
+        String cells = range.substring(range.lastIndexOf('!') + 1);
+        return cells.split(":")[0].replace("$", "");
+    }
+}
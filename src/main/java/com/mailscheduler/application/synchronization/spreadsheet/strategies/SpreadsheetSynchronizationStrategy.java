@@ -12,9 +12,10 @@ public interface SpreadsheetSynchronizationStrategy {
      * Synchronizes data from the spreadsheet to the application domain.
      *
      * @param configuration The spreadsheet configuration containing necessary metadata
+     * @return true if the synchronization completed; errors in single sheets are logged and do not count
      * @throws IllegalArgumentException if the configuration is invalid
      */
-    void synchronize(SpreadsheetConfiguration configuration);
+    boolean synchronize(SpreadsheetConfiguration configuration);
 
     /**
      * Returns the name of the strategy for logging and identification purposes.
@@ -0,0 +1,46 @@
+package com.mailscheduler.application.synchronization.template;
+
+import com.mailscheduler.domain.model.common.vo.email.Body;
+import com.mailscheduler.domain.model.template.CompiledTemplate;
+import com.mailscheduler.domain.model.template.Template;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderManager;
+import com.mailscheduler.util.HtmlToText;
+import com.mailscheduler.util.LoomEmbeds;
+
+/**
+ * Produces the compiled form of template bodies when drafts are imported.
+ * <p>
+ *     The Loom embed rewrite and the HTML-to-text conversion run here once per template instead of once per
+ *     outgoing email. Placeholders contain no markup or whitespace, so they pass through both steps unchanged
+ *     and remain as slots in the compiled parts.
+ * </p>
+ */
+public final class TemplateCompiler {
+
+    private TemplateCompiler() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Compiles a template body.
+     *
+     * @param body The template body as imported from the draft
+     * @param placeholderManager The manager providing the placeholder delimiters, may be null for the defaults
+     * @return The compiled body
+     */
+    public static CompiledTemplate compile(Body body, PlaceholderManager placeholderManager) {
+        PlaceholderManager manager = placeholderManager != null ? placeholderManager : new PlaceholderManager();
+        String html = LoomEmbeds.rewrite(body.value());
+        return CompiledTemplate.of(html, HtmlToText.convert(html), manager.getDelimiters());
+    }
+
+    /**
+     * Returns a copy of the template with its compiled form set from its current body.
+     */
+    public static Template compile(Template template) {
+        return new Template.Builder()
+                .from(template)
+                .setCompiled(compile(template.getBody(), template.getPlaceholderManager()))
+                .build();
+    }
+}
@@ -154,14 +154,17 @@ public class TemplateSyncStrategy {
             LOGGER.info(String.format("Updating template '%s' with changes from Gmail draft",
                     template.getSubject().value()));
 
-            Template updatedTemplate = new Template.Builder()
+            Template updatedTemplate = TemplateCompiler.compile(new Template.Builder()
                     .from(template)
                     .setSubject(draft.subject())
                     .setBody(draft.body())
-                    .build();
+                    .build());
 
             templateRepository.saveWithMetadata(updatedTemplate, templateData.metadata());
             stats.templatesUpdated++;
+        } else if (template.getCompiled().isEmpty()) {
+            // Unchanged template imported before templates were compiled
+            templateRepository.saveWithMetadata(TemplateCompiler.compile(template), templateData.metadata());
         }
     }
 
@@ -183,11 +186,11 @@ public class TemplateSyncStrategy {
         // Create a new template from the draft
         LOGGER.info(String.format("Creating new template from Gmail draft: %s", draft.subject().value()));
 
-        Template newTemplate = new Template.Builder()
+        Template newTemplate = TemplateCompiler.compile(new Template.Builder()
                 .setSubject(draft.subject())
                 .setBody(draft.body())
                 .setType(determineTemplateType(draft.subject()))
-                .build();
+                .build());
 
         TemplateMetadata metadata = new TemplateMetadata(draft.id());
         templateRepository.saveWithMetadata(newTemplate, metadata);
@@ -208,10 +211,10 @@ public class TemplateSyncStrategy {
 
             case PREFER_DRAFT:
                 // Update existing template with draft content and link it
-                Template updatedTemplate = new Template.Builder()
+                Template updatedTemplate = TemplateCompiler.compile(new Template.Builder()
                         .from(existingTemplate.entity())
                         .setBody(draft.body())
-                        .build();
+                        .build());
 
                 TemplateMetadata updatedMetadata = new TemplateMetadata(draft.id());
                 templateRepository.saveWithMetadata(updatedTemplate, updatedMetadata);
@@ -221,11 +224,11 @@ public class TemplateSyncStrategy {
             case CREATE_NEW:
                 // Create a new template with a modified name
                 String newSubjectValue = existingTemplate.entity().getSubject().value() + " (Gmail)";
-                Template newTemplate = new Template.Builder()
+                Template newTemplate = TemplateCompiler.compile(new Template.Builder()
                         .setSubject(new Subject(newSubjectValue))
                         .setBody(draft.body())
                         .setType(determineTemplateType(draft.subject()))
-                        .build();
+                        .build());
 
                 TemplateMetadata newMetadata = new TemplateMetadata(draft.id());
                 templateRepository.saveWithMetadata(newTemplate, newMetadata);
@@ -52,6 +52,7 @@ public class EmailFactory {
                 .setSenderEmail(defaultSenderEmail)
                 .setSubject(resolvedTemplate.getSubject())
                 .setBody(resolvedTemplate.getBody())
+                .setPlainTextBody(resolvedTemplate.getPlainTextBody().orElse(null))
                 .setType(EmailType.INITIAL)
                 .build();
 
@@ -91,6 +92,7 @@ public class EmailFactory {
                 .setSenderEmail(defaultSenderEmail)
                 .setSubject(resolvedTemplate.getSubject())
                 .setBody(resolvedTemplate.getBody())
+                .setPlainTextBody(resolvedTemplate.getPlainTextBody().orElse(null))
                 .setType(EmailType.FOLLOW_UP)
                 .build();
 
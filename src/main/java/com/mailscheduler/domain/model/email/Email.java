@@ -7,6 +7,7 @@ import com.mailscheduler.domain.model.common.vo.email.EmailAddress;
 import com.mailscheduler.domain.model.common.vo.email.Subject;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents an email in the system with all its required components.
@@ -21,6 +22,7 @@ public class Email extends IdentifiableEntity<Email> {
     private final Subject subject;
     private final Body body;
     private final EmailType type;
+    private final Body plainTextBody;
 
     /**
      * Creates an email with the specified ID and content.
@@ -40,6 +42,7 @@ public class Email extends IdentifiableEntity<Email> {
         this.subject = subject;
         this.body = body;
         this.type = type;
+        this.plainTextBody = null;
     }
 
     /**
@@ -54,6 +57,7 @@ public class Email extends IdentifiableEntity<Email> {
         this.subject = builder.subject;
         this.body = builder.body;
         this.type = builder.type;
+        this.plainTextBody = builder.plainTextBody;
     }
 
     /**
@@ -72,6 +76,7 @@ public class Email extends IdentifiableEntity<Email> {
         this.subject = subject;
         this.body = body;
         this.type = type;
+        this.plainTextBody = null;
     }
 
     /**
@@ -104,6 +109,15 @@ public class Email extends IdentifiableEntity<Email> {
         return type;
     }
 
+    /**
+     * Gets the plain-text alternative rendered together with the body.
+     *
+     * @return The plain-text body, or empty if it has to be derived from the HTML body
+     */
+    public Optional<Body> getPlainTextBody() {
+        return Optional.ofNullable(plainTextBody);
+    }
+
     /**
      * Checks if this is an initial email.
      *
@@ -129,7 +143,7 @@ public class Email extends IdentifiableEntity<Email> {
      * @return A new Email with the updated recipient
      */
     public Email withRecipient(EmailAddress newRecipient) {
-        return new Email(getId(), sender, newRecipient, subject, body, type);
+        return new Builder().from(this).setRecipientEmail(newRecipient).build();
     }
 
     @Override
@@ -142,6 +156,7 @@ public class Email extends IdentifiableEntity<Email> {
         if (!Objects.equals(recipient, email.recipient)) return false;
         if (!Objects.equals(subject, email.subject)) return false;
         if (!Objects.equals(body, email.body)) return false;
+        if (!Objects.equals(plainTextBody, email.plainTextBody)) return false;
         return type == email.type;
     }
 
@@ -153,6 +168,7 @@ public class Email extends IdentifiableEntity<Email> {
         result = 31 * result + (subject != null ? subject.hashCode() : 0);
         result = 31 * result + (body != null ? body.hashCode() : 0);
         result = 31 * result + (type != null ? type.hashCode() : 0);
+        result = 31 * result + (plainTextBody != null ? plainTextBody.hashCode() : 0);
         return result;
     }
 
@@ -177,6 +193,7 @@ public class Email extends IdentifiableEntity<Email> {
         private Subject subject;
         private Body body;
         private EmailType type;
+        private Body plainTextBody;
 
         public Builder setId(EntityId<Email> id) {
             this.id = id;
@@ -204,12 +221,16 @@ public class Email extends IdentifiableEntity<Email> {
         }
 
         public Builder setBody(String body) {
-            this.body = new Body(body);
-            return this;
+            return setBody(new Body(body));
         }
 
+        /**
+         * Sets the HTML body and drops the plain-text alternative, which no longer matches it.
+         * Set a new one with {@link #setPlainTextBody(Body)} afterwards.
+         */
         public Builder setBody(Body body) {
             this.body = body;
+            this.plainTextBody = null;
             return this;
         }
 
@@ -218,6 +239,11 @@ public class Email extends IdentifiableEntity<Email> {
             return this;
         }
 
+        public Builder setPlainTextBody(Body plainTextBody) {
+            this.plainTextBody = plainTextBody;
+            return this;
+        }
+
         /**
          * Initializes the builder with values from an existing Email.
          *
@@ -231,6 +257,7 @@ public class Email extends IdentifiableEntity<Email> {
             this.subject = email.subject;
             this.body = email.body;
             this.type = email.type;
+            this.plainTextBody = email.plainTextBody;
             return this;
         }
 
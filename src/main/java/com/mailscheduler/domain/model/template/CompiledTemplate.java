@@ -0,0 +1,164 @@
+package com.mailscheduler.domain.model.template;
+
+import com.mailscheduler.domain.model.common.vo.email.Body;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderTemplate;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderTemplate.Segment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pre-rendered form of a template body, split into literal text and placeholder slots.
+ * <p>
+ *     A template is compiled once when it is imported: its HTML is rewritten for sending and the plain-text
+ *     alternative is derived from it. Rendering for a recipient then only concatenates the literal segments
+ *     with the placeholder values, which are HTML-escaped in the HTML part and whitespace-normalized in the
+ *     plain-text part. Placeholders without a value are kept as written.
+ * </p>
+ */
+public final class CompiledTemplate {
+    private final PlaceholderTemplate html;
+    private final PlaceholderTemplate plainText;
+
+    /**
+     * Both parts of a body rendered for one recipient.
+     */
+    public record RenderedBody(Body html, Body plainText) {
+    }
+
+    private CompiledTemplate(String html, String plainText, char[] delimiters) {
+        this.html = PlaceholderTemplate.compile(Objects.requireNonNull(html, "HTML cannot be null"), delimiters);
+        this.plainText = PlaceholderTemplate.compile(
+                Objects.requireNonNull(plainText, "Plain text cannot be null"), delimiters);
+    }
+
+    /**
+     * Compiles the prepared parts of a template body.
+     *
+     * @param html the HTML part, ready to send apart from its placeholders
+     * @param plainText the plain-text alternative, with the same placeholders
+     * @param delimiters the opening and closing placeholder delimiters
+     * @return the compiled template
+     */
+    public static CompiledTemplate of(String html, String plainText, char[] delimiters) {
+        return new CompiledTemplate(html, plainText, delimiters);
+    }
+
+    public String getHtml() {
+        return html.getSource();
+    }
+
+    public String getPlainText() {
+        return plainText.getSource();
+    }
+
+    public List<Segment> getHtmlSegments() {
+        return html.getSegments();
+    }
+
+    public List<Segment> getPlainTextSegments() {
+        return plainText.getSegments();
+    }
+
+    /**
+     * Renders both parts for one recipient.
+     *
+     * @param values placeholder values by key
+     * @return the rendered HTML and plain-text parts
+     */
+    public RenderedBody render(Map<String, String> values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        return new RenderedBody(Body.of(renderHtml(values)), Body.of(renderPlainText(values)));
+    }
+
+    private String renderHtml(Map<String, String> values) {
+        StringBuilder out = new StringBuilder(html.getSource().length() + 16 * values.size());
+        for (Segment segment : html.getSegments()) {
+            if (!segment.placeholder()) {
+                out.append(segment.value());
+                continue;
+            }
+            String value = values.get(segment.value());
+            if (value == null) {
+                out.append(html.token(segment.value()));
+            } else {
+                appendHtmlEscaped(out, value);
+            }
+        }
+        return out.toString();
+    }
+
+    private String renderPlainText(Map<String, String> values) {
+        StringBuilder out = new StringBuilder(plainText.getSource().length() + 16 * values.size());
+        for (Segment segment : plainText.getSegments()) {
+            if (!segment.placeholder()) {
+                appendCollapsed(out, segment.value());
+                continue;
+            }
+            String value = values.get(segment.value());
+            if (value == null) {
+                appendCollapsed(out, plainText.token(segment.value()));
+            } else {
+                appendCollapsed(out, value);
+            }
+        }
+        int end = out.length();
+        if (end > 0 && out.charAt(end - 1) == ' ') {
+            out.setLength(end - 1);
+        }
+        return out.toString();
+    }
+
+    private static void appendHtmlEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Appends text with every run of whitespace reduced to one space, also across calls,
+     * and without leading whitespace.
+     */
+    private static void appendCollapsed(StringBuilder out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                int length = out.length();
+                if (length > 0 && out.charAt(length - 1) != ' ') {
+                    out.append(' ');
+                }
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompiledTemplate that)) return false;
+        return html.equals(that.html) && plainText.equals(that.plainText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(html, plainText);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledTemplate{" +
+                "htmlSegments=" + html.getSegments().size() +
+                ", plainTextSegments=" + plainText.getSegments().size() +
+                '}';
+    }
+}
@@ -21,6 +21,8 @@ public class Template extends IdentifiableEntity<Template> {
     private Subject subject;
     private final Body body;
     private final PlaceholderManager placeholderManager;
+    private final CompiledTemplate compiled;
+    private final Body plainTextBody;
 
     private Template(Builder builder) {
         this.setId(builder.id);
@@ -29,6 +31,8 @@ public class Template extends IdentifiableEntity<Template> {
         this.body = builder.body;
         this.placeholderManager = builder.placeholderManager != null ?
                 builder.placeholderManager : new PlaceholderManager();
+        this.compiled = builder.compiled;
+        this.plainTextBody = builder.plainTextBody;
     }
 
     public TemplateType getType() {
@@ -51,6 +55,24 @@ public class Template extends IdentifiableEntity<Template> {
         return placeholderManager;
     }
 
+    /**
+     * Gets the pre-rendered form of the body, if the template has been compiled.
+     *
+     * @return The compiled body, or empty for templates imported before compilation existed
+     */
+    public Optional<CompiledTemplate> getCompiled() {
+        return Optional.ofNullable(compiled);
+    }
+
+    /**
+     * Gets the plain-text alternative of a body whose placeholders have been resolved.
+     *
+     * @return The plain-text body, or empty if it has to be derived from the HTML body
+     */
+    public Optional<Body> getPlainTextBody() {
+        return Optional.ofNullable(plainTextBody);
+    }
+
     public boolean isEmpty() {
         return subject == null && body == null && placeholderManager == null;
     }
@@ -150,6 +172,8 @@ public class Template extends IdentifiableEntity<Template> {
         private Subject subject;
         private Body body;
         private PlaceholderManager placeholderManager;
+        private CompiledTemplate compiled;
+        private Body plainTextBody;
 
         public Builder setId(EntityId<Template> id) {
             this.id = id;
@@ -166,8 +190,24 @@ public class Template extends IdentifiableEntity<Template> {
             return this;
         }
 
+        /**
+         * Sets the body. The compiled form and plain-text body are derived from the body and are therefore
+         * cleared; set them again afterwards if they match the new body.
+         */
         public Builder setBody(Body body) {
             this.body = body;
+            this.compiled = null;
+            this.plainTextBody = null;
+            return this;
+        }
+
+        public Builder setCompiled(CompiledTemplate compiled) {
+            this.compiled = compiled;
+            return this;
+        }
+
+        public Builder setPlainTextBody(Body plainTextBody) {
+            this.plainTextBody = plainTextBody;
             return this;
         }
 
@@ -182,6 +222,8 @@ public class Template extends IdentifiableEntity<Template> {
             this.subject = template.getSubject();
             this.body = template.getBody();
             this.placeholderManager = template.getPlaceholderManager();
+            this.compiled = template.compiled;
+            this.plainTextBody = template.plainTextBody;
             return this;
         }
 
@@ -18,6 +18,7 @@ public class PlaceholderManager {
     private final Map<String, SpreadsheetReference> placeholders;
     private final PlaceholderValidator validator;
     private final char[] delimiters;
+    private final Pattern placeholderPattern;
 
     /**
      * Creates a new placeholder manager with default delimiters '{' and '}'.
@@ -26,6 +27,7 @@ public class PlaceholderManager {
         this.placeholders = new HashMap<>();
         this.validator = new PlaceholderValidator();
         this.delimiters = new char[]{'{', '}'};
+        this.placeholderPattern = compilePattern(this.delimiters);
     }
 
     public PlaceholderManager(char[] delimiters, Map<String, SpreadsheetReference> placeholders) {
@@ -39,6 +41,15 @@ public class PlaceholderManager {
         this.delimiters = delimiters.clone();
         this.placeholders = new HashMap<>(placeholders);
         this.validator = new PlaceholderValidator();
+        this.placeholderPattern = compilePattern(this.delimiters);
+    }
+
+    private static Pattern compilePattern(char[] delimiters) {
+        return Pattern.compile(
+                Pattern.quote(String.valueOf(delimiters[0])) +
+                        "(.*?)" +
+                        Pattern.quote(String.valueOf(delimiters[1]))
+        );
     }
 
     /**
@@ -133,13 +144,7 @@ public class PlaceholderManager {
     public Set<String> extractPlaceholders(String template) {
         Objects.requireNonNull(template, "Template cannot be null");
 
-        Pattern pattern = Pattern.compile(
-                Pattern.quote(String.valueOf(delimiters[0])) +
-                        "(.*?)" +
-                        Pattern.quote(String.valueOf(delimiters[1]))
-        );
-
-        Matcher matcher = pattern.matcher(template);
+        Matcher matcher = placeholderPattern.matcher(template);
         Set<String> keys = new java.util.HashSet<>();
 
         while (matcher.find()) {
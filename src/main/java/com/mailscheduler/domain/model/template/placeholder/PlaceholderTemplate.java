@@ -0,0 +1,219 @@
+package com.mailscheduler.domain.model.template.placeholder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A text parsed once into literal and placeholder segments.
+ * <p>
+ *     A placeholder is the shortest run of characters between the opening and closing delimiter on one line,
+ *     the same rule {@link PlaceholderManager#extractPlaceholders} applies. Rendering walks the segments once
+ *     and writes into a builder sized for the result, instead of rescanning the whole text per placeholder.
+ *     Placeholders without a value are kept as written. Instances are immutable and thread-safe.
+ * </p>
+ */
+public final class PlaceholderTemplate {
+    private final String source;
+    private final char openingDelimiter;
+    private final char closingDelimiter;
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    /**
+     * A piece of a parsed text: either literal text or the key of a placeholder.
+     *
+     * @param value the literal text or the placeholder key
+     * @param placeholder whether this segment is a placeholder slot
+     */
+    public record Segment(String value, boolean placeholder) {
+        public Segment {
+            Objects.requireNonNull(value, "Segment value cannot be null");
+        }
+    }
+
+    private PlaceholderTemplate(String source, char[] delimiters) {
+        this.source = Objects.requireNonNull(source, "Source cannot be null");
+        Objects.requireNonNull(delimiters, "Delimiters cannot be null");
+        if (delimiters.length != 2) {
+            throw new IllegalArgumentException("Delimiters array must contain exactly 2 elements (opening and closing)");
+        }
+        this.openingDelimiter = delimiters[0];
+        this.closingDelimiter = delimiters[1];
+        this.segments = parse();
+
+        int length = 0;
+        for (Segment segment : segments) {
+            if (!segment.placeholder()) {
+                length += segment.value().length();
+            }
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses a text with the given delimiters.
+     *
+     * @param source the text to parse
+     * @param delimiters the opening and closing placeholder delimiters
+     * @return the parsed template
+     */
+    public static PlaceholderTemplate compile(String source, char[] delimiters) {
+        return new PlaceholderTemplate(source, delimiters);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Gets the delimiters this template was parsed with.
+     *
+     * @return The opening and closing delimiter characters
+     */
+    public char[] getDelimiters() {
+        return new char[]{openingDelimiter, closingDelimiter};
+    }
+
+    /**
+     * Gets the keys of all placeholders in order of first appearance.
+     */
+    public Set<String> getPlaceholderKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Segment segment : segments) {
+            if (segment.placeholder()) {
+                keys.add(segment.value());
+            }
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Checks whether this template was parsed from the given text and delimiters.
+     */
+    public boolean matches(String source, char[] delimiters) {
+        return this.source.equals(source)
+                && delimiters != null
+                && Arrays.equals(getDelimiters(), delimiters);
+    }
+
+    /**
+     * Renders the text with the given values.
+     *
+     * @param values placeholder values by key
+     * @return the rendered text
+     */
+    public String render(Map<String, String> values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        if (segments.size() == 1 && !segments.get(0).placeholder()) {
+            return source;
+        }
+
+        StringBuilder out = new StringBuilder(estimateLength(values));
+        for (Segment segment : segments) {
+            if (!segment.placeholder()) {
+                out.append(segment.value());
+                continue;
+            }
+            String value = values.get(segment.value());
+            if (value == null) {
+                out.append(openingDelimiter).append(segment.value()).append(closingDelimiter);
+            } else {
+                out.append(value);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Gets a placeholder as written in the source, including its delimiters.
+     */
+    public String token(String key) {
+        return openingDelimiter + key + closingDelimiter;
+    }
+
+    /**
+     * Computes the exact length of the rendered text, so the output buffer never has to grow.
+     */
+    private int estimateLength(Map<String, String> values) {
+        int length = literalLength;
+        for (Segment segment : segments) {
+            if (segment.placeholder()) {
+                String value = values.get(segment.value());
+                length += value != null ? value.length() : segment.value().length() + 2;
+            }
+        }
+        return length;
+    }
+
+    private List<Segment> parse() {
+        List<Segment> parsed = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+        while (i < source.length()) {
+            if (source.charAt(i) != openingDelimiter) {
+                i++;
+                continue;
+            }
+            int close = findClosingDelimiter(i + 1);
+            if (close < 0) {
+                i++;
+                continue;
+            }
+            if (i > literalStart) {
+                parsed.add(new Segment(source.substring(literalStart, i), false));
+            }
+            parsed.add(new Segment(source.substring(i + 1, close), true));
+            i = close + 1;
+            literalStart = i;
+        }
+        if (literalStart < source.length()) {
+            parsed.add(new Segment(source.substring(literalStart), false));
+        }
+        return Collections.unmodifiableList(parsed);
+    }
+
+    private int findClosingDelimiter(int from) {
+        for (int i = from; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == closingDelimiter) {
+                return i;
+            }
+            if (c == '\n' || c == '\r') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PlaceholderTemplate that)) return false;
+        return openingDelimiter == that.openingDelimiter
+                && closingDelimiter == that.closingDelimiter
+                && source.equals(that.source);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, openingDelimiter, closingDelimiter);
+    }
+
+    @Override
+    public String toString() {
+        return "PlaceholderTemplate{" +
+                "segments=" + segments.size() +
+                ", placeholders=" + getPlaceholderKeys() +
+                '}';
+    }
+}
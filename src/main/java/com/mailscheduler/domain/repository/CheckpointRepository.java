@@ -0,0 +1,29 @@
+package com.mailscheduler.domain.repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for named checkpoints of incremental jobs.
+ * <p>
+ *     A checkpoint records how far a job has processed an external source (for example the last seen
+ *     Gmail history ID), so the next run only has to look at what changed since then.
+ * </p>
+ */
+public interface CheckpointRepository {
+
+    /**
+     * Finds the value of a checkpoint.
+     *
+     * @param name The checkpoint name
+     * @return The stored value, or empty if the job has never run
+     */
+    Optional<String> find(String name);
+
+    /**
+     * Creates or replaces a checkpoint.
+     *
+     * @param name The checkpoint name
+     * @param value The new value
+     */
+    void save(String name, String value);
+}
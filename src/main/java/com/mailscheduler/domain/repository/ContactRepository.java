@@ -1,9 +1,11 @@
 package com.mailscheduler.domain.repository;
 
+import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.domain.model.common.base.NoMetadata;
 import com.mailscheduler.domain.model.recipient.Contact;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Contact entities.
@@ -21,6 +23,18 @@ public interface ContactRepository extends Repository<Contact, NoMetadata> {
      */
     Optional<Contact> findBySpreadsheetRow(int rowNumber);
 
+    /**
+     * Streams all contacts imported from the given sheet.
+     * The stream holds a database connection until it is closed.
+     *
+     * @param sheetTitle The title of the sheet the contacts were imported from
+     * @return A stream of the contacts of that sheet
+     */
+    default Stream<EntityData<Contact, NoMetadata>> streamBySheetTitle(String sheetTitle) {
+        return streamAllWithMetadata()
+                .filter(data -> sheetTitle.equals(data.entity().getSheetTitle()));
+    }
+
     /**
      * Saves (creates or updates) a contact.
      *
@@ -6,8 +6,11 @@ import com.mailscheduler.domain.model.email.*;
 import com.mailscheduler.domain.model.recipient.Recipient;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Email entities.
@@ -26,6 +29,17 @@ public interface EmailRepository extends Repository<Email, EmailMetadata> {
      */
     List<EntityData<Email, EmailMetadata>> findPendingScheduledBefore(LocalDate cutoff);
 
+    /**
+     * Streams all emails whose status is PENDING and whose scheduledDate is on or before the given cutoff date.
+     * The stream holds a database connection until it is closed.
+     *
+     * @param cutoff The date cutoff for finding scheduled emails
+     * @return A stream of emails scheduled to be sent on or before the cutoff date
+     */
+    default Stream<EntityData<Email, EmailMetadata>> streamPendingScheduledBefore(LocalDate cutoff) {
+        return findPendingScheduledBefore(cutoff).stream();
+    }
+
     /**
      * Finds all emails in a given status.
      */
@@ -44,6 +58,21 @@ public interface EmailRepository extends Repository<Email, EmailMetadata> {
      */
     List<EntityData<Email, EmailMetadata>> findByRecipientId(EntityId<Recipient> recipientId);
 
+    /**
+     * Counts the emails of every recipient that has at least one.
+     *
+     * @return Map of recipient ID values to their number of emails; recipients without emails are absent
+     */
+    Map<Long, Integer> countByRecipientId();
+
+    /**
+     * Cancels all pending follow-up emails of the given recipients.
+     *
+     * @param recipientIds The recipients whose sequences should stop
+     * @return The number of cancelled emails
+     */
+    int cancelPendingFollowUps(Collection<EntityId<Recipient>> recipientIds);
+
     /**
      * Finds the first (initial) email sent to a recipient.
      */
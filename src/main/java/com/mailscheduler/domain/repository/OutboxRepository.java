@@ -0,0 +1,60 @@
+package com.mailscheduler.domain.repository;
+
+import com.mailscheduler.domain.model.common.base.EntityId;
+import com.mailscheduler.domain.model.email.Email;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the queue of emails waiting to be sent.
+ * <p>
+ *     A worker claims emails by taking a time-limited lease on them. While the lease is valid no other worker
+ *     can claim the same emails; the holder renews it while sending and the entry leaves the queue once the
+ *     email is no longer pending. Leases of crashed workers expire and their emails become claimable again.
+ * </p>
+ */
+public interface OutboxRepository {
+
+    /**
+     * Atomically leases the next due emails. Only the lowest pending follow-up of each recipient is eligible,
+     * so a sequence is never sent out of order or by two workers at once.
+     *
+     * @param owner The ID of the claiming worker
+     * @param limit The maximum number of emails to claim
+     * @param dueBefore Only emails scheduled before this date are claimed
+     * @param now The current time, used to detect expired leases
+     * @param leaseExpiresAt When the new leases expire
+     * @return The IDs of the claimed emails, in scheduling order
+     */
+    List<EntityId<Email>> claim(String owner, int limit, LocalDate dueBefore, Instant now, Instant leaseExpiresAt);
+
+    /**
+     * Extends the leases the worker still holds.
+     *
+     * @param owner The ID of the worker
+     * @param emailIds The emails whose leases to extend
+     * @param leaseExpiresAt The new expiry time
+     * @return The number of leases that were still held and have been extended
+     */
+    int renew(String owner, Collection<EntityId<Email>> emailIds, Instant leaseExpiresAt);
+
+    /**
+     * Gives up the worker's leases on emails that are still queued, making them claimable immediately.
+     *
+     * @param owner The ID of the worker
+     * @param emailIds The emails to release
+     * @return The number of released leases
+     */
+    int release(String owner, Collection<EntityId<Email>> emailIds);
+
+    /**
+     * Clears all leases that expired before the given time.
+     *
+     * @param now The current time
+     * @return The number of cleared leases
+     */
+    int reapExpired(Instant now);
+}
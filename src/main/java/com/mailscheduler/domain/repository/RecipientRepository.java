@@ -2,11 +2,14 @@ package com.mailscheduler.domain.repository;
 
 import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.domain.model.common.base.EntityId;
+import com.mailscheduler.domain.model.common.vo.ThreadId;
 import com.mailscheduler.domain.model.recipient.Contact;
 import com.mailscheduler.domain.model.recipient.Recipient;
 import com.mailscheduler.domain.model.recipient.RecipientMetadata;
 import com.mailscheduler.domain.model.schedule.FollowUpPlan;
+import com.mailscheduler.util.LongIntHashMap;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,6 +28,14 @@ public interface RecipientRepository extends Repository<Recipient, RecipientMeta
      */
     List<EntityData<Recipient, RecipientMetadata>> findByContactId(EntityId<Contact> contactId);
 
+    /**
+     * Finds the recipients of all contacts imported from the given sheet.
+     *
+     * @param sheetTitle The title of the sheet the contacts were imported from
+     * @return A list of the recipients of that sheet's contacts
+     */
+    List<EntityData<Recipient, RecipientMetadata>> findBySheetTitle(String sheetTitle);
+
     /**
      * Finds all recipients currently assigned to a specific follow-up plan.
      *
@@ -50,4 +61,20 @@ public interface RecipientRepository extends Repository<Recipient, RecipientMeta
      */
     List<EntityData<Recipient, RecipientMetadata>> findRecipientsNeedingInitialContact();
 
+    /**
+     * Resolves the spreadsheet rows of the contacts behind the given recipients.
+     *
+     * @param recipientIds The IDs of the recipients to resolve
+     * @return Map of recipient ID values to spreadsheet row numbers; unknown recipients are absent
+     */
+    LongIntHashMap findSpreadsheetRowsByRecipientIds(Collection<EntityId<Recipient>> recipientIds);
+
+    /**
+     * Marks all recipients in the given threads as replied.
+     *
+     * @param threadIds The threads that received a reply
+     * @return The IDs of the recipients that were not marked as replied before
+     */
+    List<EntityId<Recipient>> markRepliedByThreadIds(Collection<ThreadId> threadIds);
+
 }
\ No newline at end of file
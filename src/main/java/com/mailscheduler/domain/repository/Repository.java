@@ -6,8 +6,13 @@ import com.mailscheduler.domain.model.common.base.EntityMetadata;
 import com.mailscheduler.domain.model.common.base.IdentifiableEntity;
 import com.mailscheduler.infrastructure.persistence.repository.exception.RepositoryException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Generic repository interface that defines standard CRUD operations for domain entities.
@@ -49,6 +54,42 @@ public interface Repository <T extends IdentifiableEntity<T>, M extends EntityMe
                 updateWithMetadata(entity, metadata);
     }
 
+    /**
+     * Saves (creates or updates) several entities with their metadata in one unit of work.
+     * <p>
+     *     Implementations backed by a database should write all entities in a single transaction,
+     *     so either all entities are saved or none is.
+     * </p>
+     *
+     * @param entities The entities to save together with their metadata
+     * @return The saved entities with their metadata, in the same order as the input
+     */
+    default List<EntityData<T, M>> saveAllWithMetadata(Collection<EntityData<T, M>> entities) throws RepositoryException {
+        List<EntityData<T, M>> result = new ArrayList<>(entities.size());
+        for (EntityData<T, M> data : entities) {
+            result.add(saveWithMetadata(data.entity(), data.metadata()));
+        }
+        return result;
+    }
+
+    /**
+     * Inserts or updates several entities in one unit of work.
+     * <p>
+     *     Entities without an ID are matched against existing rows by their natural key (where the
+     *     underlying storage defines one) and update the existing row instead of creating a duplicate.
+     *     Entities with an ID are updated. The default implementation behaves like
+     *     {@link #saveAllWithMetadata(Collection)}.
+     * </p>
+     *
+     * @param entities The entities to upsert together with their metadata
+     * @return The IDs of the upserted entities, in the same order as the input
+     */
+    default List<EntityId<T>> upsertAll(Collection<EntityData<T, M>> entities) throws RepositoryException {
+        return saveAllWithMetadata(entities).stream()
+                .map(data -> data.entity().getId())
+                .toList();
+    }
+
     /**
      * Finds an entity and its metadata by ID.
      *
@@ -57,6 +98,26 @@ public interface Repository <T extends IdentifiableEntity<T>, M extends EntityMe
      */
     Optional<EntityData<T, M>> findByIdWithMetadata(EntityId<T> id);
 
+    /**
+     * Finds several entities and their metadata by ID.
+     * <p>
+     *     Implementations backed by a database should load all entities with as few queries as possible.
+     *     The default implementation looks up each ID separately.
+     * </p>
+     *
+     * @param ids The IDs of the entities to find
+     * @return Map of the IDs that were found to their entities with metadata; missing IDs are absent
+     */
+    default Map<EntityId<T>, EntityData<T, M>> findAllByIdsWithMetadata(Collection<EntityId<T>> ids) {
+        Map<EntityId<T>, EntityData<T, M>> result = new LinkedHashMap<>();
+        for (EntityId<T> id : ids) {
+            if (id != null && !result.containsKey(id)) {
+                findByIdWithMetadata(id).ifPresent(data -> result.put(id, data));
+            }
+        }
+        return result;
+    }
+
     /**
      * Lists all entities with their metadata.
      *
@@ -64,6 +125,20 @@ public interface Repository <T extends IdentifiableEntity<T>, M extends EntityMe
      */
     List<EntityData<T, M>> findAllWithMetadata();
 
+    /**
+     * Streams all entities with their metadata.
+     * <p>
+     *     Implementations backed by a database read rows lazily while the stream is consumed and keep
+     *     their connection open until the stream is closed, so callers should close it with
+     *     try-with-resources. The default implementation streams {@link #findAllWithMetadata()}.
+     * </p>
+     *
+     * @return A stream of all entities with their metadata
+     */
+    default Stream<EntityData<T, M>> streamAllWithMetadata() {
+        return findAllWithMetadata().stream();
+    }
+
     /**
      * Deletes an entity by its ID.
      *
@@ -0,0 +1,35 @@
+package com.mailscheduler.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Repository for fingerprints of imported spreadsheet rows.
+ * <p>
+ *     A fingerprint is a 64-bit hash of the cells a synchronization strategy read from a row. Comparing it
+ *     with the fingerprint stored on the previous run tells whether the row changed, without mapping it.
+ *     Fingerprints are kept per scope, so strategies reading different columns of the same row do not
+ *     overwrite each other.
+ * </p>
+ */
+public interface RowFingerprintRepository {
+
+    /**
+     * Finds the stored fingerprints of a sheet.
+     *
+     * @param scope The strategy the fingerprints belong to
+     * @param sheetTitle The title of the sheet
+     * @return Fingerprints by spreadsheet row number
+     */
+    Map<Integer, Long> findBySheet(String scope, String sheetTitle);
+
+    /**
+     * Stores new and changed fingerprints of a sheet and removes those of deleted rows, in one transaction.
+     *
+     * @param scope The strategy the fingerprints belong to
+     * @param sheetTitle The title of the sheet
+     * @param fingerprints Fingerprints to create or replace, by spreadsheet row number
+     * @param deletedRows Row numbers whose fingerprints are removed
+     */
+    void update(String scope, String sheetTitle, Map<Integer, Long> fingerprints, Collection<Integer> deletedRows);
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service responsible for contact-related operations.
@@ -29,13 +30,12 @@ public class ContactService {
      * @return list of matching contacts
      */
     public List<Contact> findContactsBySheetAndRows(String sheetTitle, Set<Integer> rowNumbers) {
-        List<EntityData<Contact, NoMetadata>> allContacts = contactRepository.findAllWithMetadata();
-
-        return allContacts.stream()
-                .map(EntityData::entity)
-                .filter(contact -> sheetTitle.equals(contact.getSheetTitle()) &&
-                        rowNumbers.contains(contact.getSpreadsheetRow().extractRowNumber()))
-                .collect(Collectors.toList());
+        try (Stream<EntityData<Contact, NoMetadata>> sheetContacts = contactRepository.streamBySheetTitle(sheetTitle)) {
+            return sheetContacts
+                    .map(EntityData::entity)
+                    .filter(contact -> rowNumbers.contains(contact.getSpreadsheetRow().extractRowNumber()))
+                    .collect(Collectors.toList());
+        }
     }
 
     /**
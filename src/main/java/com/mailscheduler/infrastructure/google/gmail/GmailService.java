@@ -4,6 +4,7 @@ import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.googleapis.batch.BatchRequest;
 import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
 import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.services.gmail.Gmail;
 import com.google.api.services.gmail.GmailScopes;
@@ -12,6 +13,7 @@ import com.google.api.services.gmail.model.Thread;
 import com.mailscheduler.infrastructure.google.auth.GoogleAuthService;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -22,7 +24,26 @@ import java.util.logging.Logger;
  */
 public class GmailService extends GoogleAuthService<Gmail> {
     private static final Logger LOGGER = Logger.getLogger(GmailService.class.getName());
+    public static final int MAX_BATCH_SIZE = 100;
+    private static final long MAX_HISTORY_PAGE_SIZE = 500;
+    private static final int HTTP_NOT_FOUND = 404;
+    /**
+     * Bounds a hanging request on the socket, so a send is never abandoned while it may still be accepted.
+     */
+    private static final int CONNECT_TIMEOUT_MILLIS = 20_000;
+    private static final int READ_TIMEOUT_MILLIS = 60_000;
     private static volatile GmailService instance;
+
+    /**
+     * Called right before an HTTP request goes out, with the number of API calls it carries, so callers can
+     * pace requests against their quota.
+     */
+    @FunctionalInterface
+    public interface RequestPacer {
+        RequestPacer NONE = calls -> { };
+
+        void beforeRequest(int calls) throws IOException;
+    }
     private Gmail gmailService;
 
     /**
@@ -69,7 +90,11 @@ public class GmailService extends GoogleAuthService<Gmail> {
      */
     @Override
     protected void initializeService(Credential credential) {
-        this.gmailService = new Gmail.Builder(HTTP_TRANSPORT, JSON_FACTORY, credential)
+        this.gmailService = new Gmail.Builder(HTTP_TRANSPORT, JSON_FACTORY, request -> {
+                    credential.initialize(request);
+                    request.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+                    request.setReadTimeout(READ_TIMEOUT_MILLIS);
+                })
                 .setApplicationName(APPLICATION_NAME)
                 .build();
     }
@@ -108,6 +133,161 @@ public class GmailService extends GoogleAuthService<Gmail> {
         return thread.getMessages() != null && thread.getMessages().size() > minimumReplyCount;
     }
 
+    /**
+     * Counts the messages in several threads using batch requests.
+     * Threads are fetched in {@code MINIMAL} format with a field mask that only returns message IDs,
+     * in batches of at most {@value #MAX_BATCH_SIZE} requests.
+     *
+     * @param threadIds The IDs of the threads to inspect
+     * @return Map of thread IDs to message counts; threads that could not be fetched are absent
+     * @throws IOException If a batch request fails
+     */
+    public Map<String, Integer> getThreadMessageCounts(Collection<String> threadIds) throws IOException {
+        return getThreadMessageCounts(threadIds, MAX_BATCH_SIZE, RequestPacer.NONE);
+    }
+
+    /**
+     * Counts the messages in several threads using paced batch requests.
+     *
+     * @param threadIds The IDs of the threads to inspect
+     * @param batchSize The maximum number of threads per batch, at most {@value #MAX_BATCH_SIZE}
+     * @param pacer Called before each batch with the number of threads in it
+     * @return Map of thread IDs to message counts; threads that could not be fetched are absent
+     * @throws IOException If a batch request fails
+     */
+    public Map<String, Integer> getThreadMessageCounts(Collection<String> threadIds, int batchSize,
+                                                       RequestPacer pacer) throws IOException {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        Map<String, Integer> messageCounts = new HashMap<>();
+        if (threadIds.isEmpty()) {
+            return messageCounts;
+        }
+
+        JsonBatchCallback<Thread> callback = new JsonBatchCallback<>() {
+            @Override
+            public void onFailure(GoogleJsonError e, HttpHeaders responseHeaders) {
+                LOGGER.log(Level.WARNING, "Error fetching thread: {0}", e.getMessage());
+            }
+
+            @Override
+            public void onSuccess(Thread thread, HttpHeaders responseHeaders) {
+                if (thread != null && thread.getId() != null) {
+                    messageCounts.put(thread.getId(), thread.getMessages() != null ? thread.getMessages().size() : 0);
+                }
+            }
+        };
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(threadIds));
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            BatchRequest batch = gmailService.batch();
+            for (String threadId : ids.subList(from, Math.min(from + batchSize, ids.size()))) {
+                gmailService.users().threads()
+                        .get("me", threadId)
+                        .setFormat("MINIMAL")
+                        .setFields("id,messages/id")
+                        .queue(batch, callback);
+            }
+            pacer.beforeRequest(batch.size());
+            LOGGER.fine("Executing batch request to fetch " + batch.size() + " threads");
+            batch.execute();
+        }
+
+        return messageCounts;
+    }
+
+    /**
+     * Threads that received new inbox messages since a history checkpoint.
+     *
+     * @param threadIds IDs of the threads with new incoming messages
+     * @param historyId The history ID to resume from on the next call
+     */
+    public record InboxHistory(Set<String> threadIds, String historyId) {
+    }
+
+    /**
+     * Gets the current history ID of the mailbox, used as the starting point for incremental checks.
+     *
+     * @return The current history ID
+     * @throws IOException If an I/O error occurs
+     */
+    public String getCurrentHistoryId() throws IOException {
+        BigInteger historyId = gmailService.users().getProfile("me")
+                .setFields("historyId")
+                .execute()
+                .getHistoryId();
+        return historyId.toString();
+    }
+
+    /**
+     * Lists the threads that received incoming inbox messages after the given history ID.
+     * Only message additions are requested and messages sent by the user are skipped, so the cost
+     * depends on the amount of new mail rather than on the number of tracked threads.
+     *
+     * @param startHistoryId The history ID of the last check
+     * @param pacer Called before each page is requested
+     * @return The changed threads, or empty if the history ID is too old and a full resync is needed
+     * @throws IOException If an I/O error occurs
+     */
+    public Optional<InboxHistory> listInboxHistory(String startHistoryId, RequestPacer pacer) throws IOException {
+        Set<String> threadIds = new HashSet<>();
+        BigInteger start = new BigInteger(startHistoryId);
+        BigInteger latestHistoryId = start;
+        String pageToken = null;
+
+        try {
+            do {
+                pacer.beforeRequest(1);
+                ListHistoryResponse response = gmailService.users().history()
+                        .list("me")
+                        .setStartHistoryId(start)
+                        .setHistoryTypes(List.of("messageAdded"))
+                        .setLabelId("INBOX")
+                        .setMaxResults(MAX_HISTORY_PAGE_SIZE)
+                        .setPageToken(pageToken)
+                        .setFields("history/messagesAdded/message(threadId,labelIds),historyId,nextPageToken")
+                        .execute();
+
+                if (response.getHistory() != null) {
+                    for (History history : response.getHistory()) {
+                        collectIncomingThreadIds(history, threadIds);
+                    }
+                }
+                if (response.getHistoryId() != null && response.getHistoryId().compareTo(latestHistoryId) > 0) {
+                    latestHistoryId = response.getHistoryId();
+                }
+                pageToken = response.getNextPageToken();
+            } while (pageToken != null);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() == HTTP_NOT_FOUND) {
+                LOGGER.warning("History ID " + startHistoryId + " is no longer available");
+                return Optional.empty();
+            }
+            throw e;
+        }
+
+        LOGGER.fine("Found " + threadIds.size() + " threads with new messages since history " + startHistoryId);
+        return Optional.of(new InboxHistory(threadIds, latestHistoryId.toString()));
+    }
+
+    private static void collectIncomingThreadIds(History history, Set<String> threadIds) {
+        if (history.getMessagesAdded() == null) {
+            return;
+        }
+        for (HistoryMessageAdded added : history.getMessagesAdded()) {
+            Message message = added.getMessage();
+            if (message == null || message.getThreadId() == null) {
+                continue;
+            }
+            // Our own messages in a thread are not replies
+            if (message.getLabelIds() != null && message.getLabelIds().contains("SENT")) {
+                continue;
+            }
+            threadIds.add(message.getThreadId());
+        }
+    }
+
     /**
      * Gets a draft by its ID.
      *
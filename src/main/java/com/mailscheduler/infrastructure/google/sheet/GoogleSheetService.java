@@ -145,6 +145,7 @@ public class GoogleSheetService extends GoogleAuthService<Sheets> {
      */
     public void writeToSpreadsheetCell(String spreadsheetId, SpreadsheetReference cell, String value) throws IOException {
         sheetWriter.writeToSpreadsheetCell(spreadsheetId, cell.getGoogleSheetsReference(), value);
+        sheetSearcher.invalidate(spreadsheetId);
     }
 
     /**
@@ -160,6 +161,7 @@ public class GoogleSheetService extends GoogleAuthService<Sheets> {
                 .map(SpreadsheetReference::getGoogleSheetsReference)
                 .toList();
         sheetWriter.writeToSpreadsheetCells(spreadsheetId, cellStrings, value);
+        sheetSearcher.invalidate(spreadsheetId);
     }
 
     /**
@@ -181,12 +183,25 @@ public class GoogleSheetService extends GoogleAuthService<Sheets> {
             return;
         }
 
-        LOGGER.info("Writing to multiple spreadsheet cells: " + cells + " with values: " + values);
+        LOGGER.fine(() -> "Writing to " + cells.size() + " spreadsheet cells");
 
         List<String> cellStrings = cells.stream()
                 .map(SpreadsheetReference::getGoogleSheetsReference)
                 .toList();
         sheetWriter.writeToSpreadsheetCells(spreadsheetId, cellStrings, values);
+        sheetSearcher.invalidate(spreadsheetId);
+    }
+
+    /**
+     * Writes multiple ranges to a spreadsheet in a single batch request.
+     *
+     * @param spreadsheetId The ID of the spreadsheet
+     * @param data The ranges in A1 notation together with their rows of values
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeToSpreadsheetRanges(String spreadsheetId, List<ValueRange> data) throws IOException {
+        sheetWriter.writeToSpreadsheetRanges(spreadsheetId, data);
+        sheetSearcher.invalidate(spreadsheetId);
     }
 
     /**
@@ -220,6 +235,7 @@ public class GoogleSheetService extends GoogleAuthService<Sheets> {
         sheetsService.spreadsheets().values()
                 .batchUpdate(spreadsheetId, body)
                 .execute();
+        sheetSearcher.invalidate(spreadsheetId);
     }
 
     /**
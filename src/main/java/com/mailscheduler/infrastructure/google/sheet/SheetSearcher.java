@@ -4,17 +4,37 @@ import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Helper class for searching data in Google Sheets.
+ * <p>
+ *     A searched column is read once and indexed by cell value; later searches in the same column are answered
+ *     from the index until {@link #invalidate(String)} is called for the spreadsheet.
+ * </p>
  */
 public class SheetSearcher {
     private static final Logger LOGGER = Logger.getLogger(SheetSearcher.class.getName());
+    private static final int MAX_CACHED_COLUMNS = 64;
+
     private final SheetReader sheetReader;
 
+    /**
+     * Column indices by spreadsheet ID and column reference, least recently used first.
+     */
+    private final Map<ColumnKey, ColumnIndex> columnIndices = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ColumnKey, ColumnIndex> eldest) {
+            return size() > MAX_CACHED_COLUMNS;
+        }
+    };
+
     public SheetSearcher(SheetReader sheetReader) {
         this.sheetReader = sheetReader;
     }
@@ -29,39 +49,26 @@ public class SheetSearcher {
      * @throws IOException If an I/O error occurs
      */
     public String findCellIndex(String spreadsheetId, SpreadsheetReference column, String expression) throws IOException {
-        LOGGER.log(Level.INFO, "Searching for \"{0}\" in spreadsheet {1}, column {2}",
+        LOGGER.log(Level.FINE, "Searching for \"{0}\" in spreadsheet {1}, column {2}",
                 new Object[]{expression, spreadsheetId, column});
 
-        List<List<Object>> values = sheetReader.readSpreadsheet(spreadsheetId, column.getGoogleSheetsReference());
-
-        if (values == null || values.isEmpty()) {
-            LOGGER.info("No data found in column for search");
+        int[] rows = indexOf(spreadsheetId, column).rowsOf(expression);
+        if (rows.length == 0) {
+            LOGGER.log(Level.FINE, "No match found for \"{0}\"", expression);
             return null;
         }
 
-        int rowIndex = 1;
-        for (List<Object> row : values) {
-            if (row.isEmpty()) {
-                rowIndex++;
-                continue;
-            }
-
-            for (Object value : row) {
-                if (value != null && expression.equals(value.toString())) {
-                    String result = column.getReference() + rowIndex;
-                    LOGGER.log(Level.INFO, "Found match at cell {0}", result);
-                    return result;
-                }
-            }
-            rowIndex++;
-        }
-
-        LOGGER.log(Level.INFO, "No match found for \"{0}\"", expression);
-        return null;
+        String result = column.getReference() + rows[0];
+        LOGGER.log(Level.FINE, "Found match at cell {0}", result);
+        return result;
     }
 
     /**
      * Finds multiple cell indices in a column that contain the specified expressions.
+     * <p>
+     *     Each expression matches its first occurrence in the column; an expression listed n times matches its
+     *     first n occurrences. The indices are returned in row order.
+     * </p>
      *
      * @param spreadsheetId The ID of the spreadsheet
      * @param column The column to search in
@@ -73,56 +80,110 @@ public class SheetSearcher {
         LOGGER.log(Level.INFO, "Searching for {0} expressions in spreadsheet {1}, column {2}",
                 new Object[]{expressions.size(), spreadsheetId, column});
 
-        List<List<Object>> values = sheetReader.readSpreadsheet(spreadsheetId, column.getGoogleSheetsReference());
-        List<String> cellIndices = new ArrayList<>();
+        ColumnIndex index = indexOf(spreadsheetId, column);
 
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (String expression : expressions) {
+            occurrences.merge(expression, 1, Integer::sum);
+        }
+
+        int matchCount = 0;
+        int[] matchedRows = new int[expressions.size()];
+        for (Map.Entry<String, Integer> entry : occurrences.entrySet()) {
+            int[] rows = index.rowsOf(entry.getKey());
+            int count = Math.min(rows.length, entry.getValue());
+            System.arraycopy(rows, 0, matchedRows, matchCount, count);
+            matchCount += count;
+        }
+        Arrays.sort(matchedRows, 0, matchCount);
+
+        List<String> cellIndices = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            cellIndices.add(column.getReference() + matchedRows[i]);
+        }
+
+        if (cellIndices.isEmpty()) {
+            LOGGER.info("No matches found for any expressions");
+        } else {
+            LOGGER.log(Level.INFO, "Found {0} of {1} requested expressions",
+                    new Object[]{cellIndices.size(), expressions.size()});
+        }
 
+        return cellIndices;
+    }
+
+    /**
+     * Drops the indexed columns of a spreadsheet. Must be called after writing to it.
+     *
+     * @param spreadsheetId The ID of the spreadsheet
+     */
+    public void invalidate(String spreadsheetId) {
+        synchronized (columnIndices) {
+            columnIndices.keySet().removeIf(key -> key.spreadsheetId().equals(spreadsheetId));
+        }
+    }
+
+    private ColumnIndex indexOf(String spreadsheetId, SpreadsheetReference column) throws IOException {
+        ColumnKey key = new ColumnKey(spreadsheetId, column.getGoogleSheetsReference());
+        synchronized (columnIndices) {
+            ColumnIndex cached = columnIndices.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<List<Object>> values = sheetReader.readSpreadsheet(spreadsheetId, key.range());
         if (values == null || values.isEmpty()) {
             LOGGER.info("No data found in column for search");
-            return cellIndices;
         }
+        ColumnIndex index = ColumnIndex.of(values);
+        synchronized (columnIndices) {
+            columnIndices.put(key, index);
+        }
+        return index;
+    }
+
+    private record ColumnKey(String spreadsheetId, String range) {
+    }
 
-        // Create a copy of expressions to track which ones we've found
-        List<String> remainingExpressions = new ArrayList<>(expressions);
+    /**
+     * Spreadsheet rows (1-based, ascending) by cell value of one column.
+     */
+    private record ColumnIndex(Map<String, int[]> rowsByValue) {
+        private static final int[] NO_ROWS = new int[0];
 
-        int rowIndex = 1;
-        for (List<Object> row : values) {
-            if (row.isEmpty()) {
-                rowIndex++;
-                continue;
+        static ColumnIndex of(List<List<Object>> values) {
+            Map<String, int[]> rowsByValue = new HashMap<>();
+            if (values == null) {
+                return new ColumnIndex(rowsByValue);
             }
 
-            for (Object value : row) {
-                if (value != null) {
-                    String stringValue = value.toString();
-                    for (int i = remainingExpressions.size() - 1; i >= 0; i--) {
-                        String expression = remainingExpressions.get(i);
-                        if (expression.equals(stringValue)) {
-                            String cellIndex = column.getReference() + rowIndex;
-                            cellIndices.add(cellIndex);
-                            LOGGER.log(Level.FINE, "Found match for \"{0}\" at cell {1}",
-                                    new Object[]{expression, cellIndex});
-                            remainingExpressions.remove(i);
-                            break;
-                        }
+            // Size the row arrays first, so duplicate values do not regrow them
+            Map<String, Integer> counts = new HashMap<>();
+            for (List<Object> row : values) {
+                for (Object value : row) {
+                    if (value != null) {
+                        counts.merge(value.toString(), 1, Integer::sum);
                     }
                 }
-                // If we found all expressions, we can stop searching
-                if (remainingExpressions.isEmpty()) {
-                    LOGGER.info("Found all requested expressions");
-                    return cellIndices;
+            }
+            Map<String, Integer> filled = new HashMap<>(counts.size() * 2);
+            int rowIndex = 1;
+            for (List<Object> row : values) {
+                for (Object value : row) {
+                    if (value != null) {
+                        String key = value.toString();
+                        int position = filled.merge(key, 1, Integer::sum) - 1;
+                        rowsByValue.computeIfAbsent(key, k -> new int[counts.get(k)])[position] = rowIndex;
+                    }
                 }
+                rowIndex++;
             }
-            rowIndex++;
+            return new ColumnIndex(rowsByValue);
         }
 
-        if (cellIndices.isEmpty()) {
-            LOGGER.info("No matches found for any expressions");
-        } else {
-            LOGGER.log(Level.INFO, "Found {0} of {1} requested expressions",
-                    new Object[]{cellIndices.size(), expressions.size()});
+        int[] rowsOf(String value) {
+            return value == null ? NO_ROWS : rowsByValue.getOrDefault(value, NO_ROWS);
         }
-
-        return cellIndices;
     }
 }
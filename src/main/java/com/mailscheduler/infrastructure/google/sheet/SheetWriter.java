@@ -118,4 +118,29 @@ public class SheetWriter {
                 .batchUpdate(spreadsheetId, body)
                 .execute();
     }
+
+    /**
+     * Writes multiple ranges to a spreadsheet in a single batch request.
+     *
+     * @param spreadsheetId The ID of the spreadsheet
+     * @param data The ranges in A1 notation together with their rows of values
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeToSpreadsheetRanges(String spreadsheetId, List<ValueRange> data) throws IOException {
+        if (data == null || data.isEmpty()) {
+            LOGGER.warning("Cannot write empty range list");
+            return;
+        }
+
+        LOGGER.log(Level.FINE, "Writing to spreadsheet {0} with {1} ranges",
+                new Object[]{spreadsheetId, data.size()});
+
+        BatchUpdateValuesRequest body = new BatchUpdateValuesRequest()
+                .setValueInputOption("USER_ENTERED")
+                .setData(data);
+
+        sheetsService.spreadsheets().values()
+                .batchUpdate(spreadsheetId, body)
+                .execute();
+    }
 }
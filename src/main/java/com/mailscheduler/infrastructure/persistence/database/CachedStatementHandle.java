@@ -0,0 +1,102 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Dynamic proxy around a cached prepared statement.
+ * Closing the handle closes the open result set and returns the statement to its
+ * {@link StatementCache} instead of finalizing it.
+ */
+final class CachedStatementHandle implements InvocationHandler {
+    private final PreparedStatement statement;
+    private final String sql;
+    private final StatementCache cache;
+    private final Connection connectionHandle;
+    private ResultSet openResultSet;
+    private boolean closed;
+
+    private CachedStatementHandle(PreparedStatement statement, String sql, StatementCache cache, Connection connectionHandle) {
+        this.statement = statement;
+        this.sql = sql;
+        this.cache = cache;
+        this.connectionHandle = connectionHandle;
+    }
+
+    static PreparedStatement create(PreparedStatement statement, String sql, StatementCache cache, Connection connectionHandle) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new CachedStatementHandle(statement, sql, cache, connectionHandle)
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close" -> {
+                if (!closed) {
+                    closed = true;
+                    release();
+                }
+                return null;
+            }
+            case "isClosed" -> {
+                return closed || statement.isClosed();
+            }
+            case "getConnection" -> {
+                return connectionHandle;
+            }
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+                return "CachedStatement[" + sql + "]";
+            }
+            default -> {
+                if (closed) {
+                    throw new SQLException("Statement has already been closed");
+                }
+                try {
+                    Object result = method.invoke(statement, args);
+                    if (result instanceof ResultSet resultSet) {
+                        openResultSet = resultSet;
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes any result set left open (which resets the SQLite statement and ends its read
+     * snapshot) and hands the statement back to the cache.
+     */
+    private void release() throws SQLException {
+        try {
+            if (openResultSet != null && !openResultSet.isClosed()) {
+                openResultSet.close();
+            }
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+        openResultSet = null;
+
+        if (statement.isClosed()) {
+            return;
+        }
+        cache.put(sql, statement);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Dynamic proxy around a pooled physical connection.
+ * Closing the handle releases the lease on the pooled connection rather than closing the
+ * underlying SQLite connection, so existing try-with-resources call sites keep working unchanged.
+ * {@code prepareStatement(String)} is served from the connection's statement cache when one is configured.
+ */
+final class ConnectionHandle implements InvocationHandler {
+    private final PooledConnection pooled;
+    private final Runnable onClose;
+    private boolean closed;
+
+    private ConnectionHandle(PooledConnection pooled, Runnable onClose) {
+        this.pooled = pooled;
+        this.onClose = onClose;
+    }
+
+    static Connection create(PooledConnection pooled, Runnable onClose) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandle(pooled, onClose)
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close" -> {
+                if (!closed) {
+                    closed = true;
+                    onClose.run();
+                }
+                return null;
+            }
+            case "isClosed" -> {
+                return closed || pooled.physical().isClosed();
+            }
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+                return "ConnectionHandle[" + (pooled.isReadOnly() ? "read" : "write") + (closed ? ", closed]" : "]");
+            }
+            case "prepareStatement" -> {
+                StatementCache cache = pooled.statementCache();
+                if (closed || cache == null || args.length != 1) {
+                    return delegate(method, args);
+                }
+                String sql = (String) args[0];
+                PreparedStatement statement = cache.take(sql);
+                if (statement == null) {
+                    statement = pooled.physical().prepareStatement(sql);
+                }
+                return CachedStatementHandle.create(statement, sql, cache, (Connection) proxy);
+            }
+            default -> {
+                return delegate(method, args);
+            }
+        }
+    }
+
+    private Object delegate(Method method, Object[] args) throws Throwable {
+        if (closed) {
+            throw new SQLException("Connection handle has already been closed");
+        }
+        try {
+            return method.invoke(pooled.physical(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -5,19 +5,19 @@ import com.mailscheduler.infrastructure.persistence.database.exception.Connectio
 
 import java.io.File;
 import java.sql.Connection;
-import java.sql.SQLException;
-import java.sql.DriverManager;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Manages database connections and ensures database directory exists.
  * Responsible for establishing and providing database connections.
+ * Connections are leased from a {@link ConnectionPool}; closing a connection returns it to the pool.
  */
-public class ConnectionManager {
+public class ConnectionManager implements AutoCloseable {
     private static final Logger LOGGER = Logger.getLogger(ConnectionManager.class.getName());
 
     private final DatabaseConfig config;
+    private final ConnectionPool pool;
     private boolean driverInitialized = false;
 
     /**
@@ -30,6 +30,8 @@ public class ConnectionManager {
         this.config = config;
         initializeDriver();
         ensureDatabaseDirectoryExists();
+        this.pool = new ConnectionPool(config);
+        LOGGER.fine("Connection pool created: " + config);
     }
 
     /**
@@ -53,20 +55,47 @@ public class ConnectionManager {
     }
 
     /**
-     * Creates a new database connection.
+     * Leases the write connection from the pool.
+     * Only one thread can hold the write connection at a time; the caller must close it to release it.
      *
-     * @return a new database connection
-     * @throws ConnectionException if a database access error occurs
+     * @return a pooled database connection
+     * @throws ConnectionException if a database access error occurs or no connection becomes available in time
      */
     public Connection getConnection() throws ConnectionException {
-        try {
-            Connection connection = DriverManager.getConnection(config.getConnectionUrl());
-            LOGGER.fine("Established database connection to: " + config.getConnectionUrl());
-            return connection;
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "Failed to establish database connection", e);
-            throw new ConnectionException("Failed to establish database connection to " + config.getConnectionUrl(), e);
-        }
+        return pool.acquireWrite();
+    }
+
+    /**
+     * Leases a read-only connection from the pool.
+     * If the calling thread already holds the write connection, that connection is shared instead.
+     *
+     * @return a pooled read-only database connection
+     * @throws ConnectionException if a database access error occurs or no connection becomes available in time
+     */
+    public Connection getReadConnection() throws ConnectionException {
+        return pool.acquireRead();
+    }
+
+    /**
+     * Gets a snapshot of the connection pool statistics.
+     */
+    public PoolMetrics getPoolMetrics() {
+        return pool.getMetrics();
+    }
+
+    /**
+     * Closes idle pooled connections, e.g. before the database file is removed.
+     */
+    public void evictIdleConnections() {
+        pool.evictIdleConnections();
+    }
+
+    /**
+     * Closes the connection pool.
+     */
+    @Override
+    public void close() {
+        pool.close();
     }
 
     /**
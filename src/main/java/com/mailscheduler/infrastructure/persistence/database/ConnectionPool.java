@@ -0,0 +1,344 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import com.mailscheduler.infrastructure.persistence.database.config.DatabaseConfig;
+import com.mailscheduler.infrastructure.persistence.database.exception.ConnectionException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of long-lived SQLite connections with a single-writer/multi-reader discipline.
+ * <p>
+ *     SQLite in WAL mode allows any number of concurrent readers but only one writer, so the pool keeps
+ *     exactly one write connection guarded by a fair lock and up to {@link DatabaseConfig#getReadPoolSize()}
+ *     read-only connections. Every physical connection is configured once when it is opened
+ *     (journal mode, synchronous, mmap, cache size, foreign keys, busy timeout) and keeps its own
+ *     LRU cache of prepared statements, so frequently executed SQL is parsed and planned only once.
+ * </p>
+ * <p>
+ *     Leases are bound to the acquiring thread and are re-entrant: a thread that already holds a
+ *     connection receives another handle to the same connection, so nested repository calls never
+ *     deadlock on the bounded pool. A thread holding the write connection also uses it for its reads,
+ *     which keeps reads consistent with its own uncommitted writes. Handles must be closed on the
+ *     thread that acquired them.
+ * </p>
+ */
+public class ConnectionPool implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+    private final DatabaseConfig config;
+
+    private final ReentrantLock writerLock = new ReentrantLock(true);
+    private PooledConnection writer; // guarded by writerLock
+
+    private final LinkedBlockingDeque<PooledConnection> idleReaders = new LinkedBlockingDeque<>();
+    private final Semaphore readerPermits;
+
+    private final ThreadLocal<Lease> writeLease = new ThreadLocal<>();
+    private final ThreadLocal<Lease> readLease = new ThreadLocal<>();
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicInteger activeReaders = new AtomicInteger();
+    private volatile boolean writerActive;
+    private volatile boolean writerOpen;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+
+    private volatile boolean closed;
+
+    public ConnectionPool(DatabaseConfig config) {
+        this.config = config;
+        this.readerPermits = new Semaphore(config.getReadPoolSize(), true);
+    }
+
+    /**
+     * Leases the write connection, waiting for the current writer to finish if necessary.
+     *
+     * @return a connection handle; closing it returns the connection to the pool
+     * @throws ConnectionException if the pool is closed, the wait times out or the connection cannot be opened
+     */
+    public Connection acquireWrite() throws ConnectionException {
+        ensureOpen();
+
+        Lease current = writeLease.get();
+        if (current != null) {
+            return current.retain();
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!writerLock.tryLock(config.getAcquireTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new ConnectionException("Timed out after " + config.getAcquireTimeoutMillis()
+                        + " ms waiting for the database write connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionException("Interrupted while waiting for the database write connection", e);
+        }
+        recordWait(start);
+
+        try {
+            if (writer == null || !writer.isUsable()) {
+                writer = open(false);
+                writerOpen = true;
+            }
+        } catch (ConnectionException e) {
+            writerLock.unlock();
+            throw e;
+        }
+
+        writerActive = true;
+        Lease lease = new Lease(writer, true);
+        writeLease.set(lease);
+        return lease.retain();
+    }
+
+    /**
+     * Leases a read-only connection. If the calling thread already holds the write connection,
+     * a handle to the write connection is returned instead.
+     *
+     * @return a connection handle; closing it returns the connection to the pool
+     * @throws ConnectionException if the pool is closed, the wait times out or the connection cannot be opened
+     */
+    public Connection acquireRead() throws ConnectionException {
+        ensureOpen();
+
+        Lease current = writeLease.get();
+        if (current == null) {
+            current = readLease.get();
+        }
+        if (current != null) {
+            return current.retain();
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!readerPermits.tryAcquire(config.getAcquireTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new ConnectionException("Timed out after " + config.getAcquireTimeoutMillis()
+                        + " ms waiting for a database read connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionException("Interrupted while waiting for a database read connection", e);
+        }
+        recordWait(start);
+
+        PooledConnection reader;
+        try {
+            reader = idleReaders.pollFirst();
+            while (reader != null && !reader.isUsable()) {
+                discard(reader);
+                reader = idleReaders.pollFirst();
+            }
+            if (reader == null) {
+                reader = open(true);
+            }
+        } catch (ConnectionException e) {
+            readerPermits.release();
+            throw e;
+        }
+
+        activeReaders.incrementAndGet();
+        Lease lease = new Lease(reader, false);
+        readLease.set(lease);
+        return lease.retain();
+    }
+
+    /**
+     * Checks whether the calling thread currently holds the write connection.
+     */
+    public boolean isWriteLeaseHeldByCurrentThread() {
+        return writeLease.get() != null;
+    }
+
+    /**
+     * Gets a snapshot of the pool statistics.
+     */
+    public PoolMetrics getMetrics() {
+        int active = activeReaders.get() + (writerActive ? 1 : 0);
+        int idle = idleReaders.size() + (writerOpen && !writerActive ? 1 : 0);
+        return new PoolMetrics(
+                active,
+                idle,
+                openConnections.get(),
+                acquisitions.sum(),
+                timeouts.sum(),
+                totalWaitNanos.sum(),
+                maxWaitNanos.get(),
+                statementCacheHits.sum(),
+                statementCacheMisses.sum()
+        );
+    }
+
+    /**
+     * Closes all connections that are currently not leased. They are reopened lazily on demand.
+     * Used before operations that need exclusive access to the database file.
+     */
+    public void evictIdleConnections() {
+        PooledConnection reader;
+        while ((reader = idleReaders.pollFirst()) != null) {
+            discard(reader);
+        }
+
+        if (writerLock.tryLock()) {
+            try {
+                if (writer != null && !writerActive) {
+                    discard(writer);
+                    writer = null;
+                    writerOpen = false;
+                }
+            } finally {
+                writerLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Closes the pool and all idle connections. Leased connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictIdleConnections();
+        LOGGER.fine("Connection pool closed: " + getMetrics());
+    }
+
+    private void ensureOpen() throws ConnectionException {
+        if (closed) {
+            throw new ConnectionException("Connection pool has been closed");
+        }
+    }
+
+    private void recordWait(long startNanos) {
+        long waited = System.nanoTime() - startNanos;
+        acquisitions.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    private void release(Lease lease) {
+        PooledConnection connection = lease.connection;
+        boolean reusable = connection.reset() && !closed;
+
+        if (lease.write) {
+            writeLease.remove();
+            if (!reusable) {
+                discard(connection);
+                writer = null;
+                writerOpen = false;
+            }
+            writerActive = false;
+            writerLock.unlock();
+        } else {
+            readLease.remove();
+            activeReaders.decrementAndGet();
+            if (reusable) {
+                idleReaders.offerFirst(connection);
+            } else {
+                discard(connection);
+            }
+            readerPermits.release();
+        }
+    }
+
+    private void discard(PooledConnection connection) {
+        connection.closePhysical();
+        openConnections.decrementAndGet();
+    }
+
+    /**
+     * Opens and configures a new physical connection.
+     */
+    private PooledConnection open(boolean readOnly) throws ConnectionException {
+        Connection connection;
+        try {
+            connection = DriverManager.getConnection(config.getConnectionUrl());
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Failed to establish database connection", e);
+            throw new ConnectionException("Failed to establish database connection to " + config.getConnectionUrl(), e);
+        }
+
+        try {
+            configure(connection, readOnly);
+        } catch (SQLException e) {
+            try {
+                connection.close();
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            LOGGER.log(Level.SEVERE, "Failed to configure database connection", e);
+            throw new ConnectionException("Failed to configure database connection", e);
+        }
+
+        openConnections.incrementAndGet();
+        LOGGER.fine(() -> "Opened " + (readOnly ? "read" : "write") + " connection to " + config.getConnectionUrl());
+        StatementCache statementCache = config.getStatementCacheSize() > 0
+                ? new StatementCache(config.getStatementCacheSize(), statementCacheHits, statementCacheMisses)
+                : null;
+        return new PooledConnection(connection, readOnly, statementCache);
+    }
+
+    private void configure(Connection connection, boolean readOnly) throws SQLException {
+        List<String> pragmas = new ArrayList<>();
+        pragmas.add("PRAGMA busy_timeout = " + config.getBusyTimeoutMillis());
+        pragmas.add("PRAGMA journal_mode = " + config.getJournalMode());
+        pragmas.add("PRAGMA synchronous = " + config.getSynchronousMode());
+        pragmas.add("PRAGMA foreign_keys = " + (config.isForeignKeysEnabled() ? "ON" : "OFF"));
+        pragmas.add("PRAGMA cache_size = -" + config.getCacheSizeKib());
+        pragmas.add("PRAGMA mmap_size = " + config.getMmapSizeBytes());
+        if (readOnly) {
+            pragmas.add("PRAGMA query_only = ON");
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String pragma : pragmas) {
+                statement.execute(pragma);
+            }
+        }
+    }
+
+    /**
+     * A thread-bound lease on a pooled connection, counting the open handles that share it.
+     */
+    private final class Lease {
+        private final PooledConnection connection;
+        private final boolean write;
+        private int handles;
+
+        private Lease(PooledConnection connection, boolean write) {
+            this.connection = connection;
+            this.write = write;
+        }
+
+        private Connection retain() {
+            handles++;
+            return connection.newHandle(this::releaseHandle);
+        }
+
+        private void releaseHandle() {
+            if (--handles == 0) {
+                release(this);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.mailscheduler.infrastructure.persistence.database.config.DatabaseConf
 import com.mailscheduler.infrastructure.persistence.database.exception.ConnectionException;
 import com.mailscheduler.infrastructure.persistence.database.exception.MaintenanceException;
 import com.mailscheduler.infrastructure.persistence.database.exception.SchemaException;
+import com.mailscheduler.infrastructure.persistence.database.exception.TransactionException;
 
 import java.sql.Connection;
 import java.util.logging.Level;
@@ -13,7 +14,7 @@ import java.util.logging.Logger;
  * Provides a unified facade for database operations.
  * This class coordinates between the connection, initialization, and maintenance components.
  */
-public class DatabaseFacade {
+public class DatabaseFacade implements AutoCloseable {
     private static final Logger LOGGER = Logger.getLogger(DatabaseFacade.class.getName());
 
     private final ConnectionManager connectionManager;
@@ -21,8 +22,20 @@ public class DatabaseFacade {
     private final DatabaseMaintenance maintenance;
     private final DatabaseConfig config;
 
+    /**
+     * Creates a facade using the configuration from {@code mailscheduler.db.*} system properties.
+     */
     public DatabaseFacade() {
-        this.config = new DatabaseConfig();
+        this(DatabaseConfig.fromSystemProperties());
+    }
+
+    /**
+     * Creates a facade for the given configuration.
+     *
+     * @param config the database configuration
+     */
+    public DatabaseFacade(DatabaseConfig config) {
+        this.config = config;
         this.connectionManager = new ConnectionManager(config);
         this.initializer = new DatabaseInitializer(connectionManager);
         this.maintenance = new DatabaseMaintenance(connectionManager, config);
@@ -47,16 +60,48 @@ public class DatabaseFacade {
     }
 
     /**
-     * Gets a new database connection.
-     * The caller is responsible for closing this connection.
+     * Gets the pooled write connection.
+     * The caller is responsible for closing this connection, which returns it to the pool.
      *
-     * @return a new database connection
+     * @return a pooled database connection
      * @throws ConnectionException if connection cannot be established
      */
     public Connection getConnection() throws ConnectionException {
         return connectionManager.getConnection();
     }
 
+    /**
+     * Gets a pooled read-only connection for queries.
+     * The caller is responsible for closing this connection, which returns it to the pool.
+     *
+     * @return a pooled read-only database connection
+     * @throws ConnectionException if connection cannot be established
+     */
+    public Connection getReadConnection() throws ConnectionException {
+        return connectionManager.getReadConnection();
+    }
+
+    /**
+     * Begins a transaction bound to the current thread. Repository calls on this thread use the
+     * transaction's connection until the returned unit of work is closed.
+     *
+     * @return the started unit of work
+     * @throws ConnectionException if the write connection cannot be obtained
+     * @throws TransactionException if the transaction cannot be started
+     */
+    public UnitOfWork beginUnitOfWork() throws ConnectionException, TransactionException {
+        return UnitOfWork.begin(connectionManager.getConnection());
+    }
+
+    /**
+     * Gets a snapshot of the connection pool statistics.
+     *
+     * @return the current pool metrics
+     */
+    public PoolMetrics getPoolMetrics() {
+        return connectionManager.getPoolMetrics();
+    }
+
     /**
      * Optimizes the database by running VACUUM.
      *
@@ -123,4 +168,12 @@ public class DatabaseFacade {
     public DatabaseConfig getConfig() {
         return config;
     }
+
+    /**
+     * Closes all pooled connections.
+     */
+    @Override
+    public void close() {
+        connectionManager.close();
+    }
 }
@@ -1,26 +1,32 @@
 package com.mailscheduler.infrastructure.persistence.database;
 
 import com.mailscheduler.infrastructure.persistence.database.exception.SchemaException;
+import com.mailscheduler.infrastructure.persistence.database.schema.Migrations;
 import com.mailscheduler.infrastructure.persistence.database.schema.TableDefinitions;
 
 import java.sql.*;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Handles database initialization, creating tables if they don't exist.
+ * Handles database initialization, creating tables if they don't exist and applying pending migrations.
  */
 public class DatabaseInitializer {
     private static final Logger LOGGER = Logger.getLogger(DatabaseInitializer.class.getName());
 
     private final ConnectionManager connectionManager;
+    private final MigrationRunner migrationRunner;
 
     public DatabaseInitializer(ConnectionManager connectionManager) {
         this.connectionManager = connectionManager;
+        this.migrationRunner = new MigrationRunner(Migrations.getAll());
     }
 
     /**
-     * Initializes the database, creating tables if they don't exist.
+     * Initializes the database, creating tables if they don't exist and bringing the schema
+     * up to the latest migration.
      *
      * @throws SchemaException if the database cannot be initialized
      */
@@ -33,12 +39,15 @@ public class DatabaseInitializer {
             try (Statement statement = connection.createStatement()) {
                 createTables(statement);
                 connection.commit();
-                LOGGER.info("Database schema initialized successfully.");
             } catch (SQLException e) {
                 LOGGER.log(Level.SEVERE, "Error creating database tables", e);
                 connection.rollback();
                 throw new SchemaException("Failed to initialize database schema", e);
             }
+
+            migrationRunner.migrate(connection);
+            checkForeignKeys(connection);
+            LOGGER.info("Database schema initialized successfully.");
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Database connection error during initialization", e);
             throw new SchemaException("Failed to establish database connection for initialization", e);
@@ -57,6 +66,25 @@ public class DatabaseInitializer {
         }
     }
 
+    /**
+     * Logs rows whose foreign keys reference missing rows. Updates of such rows fail while foreign keys are
+     * enforced, so they are reported once at startup rather than on the first write.
+     *
+     * @param connection the database connection
+     * @throws SQLException if a database error occurs
+     */
+    private void checkForeignKeys(Connection connection) throws SQLException {
+        Map<String, Integer> violations = new TreeMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA foreign_key_check")) {
+            while (rs.next()) {
+                violations.merge(rs.getString("table") + " -> " + rs.getString("parent"), 1, Integer::sum);
+            }
+        }
+        violations.forEach((reference, count) ->
+                LOGGER.warning(count + " row(s) with dangling foreign key " + reference));
+    }
+
     /**
      * Validates the database schema by checking if all required tables exist.
      *
@@ -28,12 +28,14 @@ public class DatabaseMaintenance {
     }
 
     /**
-     * Deletes the database file.
+     * Deletes the database file together with its WAL and shared-memory files.
+     * Idle pooled connections are closed first so the files are not held open.
      *
      * @return true if the file was deleted or didn't exist, false otherwise
      */
     public boolean deleteDatabase() {
         LOGGER.warning("Deleting database file: " + config.getDbFilePath());
+        connectionManager.evictIdleConnections();
         File dbFile = new File(config.getDbFilePath());
 
         if (dbFile.exists()) {
@@ -46,6 +48,13 @@ public class DatabaseMaintenance {
         } else {
             LOGGER.info("Database file does not exist, nothing to delete");
         }
+
+        for (String suffix : new String[]{"-wal", "-shm"}) {
+            File sidecar = new File(config.getDbFilePath() + suffix);
+            if (sidecar.exists() && !sidecar.delete()) {
+                LOGGER.warning("Failed to delete database file: " + sidecar.getAbsolutePath());
+            }
+        }
         return true;
     }
 
@@ -149,7 +158,7 @@ public class DatabaseMaintenance {
     public boolean checkTableExists(String tableName) {
         String query = "SELECT name FROM sqlite_master WHERE type='table' AND name=?";
 
-        try (Connection connection = connectionManager.getConnection();
+        try (Connection connection = connectionManager.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, tableName);
 
@@ -0,0 +1,114 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import com.mailscheduler.infrastructure.persistence.database.exception.SchemaException;
+import com.mailscheduler.infrastructure.persistence.database.schema.Migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Applies pending schema migrations and records them in the {@code schema_version} table.
+ * Each migration runs in its own transaction, so a failing migration leaves the schema at the
+ * last successfully applied version.
+ */
+public class MigrationRunner {
+    private static final Logger LOGGER = Logger.getLogger(MigrationRunner.class.getName());
+
+    private static final String CURRENT_VERSION_SQL = "SELECT COALESCE(MAX(version), 0) FROM schema_version";
+    private static final String RECORD_VERSION_SQL = "INSERT INTO schema_version (version, description) VALUES (?, ?)";
+
+    private final List<Migration> migrations;
+
+    /**
+     * @param migrations migrations in ascending version order
+     */
+    public MigrationRunner(List<Migration> migrations) {
+        validateOrder(migrations);
+        this.migrations = List.copyOf(migrations);
+    }
+
+    /**
+     * Applies every migration newer than the version recorded in the database.
+     * The {@code schema_version} table must already exist.
+     *
+     * @param connection the write connection
+     * @return the number of migrations applied
+     * @throws SchemaException if a migration fails
+     */
+    public int migrate(Connection connection) {
+        int applied = 0;
+        try {
+            int currentVersion = getCurrentVersion(connection);
+            for (Migration migration : migrations) {
+                if (migration.version() <= currentVersion) {
+                    continue;
+                }
+                apply(connection, migration);
+                applied++;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error reading schema version", e);
+            throw new SchemaException("Failed to read schema version", e);
+        }
+
+        if (applied > 0) {
+            LOGGER.info("Applied " + applied + " schema migration(s)");
+        }
+        return applied;
+    }
+
+    /**
+     * Gets the highest migration version recorded in the database.
+     *
+     * @param connection the database connection
+     * @return the current schema version, or 0 if no migration has been applied
+     * @throws SQLException if a database error occurs
+     */
+    public int getCurrentVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(CURRENT_VERSION_SQL)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        LOGGER.info("Applying schema migration " + migration.version() + ": " + migration.description());
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement();
+             PreparedStatement record = connection.prepareStatement(RECORD_VERSION_SQL)) {
+            for (String sql : migration.statements()) {
+                statement.execute(sql);
+            }
+            record.setInt(1, migration.version());
+            record.setString(2, migration.description());
+            record.executeUpdate();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            LOGGER.log(Level.SEVERE, "Schema migration " + migration.version() + " failed", e);
+            throw new SchemaException("Failed to apply schema migration " + migration.version()
+                    + " (" + migration.description() + ")", e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void validateOrder(List<Migration> migrations) {
+        int previous = 0;
+        for (Migration migration : migrations) {
+            if (migration.version() <= previous) {
+                throw new IllegalArgumentException("Migrations must have strictly increasing versions, found "
+                        + migration.version() + " after " + previous);
+            }
+            previous = migration.version();
+        }
+    }
+}
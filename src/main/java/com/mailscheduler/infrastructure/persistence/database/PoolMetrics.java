@@ -0,0 +1,51 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+/**
+ * Point-in-time snapshot of connection pool statistics.
+ *
+ * @param activeConnections connections currently leased to callers (readers and the writer)
+ * @param idleConnections open connections currently waiting in the pool
+ * @param openConnections physical connections currently open
+ * @param acquisitions number of leases handed out since the pool was created (re-entrant acquisitions excluded)
+ * @param timeouts number of acquisitions that gave up waiting
+ * @param totalWaitNanos accumulated time callers spent waiting for a connection
+ * @param maxWaitNanos longest single wait for a connection
+ * @param statementCacheHits prepared statements served from a connection's statement cache
+ * @param statementCacheMisses prepared statements that had to be parsed and planned
+ */
+public record PoolMetrics(
+        int activeConnections,
+        int idleConnections,
+        int openConnections,
+        long acquisitions,
+        long timeouts,
+        long totalWaitNanos,
+        long maxWaitNanos,
+        long statementCacheHits,
+        long statementCacheMisses
+) {
+    /**
+     * Gets the average time a caller waited for a connection, in milliseconds.
+     */
+    public double averageWaitMillis() {
+        return acquisitions == 0 ? 0.0 : (totalWaitNanos / (double) acquisitions) / 1_000_000.0;
+    }
+
+    /**
+     * Gets the fraction of prepared statements served from the statement caches.
+     */
+    public double statementCacheHitRatio() {
+        long total = statementCacheHits + statementCacheMisses;
+        return total == 0 ? 0.0 : statementCacheHits / (double) total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "PoolMetrics{active=%d, idle=%d, open=%d, acquisitions=%d, timeouts=%d, avgWait=%.3fms, maxWait=%.3fms, " +
+                        "stmtCacheHits=%d, stmtCacheMisses=%d}",
+                activeConnections, idleConnections, openConnections, acquisitions, timeouts,
+                averageWaitMillis(), maxWaitNanos / 1_000_000.0,
+                statementCacheHits, statementCacheMisses);
+    }
+}
@@ -0,0 +1,91 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A long-lived physical connection owned by the {@link ConnectionPool}.
+ * Callers never see this class directly; they receive a handle from {@link #newHandle(Runnable)}
+ * whose {@code close()} returns the connection to the pool instead of closing it.
+ */
+class PooledConnection {
+    private static final Logger LOGGER = Logger.getLogger(PooledConnection.class.getName());
+
+    private final Connection physical;
+    private final boolean readOnly;
+    private final StatementCache statementCache;
+
+    /**
+     * @param statementCache the prepared statement cache for this connection, or null to disable caching
+     */
+    PooledConnection(Connection physical, boolean readOnly, StatementCache statementCache) {
+        this.physical = physical;
+        this.readOnly = readOnly;
+        this.statementCache = statementCache;
+    }
+
+    Connection physical() {
+        return physical;
+    }
+
+    boolean isReadOnly() {
+        return readOnly;
+    }
+
+    StatementCache statementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Creates a caller-facing handle for this connection.
+     *
+     * @param onClose invoked exactly once when the handle is closed
+     * @return a connection handle
+     */
+    Connection newHandle(Runnable onClose) {
+        return ConnectionHandle.create(this, onClose);
+    }
+
+    /**
+     * Restores the connection to its pooled state (autocommit on, no open transaction).
+     *
+     * @return true if the connection can be reused, false if it should be discarded
+     */
+    boolean reset() {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                LOGGER.warning("Connection returned to pool with an open transaction; rolling back");
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to reset pooled connection; discarding it", e);
+            return false;
+        }
+    }
+
+    boolean isUsable() {
+        try {
+            return !physical.isClosed();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void closePhysical() {
+        if (statementCache != null) {
+            statementCache.clear();
+        }
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to close pooled connection", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * LRU cache of prepared statements for a single pooled connection, keyed by SQL text.
+ * <p>
+ *     A cached statement is removed from the cache while it is in use and put back when the caller
+ *     closes it, so the same SQL executed in a nested call gets its own statement instead of
+ *     clobbering the parameters of the outer one. The least recently returned statement is
+ *     closed once the cache exceeds its capacity.
+ * </p>
+ * <p>
+ *     Not thread-safe; a pooled connection is only ever used by the thread holding its lease.
+ * </p>
+ */
+class StatementCache {
+    private static final Logger LOGGER = Logger.getLogger(StatementCache.class.getName());
+
+    private final int capacity;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    /**
+     * @param capacity maximum number of idle statements to keep
+     * @param hits counter incremented when a statement is served from the cache
+     * @param misses counter incremented when a statement has to be prepared
+     */
+    StatementCache(int capacity, LongAdder hits, LongAdder misses) {
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Takes the idle statement for the given SQL out of the cache.
+     *
+     * @return the cached statement, or null if none is available
+     */
+    PreparedStatement take(String sql) {
+        PreparedStatement statement = statements.remove(sql);
+        if (statement != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return statement;
+    }
+
+    /**
+     * Returns a statement to the cache after use.
+     * If another statement for the same SQL was returned in the meantime, this one is closed instead.
+     */
+    void put(String sql, PreparedStatement statement) {
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Discarding prepared statement that could not be reset", e);
+            close(statement);
+            return;
+        }
+
+        if (statements.putIfAbsent(sql, statement) != null) {
+            close(statement);
+            return;
+        }
+
+        if (statements.size() > capacity) {
+            Iterator<Map.Entry<String, PreparedStatement>> eldest = statements.entrySet().iterator();
+            close(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Closes all idle statements.
+     */
+    void clear() {
+        List<PreparedStatement> idle = new ArrayList<>(statements.values());
+        statements.clear();
+        idle.forEach(StatementCache::close);
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    private static void close(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Failed to close cached prepared statement", e);
+        }
+    }
+}
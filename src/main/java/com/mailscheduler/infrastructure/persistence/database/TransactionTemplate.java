@@ -0,0 +1,74 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import com.mailscheduler.infrastructure.persistence.database.exception.TransactionException;
+
+/**
+ * Runs callbacks inside a {@link UnitOfWork}.
+ * The transaction is committed when the callback returns normally and rolled back when it throws.
+ * Calls nested on the same thread join the outer transaction; a nested call that throws marks it
+ * rollback-only, so catching the exception in the outer callback does not commit the partial work.
+ */
+public class TransactionTemplate {
+    private final DatabaseFacade db;
+
+    public TransactionTemplate(DatabaseFacade db) {
+        this.db = db;
+    }
+
+    /**
+     * Executes the callback in a transaction.
+     *
+     * @param callback the work to execute
+     * @return the callback's result
+     * @throws X the exception thrown by the callback, after the transaction has been rolled back
+     * @throws TransactionException if the transaction cannot be started or committed, or a nested call
+     * marked it rollback-only
+     */
+    public <R, X extends Exception> R execute(TransactionCallback<R, X> callback) throws X {
+        try (UnitOfWork unitOfWork = db.beginUnitOfWork()) {
+            R result;
+            try {
+                result = callback.doInTransaction();
+            } catch (Exception | Error e) {
+                try {
+                    unitOfWork.rollback();
+                } catch (TransactionException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            }
+            unitOfWork.commit();
+            return result;
+        }
+    }
+
+    /**
+     * Executes the action in a transaction.
+     *
+     * @param action the work to execute
+     * @throws X the exception thrown by the action, after the transaction has been rolled back
+     * @throws TransactionException if the transaction cannot be started or committed
+     */
+    public <X extends Exception> void executeWithoutResult(TransactionAction<X> action) throws X {
+        execute(() -> {
+            action.doInTransaction();
+            return null;
+        });
+    }
+
+    /**
+     * Work that produces a result inside a transaction.
+     */
+    @FunctionalInterface
+    public interface TransactionCallback<R, X extends Exception> {
+        R doInTransaction() throws X;
+    }
+
+    /**
+     * Work without a result inside a transaction.
+     */
+    @FunctionalInterface
+    public interface TransactionAction<X extends Exception> {
+        void doInTransaction() throws X;
+    }
+}
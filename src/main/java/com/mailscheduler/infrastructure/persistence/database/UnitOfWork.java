@@ -0,0 +1,207 @@
+package com.mailscheduler.infrastructure.persistence.database;
+
+import com.mailscheduler.infrastructure.persistence.database.exception.TransactionException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A database transaction bound to the current thread.
+ * <p>
+ *     Beginning a unit of work leases the pooled write connection and turns off autocommit. Until the unit
+ *     of work is closed, every repository call on the same thread receives that connection from the pool
+ *     and therefore takes part in the transaction. If a transaction is already active on the thread, the new
+ *     unit of work joins it and the outermost unit of work decides whether it is committed. A joined unit of
+ *     work that rolls back or is closed without commit marks the transaction rollback-only, so the outermost
+ *     one rolls back instead of committing the partial work.
+ * </p>
+ * <pre>{@code
+ * try (UnitOfWork unitOfWork = db.beginUnitOfWork()) {
+ *     emailRepository.saveWithMetadata(email, metadata);
+ *     recipientRepository.updateWithMetadata(recipient, recipientMetadata);
+ *     unitOfWork.commit();
+ * }
+ * }</pre>
+ * Closing a unit of work that was not committed rolls it back.
+ */
+public final class UnitOfWork implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(UnitOfWork.class.getName());
+
+    /**
+     * The innermost active unit of work of each thread.
+     */
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final Connection connection;
+    private final boolean outermost;
+    private final UnitOfWork enclosing;
+    private boolean completed;
+    private boolean rollbackOnly;
+
+    private UnitOfWork(Connection connection, boolean outermost, UnitOfWork enclosing) {
+        this.connection = connection;
+        this.outermost = outermost;
+        this.enclosing = enclosing;
+    }
+
+    /**
+     * Begins a unit of work on the given write connection, taking ownership of it.
+     *
+     * @param connection the pooled write connection
+     * @return the started unit of work
+     * @throws TransactionException if the transaction cannot be started
+     */
+    static UnitOfWork begin(Connection connection) throws TransactionException {
+        try {
+            boolean outermost = connection.getAutoCommit();
+            if (outermost) {
+                connection.setAutoCommit(false);
+            }
+            UnitOfWork unitOfWork = new UnitOfWork(connection, outermost, CURRENT.get());
+            CURRENT.set(unitOfWork);
+            return unitOfWork;
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new TransactionException("Failed to begin transaction", e);
+        }
+    }
+
+    /**
+     * Gets the connection of this unit of work, e.g. for statements not covered by a repository.
+     * The connection must not be closed by the caller.
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Checks whether this unit of work started the transaction, as opposed to joining an outer one.
+     */
+    public boolean isOutermost() {
+        return outermost;
+    }
+
+    /**
+     * Marks the transaction so that it can only be rolled back.
+     */
+    public void setRollbackOnly() {
+        root().rollbackOnly = true;
+    }
+
+    /**
+     * Checks whether the transaction was marked rollback-only, e.g. by a joined unit of work that failed.
+     */
+    public boolean isRollbackOnly() {
+        return root().rollbackOnly;
+    }
+
+    /**
+     * Commits the transaction. A joined unit of work leaves the commit to the outermost one.
+     *
+     * @throws TransactionException if the commit fails or the transaction is rollback-only; the transaction
+     * is rolled back in that case
+     */
+    public void commit() throws TransactionException {
+        ensureActive();
+        completed = true;
+        if (!outermost) {
+            return;
+        }
+
+        if (rollbackOnly) {
+            rollbackQuietly();
+            throw new TransactionException("Transaction was rolled back because a nested unit of work failed");
+        }
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            rollbackQuietly();
+            throw new TransactionException("Failed to commit transaction", e);
+        }
+    }
+
+    /**
+     * Rolls back the transaction. A joined unit of work marks the transaction rollback-only and leaves
+     * the rollback to the outermost one.
+     *
+     * @throws TransactionException if the rollback fails
+     */
+    public void rollback() throws TransactionException {
+        ensureActive();
+        completed = true;
+        if (!outermost) {
+            setRollbackOnly();
+            return;
+        }
+
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            throw new TransactionException("Failed to roll back transaction", e);
+        }
+    }
+
+    /**
+     * Ends the unit of work, rolling back if it was neither committed nor rolled back,
+     * and releases the connection.
+     */
+    @Override
+    public void close() {
+        try {
+            if (!completed && outermost) {
+                LOGGER.fine("Unit of work closed without commit; rolling back");
+                rollbackQuietly();
+            } else if (!completed) {
+                setRollbackOnly();
+            }
+            if (outermost) {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to restore autocommit after transaction", e);
+        } finally {
+            completed = true;
+            if (enclosing == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(enclosing);
+            }
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Gets the unit of work that started the transaction this one belongs to.
+     */
+    private UnitOfWork root() {
+        UnitOfWork unitOfWork = this;
+        while (!unitOfWork.outermost && unitOfWork.enclosing != null) {
+            unitOfWork = unitOfWork.enclosing;
+        }
+        return unitOfWork;
+    }
+
+    private void ensureActive() {
+        if (completed) {
+            throw new TransactionException("Unit of work has already been completed");
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to roll back transaction", e);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to release connection", e);
+        }
+    }
+}
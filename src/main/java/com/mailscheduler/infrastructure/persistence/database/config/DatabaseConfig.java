@@ -1,25 +1,99 @@
 package com.mailscheduler.infrastructure.persistence.database.config;
 
 import java.io.File;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Configuration for the database connection.
- * Provides settings for database location, name, and connection parameters.
+ * Provides settings for database location, name, connection parameters and the connection pool.
+ * <p>
+ *     All pool and pragma settings have defaults suited for a single-user desktop deployment.
+ *     They can be tuned per deployment either programmatically through the {@link Builder} or
+ *     via {@code mailscheduler.db.*} system properties (see {@link #fromSystemProperties()}).
+ * </p>
  */
 public class DatabaseConfig {
+    public static final String PROPERTY_PREFIX = "mailscheduler.db.";
+
+    private static final Set<String> JOURNAL_MODES = Set.of("DELETE", "TRUNCATE", "PERSIST", "MEMORY", "WAL", "OFF");
+    private static final Set<String> SYNCHRONOUS_MODES = Set.of("OFF", "NORMAL", "FULL", "EXTRA");
+
     private final String dbDirectory;
     private final String dbName;
     private final String driverClass;
+    private final int readPoolSize;
+    private final long acquireTimeoutMillis;
+    private final int busyTimeoutMillis;
+    private final String journalMode;
+    private final String synchronousMode;
+    private final long mmapSizeBytes;
+    private final int cacheSizeKib;
+    private final boolean foreignKeys;
+    private final int statementCacheSize;
+    private final int fetchSize;
 
     /**
      * Creates a default database configuration.
      */
     public DatabaseConfig() {
-        this.dbDirectory = "data";
-        this.dbName = "mailscheduler.db";
-        this.driverClass = "org.sqlite.JDBC";
+        this(new Builder());
+    }
+
+    private DatabaseConfig(Builder builder) {
+        this.dbDirectory = builder.dbDirectory;
+        this.dbName = builder.dbName;
+        this.driverClass = builder.driverClass;
+        this.readPoolSize = builder.readPoolSize;
+        this.acquireTimeoutMillis = builder.acquireTimeoutMillis;
+        this.busyTimeoutMillis = builder.busyTimeoutMillis;
+        this.journalMode = builder.journalMode;
+        this.synchronousMode = builder.synchronousMode;
+        this.mmapSizeBytes = builder.mmapSizeBytes;
+        this.cacheSizeKib = builder.cacheSizeKib;
+        this.foreignKeys = builder.foreignKeys;
+        this.statementCacheSize = builder.statementCacheSize;
+        this.fetchSize = builder.fetchSize;
+    }
+
+    /**
+     * Creates a configuration from {@code mailscheduler.db.*} system properties,
+     * falling back to the defaults for every property that is not set.
+     * <p>
+     *     Supported properties: {@code directory}, {@code name}, {@code readPoolSize},
+     *     {@code acquireTimeoutMillis}, {@code busyTimeoutMillis}, {@code journalMode},
+     *     {@code synchronous}, {@code mmapSizeBytes}, {@code cacheSizeKib}, {@code foreignKeys},
+     *     {@code statementCacheSize} and {@code fetchSize}.
+     * </p>
+     *
+     * @return the configuration for this deployment
+     * @throws IllegalArgumentException if a property holds an invalid value
+     */
+    public static DatabaseConfig fromSystemProperties() {
+        Builder builder = new Builder();
+
+        String value;
+        if ((value = property("directory")) != null) builder.dbDirectory(value);
+        if ((value = property("name")) != null) builder.dbName(value);
+        if ((value = property("readPoolSize")) != null) builder.readPoolSize(Integer.parseInt(value));
+        if ((value = property("acquireTimeoutMillis")) != null) builder.acquireTimeoutMillis(Long.parseLong(value));
+        if ((value = property("busyTimeoutMillis")) != null) builder.busyTimeoutMillis(Integer.parseInt(value));
+        if ((value = property("journalMode")) != null) builder.journalMode(value);
+        if ((value = property("synchronous")) != null) builder.synchronousMode(value);
+        if ((value = property("mmapSizeBytes")) != null) builder.mmapSizeBytes(Long.parseLong(value));
+        if ((value = property("cacheSizeKib")) != null) builder.cacheSizeKib(Integer.parseInt(value));
+        if ((value = property("foreignKeys")) != null) builder.foreignKeys(Boolean.parseBoolean(value));
+        if ((value = property("statementCacheSize")) != null) builder.statementCacheSize(Integer.parseInt(value));
+        if ((value = property("fetchSize")) != null) builder.fetchSize(Integer.parseInt(value));
+
+        return builder.build();
     }
 
+    private static String property(String name) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
 
     public String getDbDirectory() {
         return dbDirectory;
@@ -49,4 +123,210 @@ public class DatabaseConfig {
     public String getDriverClassName() {
         return driverClass;
     }
+
+    /**
+     * Gets the maximum number of concurrently leased read-only connections.
+     * The single write connection is not included in this number.
+     */
+    public int getReadPoolSize() {
+        return readPoolSize;
+    }
+
+    /**
+     * Gets how long a caller waits for a free connection before giving up.
+     */
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    /**
+     * Gets the SQLite busy timeout applied to every connection.
+     */
+    public int getBusyTimeoutMillis() {
+        return busyTimeoutMillis;
+    }
+
+    /**
+     * Gets the SQLite journal mode, e.g. {@code WAL}.
+     */
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    /**
+     * Gets the SQLite synchronous mode, e.g. {@code NORMAL}.
+     */
+    public String getSynchronousMode() {
+        return synchronousMode;
+    }
+
+    /**
+     * Gets the maximum number of bytes SQLite may memory-map per connection.
+     */
+    public long getMmapSizeBytes() {
+        return mmapSizeBytes;
+    }
+
+    /**
+     * Gets the page cache size per connection in KiB.
+     */
+    public int getCacheSizeKib() {
+        return cacheSizeKib;
+    }
+
+    /**
+     * Checks whether foreign key constraints are enforced.
+     */
+    public boolean isForeignKeysEnabled() {
+        return foreignKeys;
+    }
+
+    /**
+     * Gets the number of prepared statements cached per connection; 0 disables the cache.
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Gets the number of rows fetched per round trip when a query result is streamed.
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseConfig{" +
+                "dbFilePath='" + getDbFilePath() + '\'' +
+                ", readPoolSize=" + readPoolSize +
+                ", acquireTimeoutMillis=" + acquireTimeoutMillis +
+                ", busyTimeoutMillis=" + busyTimeoutMillis +
+                ", journalMode='" + journalMode + '\'' +
+                ", synchronousMode='" + synchronousMode + '\'' +
+                ", mmapSizeBytes=" + mmapSizeBytes +
+                ", cacheSizeKib=" + cacheSizeKib +
+                ", foreignKeys=" + foreignKeys +
+                ", statementCacheSize=" + statementCacheSize +
+                ", fetchSize=" + fetchSize +
+                '}';
+    }
+
+    /**
+     * Builder for creating DatabaseConfig instances.
+     */
+    public static class Builder {
+        private String dbDirectory = "data";
+        private String dbName = "mailscheduler.db";
+        private String driverClass = "org.sqlite.JDBC";
+        private int readPoolSize = 4;
+        private long acquireTimeoutMillis = 30_000;
+        private int busyTimeoutMillis = 5_000;
+        private String journalMode = "WAL";
+        private String synchronousMode = "NORMAL";
+        private long mmapSizeBytes = 256L * 1024 * 1024;
+        private int cacheSizeKib = 16 * 1024;
+        private boolean foreignKeys = true;
+        private int statementCacheSize = 64;
+        private int fetchSize = 256;
+
+        public Builder dbDirectory(String dbDirectory) {
+            this.dbDirectory = Objects.requireNonNull(dbDirectory, "Database directory cannot be null");
+            return this;
+        }
+
+        public Builder dbName(String dbName) {
+            this.dbName = Objects.requireNonNull(dbName, "Database name cannot be null");
+            return this;
+        }
+
+        public Builder driverClass(String driverClass) {
+            this.driverClass = Objects.requireNonNull(driverClass, "Driver class cannot be null");
+            return this;
+        }
+
+        public Builder readPoolSize(int readPoolSize) {
+            if (readPoolSize < 1) {
+                throw new IllegalArgumentException("Read pool size must be at least 1");
+            }
+            this.readPoolSize = readPoolSize;
+            return this;
+        }
+
+        public Builder acquireTimeoutMillis(long acquireTimeoutMillis) {
+            if (acquireTimeoutMillis < 0) {
+                throw new IllegalArgumentException("Acquire timeout cannot be negative");
+            }
+            this.acquireTimeoutMillis = acquireTimeoutMillis;
+            return this;
+        }
+
+        public Builder busyTimeoutMillis(int busyTimeoutMillis) {
+            if (busyTimeoutMillis < 0) {
+                throw new IllegalArgumentException("Busy timeout cannot be negative");
+            }
+            this.busyTimeoutMillis = busyTimeoutMillis;
+            return this;
+        }
+
+        public Builder journalMode(String journalMode) {
+            this.journalMode = requireOneOf(journalMode, JOURNAL_MODES, "journal mode");
+            return this;
+        }
+
+        public Builder synchronousMode(String synchronousMode) {
+            this.synchronousMode = requireOneOf(synchronousMode, SYNCHRONOUS_MODES, "synchronous mode");
+            return this;
+        }
+
+        public Builder mmapSizeBytes(long mmapSizeBytes) {
+            if (mmapSizeBytes < 0) {
+                throw new IllegalArgumentException("mmap size cannot be negative");
+            }
+            this.mmapSizeBytes = mmapSizeBytes;
+            return this;
+        }
+
+        public Builder cacheSizeKib(int cacheSizeKib) {
+            if (cacheSizeKib < 0) {
+                throw new IllegalArgumentException("Cache size cannot be negative");
+            }
+            this.cacheSizeKib = cacheSizeKib;
+            return this;
+        }
+
+        public Builder foreignKeys(boolean foreignKeys) {
+            this.foreignKeys = foreignKeys;
+            return this;
+        }
+
+        public Builder statementCacheSize(int statementCacheSize) {
+            if (statementCacheSize < 0) {
+                throw new IllegalArgumentException("Statement cache size cannot be negative");
+            }
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        public Builder fetchSize(int fetchSize) {
+            if (fetchSize < 1) {
+                throw new IllegalArgumentException("Fetch size must be at least 1");
+            }
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        public DatabaseConfig build() {
+            return new DatabaseConfig(this);
+        }
+
+        private static String requireOneOf(String value, Set<String> allowed, String name) {
+            Objects.requireNonNull(value, "The " + name + " cannot be null");
+            String normalized = value.trim().toUpperCase(Locale.ROOT);
+            if (!allowed.contains(normalized)) {
+                throw new IllegalArgumentException("Unsupported " + name + ": " + value);
+            }
+            return normalized;
+        }
+    }
 }
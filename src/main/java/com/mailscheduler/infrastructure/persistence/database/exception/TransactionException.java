@@ -0,0 +1,14 @@
+package com.mailscheduler.infrastructure.persistence.database.exception;
+
+/**
+ * Exception thrown when a transaction cannot be started, committed or rolled back.
+ */
+public class TransactionException extends DatabaseException {
+    public TransactionException(String message) {
+        super(message);
+    }
+
+    public TransactionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
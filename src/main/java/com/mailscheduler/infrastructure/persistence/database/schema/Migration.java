@@ -0,0 +1,27 @@
+package com.mailscheduler.infrastructure.persistence.database.schema;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A versioned, forward-only change to the database schema.
+ * The statements of a migration are applied in one transaction together with its entry in the
+ * {@code schema_version} table, so a migration is either applied completely or not at all.
+ *
+ * @param version strictly increasing version number, starting at 1
+ * @param description short human-readable summary stored alongside the version
+ * @param statements SQL statements to execute in order
+ */
+public record Migration(int version, String description, List<String> statements) {
+    public Migration {
+        if (version < 1) {
+            throw new IllegalArgumentException("Migration version must be at least 1");
+        }
+        Objects.requireNonNull(description, "Migration description cannot be null");
+        statements = List.copyOf(Objects.requireNonNull(statements, "Migration statements cannot be null"));
+    }
+
+    public static Migration of(int version, String description, String... statements) {
+        return new Migration(version, description, List.of(statements));
+    }
+}
@@ -0,0 +1,167 @@
+package com.mailscheduler.infrastructure.persistence.database.schema;
+
+import java.util.List;
+
+/**
+ * Ordered list of all schema migrations.
+ * <p>
+ *     Tables are created from {@link TableDefinitions}; every change after that is added here as a new
+ *     migration with the next version number. Applied migrations must never be edited, since existing
+ *     databases record them as done in {@code schema_version}.
+ * </p>
+ */
+public final class Migrations {
+
+    private Migrations() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Secondary indexes for the repository lookups that run once per recipient or row
+     * during synchronization and scheduling.
+     */
+    private static final Migration HOT_PATH_INDEXES = Migration.of(1, "Add indexes for repository lookups",
+            // EmailSqlRepository.findPendingScheduledBefore / findByStatus
+            "CREATE INDEX IF NOT EXISTS idx_emails_status_scheduled_date ON emails (status, scheduled_date)",
+            // EmailSqlRepository.findByRecipientId / findInitialEmailByRecipientId
+            "CREATE INDEX IF NOT EXISTS idx_emails_recipient_followup ON emails (recipient_id, followup_number)",
+            // ON DELETE CASCADE from emails.initial_email_id
+            "CREATE INDEX IF NOT EXISTS idx_emails_initial_email_id ON emails (initial_email_id)",
+            // RecipientSqlRepository.findByFollowUpPlanId and ON DELETE SET NULL from followup_plans
+            "CREATE INDEX IF NOT EXISTS idx_recipients_followup_plan_id ON recipients (followup_plan_id)",
+            // RecipientSqlRepository.findByHasReplied / findRecipientsNeedingInitialContact
+            "CREATE INDEX IF NOT EXISTS idx_recipients_has_replied_contact_date ON recipients (has_replied, initial_contact_date)",
+            // ContactSqlRepository.findBySpreadsheetRow; UNIQUE (sheet_title, spreadsheet_row) cannot serve it
+            "CREATE INDEX IF NOT EXISTS idx_contacts_spreadsheet_row ON contacts (spreadsheet_row)",
+            // TemplateSqlRepository.findByDraftId
+            "CREATE INDEX IF NOT EXISTS idx_templates_draft_id ON templates (draft_id)",
+            // TemplateSqlRepository.findByType / findDefaultTemplates
+            "CREATE INDEX IF NOT EXISTS idx_templates_type_draft_id ON templates (template_type, draft_id)",
+            // ConfigurationSqlRepository.loadColumnMappings
+            "CREATE INDEX IF NOT EXISTS idx_column_mappings_config_id ON column_mappings (config_id)",
+            "ANALYZE"
+    );
+
+    /**
+     * Named checkpoints for incremental jobs, such as the Gmail history ID of the inbox watcher,
+     * and the index used to match incoming messages to recipients by thread.
+     */
+    private static final Migration SYNC_CHECKPOINTS = Migration.of(2, "Add sync checkpoints and recipient thread index",
+            """
+            CREATE TABLE IF NOT EXISTS sync_checkpoints (
+                name TEXT PRIMARY KEY,
+                value TEXT NOT NULL,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+            """,
+            // RecipientSqlRepository.markRepliedByThreadIds
+            "CREATE INDEX IF NOT EXISTS idx_recipients_thread_id ON recipients (thread_id)"
+    );
+
+    /**
+     * Send queue with leases, so several sender processes can drain pending emails without sending one twice.
+     * Triggers keep it in step with {@code emails}: an internally managed email is queued while it is
+     * {@code PENDING} and dequeued by the same statement that changes its status.
+     */
+    private static final Migration EMAIL_OUTBOX = Migration.of(3, "Add leased email outbox",
+            """
+            CREATE TABLE IF NOT EXISTS email_outbox (
+                email_id INTEGER PRIMARY KEY,
+                recipient_id INTEGER,
+                followup_number INTEGER DEFAULT 0 NOT NULL,
+                available_at TIMESTAMP,
+                lease_owner TEXT,
+                lease_expires_at INTEGER, -- Epoch milliseconds
+                attempts INTEGER DEFAULT 0 NOT NULL,
+                FOREIGN KEY (email_id) REFERENCES emails(id) ON DELETE CASCADE
+            )
+            """,
+            // OutboxSqlRepository.claim
+            "CREATE INDEX IF NOT EXISTS idx_email_outbox_available_at ON email_outbox (available_at, email_id)",
+            "CREATE INDEX IF NOT EXISTS idx_email_outbox_recipient ON email_outbox (recipient_id, followup_number)",
+            // OutboxSqlRepository.reapExpired
+            "CREATE INDEX IF NOT EXISTS idx_email_outbox_lease_expires_at ON email_outbox (lease_expires_at)",
+            """
+            CREATE TRIGGER IF NOT EXISTS trg_emails_outbox_insert AFTER INSERT ON emails
+            WHEN NEW.status = 'PENDING' AND NEW.email_type IN ('INITIAL', 'FOLLOW_UP')
+            BEGIN
+                INSERT OR IGNORE INTO email_outbox (email_id, recipient_id, followup_number, available_at)
+                VALUES (NEW.id, NEW.recipient_id, NEW.followup_number, NEW.scheduled_date);
+            END
+            """,
+            """
+            CREATE TRIGGER IF NOT EXISTS trg_emails_outbox_update
+            AFTER UPDATE OF status, email_type, recipient_id, followup_number, scheduled_date ON emails
+            BEGIN
+                DELETE FROM email_outbox
+                WHERE email_id = NEW.id
+                  AND (NEW.status IS NOT 'PENDING' OR NEW.email_type NOT IN ('INITIAL', 'FOLLOW_UP'));
+                INSERT INTO email_outbox (email_id, recipient_id, followup_number, available_at)
+                SELECT NEW.id, NEW.recipient_id, NEW.followup_number, NEW.scheduled_date
+                WHERE NEW.status = 'PENDING' AND NEW.email_type IN ('INITIAL', 'FOLLOW_UP')
+                ON CONFLICT (email_id) DO UPDATE SET
+                    recipient_id = excluded.recipient_id,
+                    followup_number = excluded.followup_number,
+                    available_at = excluded.available_at;
+            END
+            """,
+            """
+            INSERT OR IGNORE INTO email_outbox (email_id, recipient_id, followup_number, available_at)
+            SELECT id, recipient_id, followup_number, scheduled_date FROM emails
+            WHERE status = 'PENDING' AND email_type IN ('INITIAL', 'FOLLOW_UP')
+            """
+    );
+
+    /**
+     * Pre-rendered template bodies, produced once at template import, and the plain-text part rendered
+     * from them for each email.
+     */
+    private static final Migration PRE_RENDERED_BODIES = Migration.of(4, "Add pre-rendered template and email bodies",
+            "ALTER TABLE templates ADD COLUMN compiled_html TEXT",
+            "ALTER TABLE templates ADD COLUMN compiled_text TEXT",
+            "ALTER TABLE emails ADD COLUMN body_text TEXT"
+    );
+
+    /**
+     * Fingerprints of the spreadsheet rows each synchronization strategy has imported, so unchanged rows
+     * can be skipped on the next run.
+     */
+    private static final Migration ROW_FINGERPRINTS = Migration.of(5, "Add spreadsheet row fingerprints",
+            """
+            CREATE TABLE IF NOT EXISTS row_fingerprints (
+                scope TEXT NOT NULL,
+                sheet_title TEXT NOT NULL,
+                spreadsheet_row INTEGER NOT NULL,
+                hash INTEGER NOT NULL,
+                PRIMARY KEY (scope, sheet_title, spreadsheet_row)
+            ) WITHOUT ROWID
+            """
+    );
+
+    /**
+     * Older versions read unset foreign keys as 0 and wrote that 0 back on save. With foreign keys enforced,
+     * the next update of such a row would fail, so unset references are stored as NULL again.
+     */
+    private static final Migration NULL_UNSET_FOREIGN_KEYS = Migration.of(6, "Replace zero foreign keys with NULL",
+            "UPDATE emails SET initial_email_id = NULL WHERE initial_email_id = 0",
+            "UPDATE emails SET recipient_id = NULL WHERE recipient_id = 0",
+            "UPDATE recipients SET followup_plan_id = NULL WHERE followup_plan_id = 0",
+            "UPDATE followup_plan_steps SET template_id = NULL WHERE template_id = 0"
+    );
+
+    /**
+     * Gets all migrations in ascending version order.
+     *
+     * @return list of migrations
+     */
+    public static List<Migration> getAll() {
+        return List.of(
+                HOT_PATH_INDEXES,
+                SYNC_CHECKPOINTS,
+                EMAIL_OUTBOX,
+                PRE_RENDERED_BODIES,
+                ROW_FINGERPRINTS,
+                NULL_UNSET_FOREIGN_KEYS
+        );
+    }
+}
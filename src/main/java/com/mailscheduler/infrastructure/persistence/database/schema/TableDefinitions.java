@@ -14,16 +14,22 @@ public final class TableDefinitions {
 
     /**
      * All table names used in this application and defined in this class.
+     * Tables come before the tables their foreign keys reference, so they can be dropped in this order
+     * while foreign keys are enforced.
      */
     public static String[] TABLE_NAMES = new String[]{
-            "contacts",
-            "recipients",
+            "email_outbox", // created by Migrations
             "emails",
+            "recipients",
+            "contacts",
             "followup_plan_steps",
             "followup_plans",
             "templates",
             "column_mappings",
-            "configuration"
+            "configuration",
+            "sync_checkpoints", // created by Migrations
+            "row_fingerprints", // created by Migrations
+            "schema_version"
     };
 
     /**
@@ -155,6 +161,17 @@ public final class TableDefinitions {
             )
             """;
 
+    /**
+     * Table definition for recording applied schema migrations.
+     */
+    public static final String SCHEMA_VERSION_TABLE = """
+            -- One row per migration applied from Migrations
+            CREATE TABLE IF NOT EXISTS schema_version (
+                version INTEGER PRIMARY KEY,
+                description TEXT NOT NULL,
+                applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+            """;
 
     /**
      * Gets all table creation statements in the order they should be executed.
@@ -172,7 +189,8 @@ public final class TableDefinitions {
                 FOLLOW_UP_PLAN_STEPS_TABLE,
                 EMAIL_TABLE,
                 CONFIGURATION_TABLE,
-                COLUMN_MAPPINGS
+                COLUMN_MAPPINGS,
+                SCHEMA_VERSION_TABLE
         );
     }
 }
\ No newline at end of file
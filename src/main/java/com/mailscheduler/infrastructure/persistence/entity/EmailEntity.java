@@ -7,6 +7,7 @@ public class EmailEntity extends TableEntity {
     private Long recipientId;
     private String subject;
     private String body;
+    private String bodyText;
     private String emailType;
     private Integer followupNumber;
     private String status;
@@ -20,6 +21,7 @@ public class EmailEntity extends TableEntity {
             Long recipientId,
             String subject,
             String body,
+            String bodyText,
             String emailType,
             Integer followupNumber,
             String status,
@@ -32,6 +34,7 @@ public class EmailEntity extends TableEntity {
         this.recipientId = recipientId;
         this.subject = subject;
         this.body = body;
+        this.bodyText = bodyText;
         this.emailType = emailType;
         this.followupNumber = followupNumber;
         this.status = status;
@@ -68,6 +71,14 @@ public class EmailEntity extends TableEntity {
         this.body = body;
     }
 
+    public String getBodyText() {
+        return bodyText;
+    }
+
+    public void setBodyText(String bodyText) {
+        this.bodyText = bodyText;
+    }
+
     public String getEmailType() {
         return emailType;
     }
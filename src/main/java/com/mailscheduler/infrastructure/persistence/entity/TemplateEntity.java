@@ -7,6 +7,8 @@ public class TemplateEntity extends TableEntity {
     private String delimiters;
     private String placeholders;
     private String draftId;
+    private String compiledHtml;
+    private String compiledText;
 
     public TemplateEntity(
             Long id,
@@ -15,7 +17,9 @@ public class TemplateEntity extends TableEntity {
             String bodyTemplate,
             String delimiters,
             String placeholders,
-            String draftId
+            String draftId,
+            String compiledHtml,
+            String compiledText
     ) {
         setId(id);
         this.templateType = templateType;
@@ -24,6 +28,8 @@ public class TemplateEntity extends TableEntity {
         this.delimiters = delimiters;
         this.placeholders = placeholders;
         this.draftId = draftId;
+        this.compiledHtml = compiledHtml;
+        this.compiledText = compiledText;
     }
 
     // Getters and Setters
@@ -74,4 +80,20 @@ public class TemplateEntity extends TableEntity {
     public void setDraftId(String draftId) {
         this.draftId = draftId;
     }
+
+    public String getCompiledHtml() {
+        return compiledHtml;
+    }
+
+    public void setCompiledHtml(String compiledHtml) {
+        this.compiledHtml = compiledHtml;
+    }
+
+    public String getCompiledText() {
+        return compiledText;
+    }
+
+    public void setCompiledText(String compiledText) {
+        this.compiledText = compiledText;
+    }
 }
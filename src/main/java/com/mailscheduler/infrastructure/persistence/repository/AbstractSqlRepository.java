@@ -16,10 +16,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * Abstract base class for SQL-based repository implementations.
@@ -34,13 +40,67 @@ public abstract class AbstractSqlRepository
         implements Repository<T, M> {
 
     private static final Logger LOGGER = Logger.getLogger(AbstractSqlRepository.class.getName());
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Maximum number of bind parameters used in a single statement. SQLite builds before 3.32
+     * reject statements with more than 999 parameters.
+     */
+    protected static final int MAX_PARAMETERS_PER_QUERY = 999;
+
+    /**
+     * Lengths that {@code IN (...)} lists are padded to. Every chunk length would otherwise produce its own
+     * SQL text and crowd the hot statements out of the per-connection statement cache.
+     */
+    private static final int[] IN_LIST_SIZES = {1, 8, 64, 512};
+
+    /**
+     * Maximum number of values per {@code IN (...)} list, leaving room for other parameters of the statement.
+     */
+    protected static final int MAX_IN_LIST_SIZE = IN_LIST_SIZES[IN_LIST_SIZES.length - 1];
 
     protected final DatabaseFacade db;
 
+    /**
+     * SQL text for the generic operations, built once on first use. Identical SQL text lets the
+     * pooled connections reuse their cached prepared statements.
+     */
+    private volatile SqlStatements statements;
+
     protected AbstractSqlRepository(DatabaseFacade db) {
         this.db = db;
     }
 
+    private SqlStatements statements() {
+        SqlStatements result = statements;
+        if (result == null) {
+            result = new SqlStatements(
+                    createInsertSql(),
+                    createUpdateSql(),
+                    String.format("SELECT * FROM %s WHERE id = ?", tableName()),
+                    String.format("SELECT * FROM %s", tableName()),
+                    String.format("DELETE FROM %s WHERE id = ?", tableName()),
+                    String.format("SELECT 1 FROM %s WHERE id = ?", tableName()),
+                    createUpsertSql(),
+                    // Batched statements must not return rows, so the RETURNING clause is dropped
+                    createUpdateSql().replaceFirst("(?is)\\s*RETURNING\\s+\\*\\s*$", "")
+            );
+            statements = result;
+        }
+        return result;
+    }
+
+    private record SqlStatements(
+            String insert,
+            String update,
+            String findById,
+            String findAll,
+            String delete,
+            String exists,
+            String upsert,
+            String batchUpdate
+    ) {}
+
     /**
      * Gets the name of the database table this repository operates on.
      */
@@ -80,6 +140,17 @@ public abstract class AbstractSqlRepository
      */
     protected abstract String createUpdateSql();
 
+    /**
+     * Creates the SQL for inserting a new entity or updating the existing row with the same natural key
+     * ({@code INSERT ... ON CONFLICT (...) DO UPDATE ... RETURNING *}). It takes the same parameters as
+     * the insert SQL.
+     *
+     * @return The upsert SQL, or null if the table has no natural key
+     */
+    protected String createUpsertSql() {
+        return null;
+    }
+
     /**
      * Sets parameters on a PreparedStatement for insert or update operations.
      *
@@ -89,6 +160,101 @@ public abstract class AbstractSqlRepository
      */
     protected abstract void setStatementParameters(PreparedStatement stmt, E entity) throws SQLException;
 
+    /**
+     * Binds the parameters of a query before it is executed.
+     */
+    @FunctionalInterface
+    protected interface StatementBinder {
+        StatementBinder NONE = stmt -> {};
+
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Runs a query on a read connection and maps its rows lazily as the returned stream is consumed.
+     * The connection stays leased until the stream is closed or fully consumed, so callers should use
+     * try-with-resources and consume the stream on the calling thread.
+     *
+     * @param sql The query to execute
+     * @param binder Binds the query parameters
+     * @return a stream of entity data backed by the open cursor
+     * @throws DataAccessException if the query cannot be executed
+     */
+    protected Stream<EntityData<T, M>> streamQuery(String sql, StatementBinder binder) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        try {
+            conn = db.getReadConnection();
+            stmt = conn.prepareStatement(sql);
+            stmt.setFetchSize(db.getConfig().getFetchSize());
+            binder.bind(stmt);
+            ResultSet rs = stmt.executeQuery();
+            return ResultSetStream.of(conn, stmt, rs, row -> {
+                E entity = mapResultSetToEntity(row);
+                return EntityData.of(toDomainEntity(entity), toMetadata(entity));
+            });
+        } catch (SQLException | RuntimeException e) {
+            ResultSetStream.closeQuietly(conn, stmt);
+            LOGGER.log(Level.SEVERE, "Error streaming entities from " + tableName(), e);
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DataAccessException("Failed to stream entities from " + tableName(), e);
+        }
+    }
+
+    /**
+     * Creates a comma-separated list of {@code count} bind parameters for an {@code IN (...)} clause.
+     */
+    protected static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Rounds the number of values of an {@code IN (...)} list up to the next padded length.
+     *
+     * @param count number of values, at most {@link #MAX_IN_LIST_SIZE}
+     */
+    protected static int inListSize(int count) {
+        for (int size : IN_LIST_SIZES) {
+            if (count <= size) {
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("IN list of " + count + " values exceeds " + MAX_IN_LIST_SIZE);
+    }
+
+    /**
+     * Binds the values of an {@code IN (...)} list, filling the padded slots with the last value. Repeated
+     * values do not change which rows the list matches.
+     *
+     * @param stmt the statement
+     * @param index index of the first parameter of the list
+     * @param values the values, not empty
+     * @param size the padded length, see {@link #inListSize(int)}
+     * @return the index of the parameter after the list
+     * @throws SQLException if a parameter cannot be bound
+     */
+    protected static int bindInList(PreparedStatement stmt, int index, List<?> values, int size) throws SQLException {
+        for (int i = 0; i < size; i++) {
+            stmt.setObject(index + i, values.get(Math.min(i, values.size() - 1)));
+        }
+        return index + size;
+    }
+
+    /**
+     * Reads a nullable integer column, returning null instead of 0 for SQL NULL.
+     *
+     * @param rs The ResultSet positioned on the current row
+     * @param column The column label
+     * @return the column value, or null if the column is NULL
+     * @throws SQLException if a database access error occurs
+     */
+    protected static Long getNullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
     /**
      * Creates a new entity with its metadata in the repository.
      *
@@ -104,7 +270,7 @@ public abstract class AbstractSqlRepository
         }
 
         E tableEntity = toTableEntity(entity, metadata);
-        String sql = createInsertSql();
+        String sql = statements().insert();
 
         try (Connection conn = db.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -144,7 +310,7 @@ public abstract class AbstractSqlRepository
         }
 
         E tableEntity = toTableEntity(entity, metadata);
-        String sql = createUpdateSql();
+        String sql = statements().update();
 
         try (Connection conn = db.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -169,6 +335,121 @@ public abstract class AbstractSqlRepository
         }
     }
 
+    /**
+     * Saves all entities in a single transaction. New entities are inserted one by one to obtain their
+     * generated rows; existing entities are updated with JDBC batches.
+     *
+     * @param entities the entities to save together with their metadata
+     * @return the saved entity data, in input order
+     * @throws EntityNotFoundException if an entity to update does not exist
+     * @throws DataAccessException if a database error occurs; no entity is saved in that case
+     */
+    @Override
+    public List<EntityData<T, M>> saveAllWithMetadata(Collection<EntityData<T, M>> entities) throws RepositoryException {
+        return writeAll(entities, statements().insert());
+    }
+
+    /**
+     * Upserts all entities in a single transaction. Entities without an ID update the row with the same
+     * natural key if one exists (see {@link #createUpsertSql()}); repositories without a natural key
+     * fall back to {@link #saveAllWithMetadata(Collection)}.
+     *
+     * @param entities the entities to upsert together with their metadata
+     * @return the IDs of the upserted entities, in input order
+     * @throws DataAccessException if a database error occurs; no entity is saved in that case
+     */
+    @Override
+    public List<EntityId<T>> upsertAll(Collection<EntityData<T, M>> entities) throws RepositoryException {
+        String upsertSql = statements().upsert();
+        return writeAll(entities, upsertSql != null ? upsertSql : statements().insert()).stream()
+                .map(data -> data.entity().getId())
+                .toList();
+    }
+
+    private List<EntityData<T, M>> writeAll(Collection<EntityData<T, M>> entities, String insertSql) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        List<EntityData<T, M>> result = new ArrayList<>(Collections.nCopies(entities.size(), null));
+
+        try (Connection conn = db.getConnection()) {
+            boolean ownsTransaction = conn.getAutoCommit();
+            if (ownsTransaction) {
+                conn.setAutoCommit(false);
+            }
+
+            try (PreparedStatement insertStmt = conn.prepareStatement(insertSql);
+                 PreparedStatement updateStmt = conn.prepareStatement(statements().batchUpdate())) {
+
+                List<Long> batchedIds = new ArrayList<>(BATCH_SIZE);
+                int index = 0;
+
+                for (EntityData<T, M> data : entities) {
+                    E tableEntity = toTableEntity(data.entity(), data.metadata());
+
+                    if (tableEntity.getId() == null) {
+                        setStatementParameters(insertStmt, tableEntity);
+                        try (ResultSet rs = insertStmt.executeQuery()) {
+                            if (!rs.next()) {
+                                throw new DataAccessException("No data returned after insert");
+                            }
+                            E savedEntity = mapResultSetToEntity(rs);
+                            result.set(index, EntityData.of(toDomainEntity(savedEntity), toMetadata(savedEntity)));
+                        }
+                    } else {
+                        setStatementParameters(updateStmt, tableEntity);
+                        updateStmt.addBatch();
+                        batchedIds.add(tableEntity.getId());
+                        result.set(index, data);
+
+                        if (batchedIds.size() == BATCH_SIZE) {
+                            executeUpdateBatch(updateStmt, batchedIds);
+                        }
+                    }
+                    index++;
+                }
+
+                if (!batchedIds.isEmpty()) {
+                    executeUpdateBatch(updateStmt, batchedIds);
+                }
+
+                if (ownsTransaction) {
+                    conn.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (ownsTransaction) {
+                    try {
+                        conn.rollback();
+                    } catch (SQLException rollbackFailure) {
+                        e.addSuppressed(rollbackFailure);
+                    }
+                }
+                throw e;
+            } finally {
+                if (ownsTransaction) {
+                    conn.setAutoCommit(true);
+                }
+            }
+
+            LOGGER.log(Level.FINE, "Saved {0} entities in table {1}", new Object[]{result.size(), tableName()});
+            return result;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Database error during bulk save in " + tableName(), e);
+            throw new DataAccessException("Database error during bulk save operation", e);
+        }
+    }
+
+    private void executeUpdateBatch(PreparedStatement stmt, List<Long> batchedIds) throws SQLException {
+        int[] counts = stmt.executeBatch();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new EntityNotFoundException("No row updated. Entity might not exist: " + batchedIds.get(i));
+            }
+        }
+        batchedIds.clear();
+    }
+
     /**
      * Finds an entity by its ID along with its metadata.
      *
@@ -178,9 +459,9 @@ public abstract class AbstractSqlRepository
      */
     @Override
     public Optional<EntityData<T, M>> findByIdWithMetadata(EntityId<T> id) {
-        String sql = String.format("SELECT * FROM %s WHERE id = ?", tableName());
+        String sql = statements().findById();
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, id.value());
@@ -205,6 +486,55 @@ public abstract class AbstractSqlRepository
         return Optional.empty();
     }
 
+    /**
+     * Finds several entities by ID with one {@code IN (...)} query per chunk of
+     * {@link #MAX_IN_LIST_SIZE} IDs.
+     *
+     * @param ids the IDs of the entities to find
+     * @return map of the found IDs to their entity data
+     * @throws DataAccessException if a database error occurs
+     */
+    @Override
+    public Map<EntityId<T>, EntityData<T, M>> findAllByIdsWithMetadata(Collection<EntityId<T>> ids) {
+        List<EntityId<T>> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<EntityId<T>, EntityData<T, M>> result = new HashMap<>();
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+
+        try (Connection conn = db.getReadConnection()) {
+            for (int from = 0; from < distinctIds.size(); from += MAX_IN_LIST_SIZE) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinctIds.size()))
+                        .stream()
+                        .map(EntityId::value)
+                        .toList();
+                int size = inListSize(chunk.size());
+                String sql = String.format("SELECT * FROM %s WHERE id IN (%s)", tableName(), placeholders(size));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    bindInList(stmt, 1, chunk, size);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            E entity = mapResultSetToEntity(rs);
+                            T domainEntity = toDomainEntity(entity);
+                            result.put(domainEntity.getId(), EntityData.of(domainEntity, toMetadata(entity)));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error finding entities by IDs in " + tableName(), e);
+            throw new DataAccessException("Failed to find entities by IDs", e);
+        }
+
+        LOGGER.log(Level.FINE, "Found {0} of {1} entities in table {2}",
+                new Object[]{result.size(), distinctIds.size(), tableName()});
+        return result;
+    }
+
     /**
      * Finds all entities in the repository along with their metadata.
      *
@@ -213,10 +543,10 @@ public abstract class AbstractSqlRepository
      */
     @Override
     public List<EntityData<T, M>> findAllWithMetadata() {
-        String sql = String.format("SELECT * FROM %s", tableName());
+        String sql = statements().findAll();
         List<EntityData<T, M>> result = new ArrayList<>();
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
@@ -235,6 +565,17 @@ public abstract class AbstractSqlRepository
         }
     }
 
+    /**
+     * Streams all entities in the repository along with their metadata, reading rows lazily.
+     *
+     * @return a stream of all entity data that must be closed after use
+     * @throws DataAccessException if a database error occurs
+     */
+    @Override
+    public Stream<EntityData<T, M>> streamAllWithMetadata() {
+        return streamQuery(statements().findAll(), StatementBinder.NONE);
+    }
+
     /**
      * Deletes an entity by its ID.
      *
@@ -243,7 +584,7 @@ public abstract class AbstractSqlRepository
      */
     @Override
     public void delete(EntityId<T> id) {
-        String sql = String.format("DELETE FROM %s WHERE id = ?", tableName());
+        String sql = statements().delete();
 
         try (Connection conn = db.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -274,9 +615,9 @@ public abstract class AbstractSqlRepository
      */
     @Override
     public boolean exists(EntityId<T> id) {
-        String sql = String.format("SELECT 1 FROM %s WHERE id = ?", tableName());
+        String sql = statements().exists();
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, id.value());
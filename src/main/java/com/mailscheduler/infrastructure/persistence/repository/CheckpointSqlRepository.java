@@ -0,0 +1,61 @@
+package com.mailscheduler.infrastructure.persistence.repository;
+
+import com.mailscheduler.domain.repository.CheckpointRepository;
+import com.mailscheduler.infrastructure.persistence.database.DatabaseFacade;
+import com.mailscheduler.infrastructure.persistence.repository.exception.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * SQL implementation of the CheckpointRepository, backed by the {@code sync_checkpoints} table.
+ */
+public class CheckpointSqlRepository implements CheckpointRepository {
+    private static final Logger LOGGER = Logger.getLogger(CheckpointSqlRepository.class.getName());
+
+    private static final String FIND_SQL = "SELECT value FROM sync_checkpoints WHERE name = ?";
+    private static final String SAVE_SQL = "INSERT INTO sync_checkpoints (name, value) VALUES (?, ?) " +
+            "ON CONFLICT (name) DO UPDATE SET value = excluded.value, updated_at = CURRENT_TIMESTAMP";
+
+    private final DatabaseFacade db;
+
+    public CheckpointSqlRepository(DatabaseFacade db) {
+        this.db = db;
+    }
+
+    @Override
+    public Optional<String> find(String name) {
+        try (Connection conn = db.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(FIND_SQL)) {
+
+            stmt.setString(1, name);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? Optional.ofNullable(rs.getString(1)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error reading checkpoint " + name, e);
+            throw new DataAccessException("Failed to read checkpoint: " + name, e);
+        }
+    }
+
+    @Override
+    public void save(String name, String value) {
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SAVE_SQL)) {
+
+            stmt.setString(1, name);
+            stmt.setString(2, value);
+            stmt.executeUpdate();
+            LOGGER.log(Level.FINE, "Saved checkpoint {0} = {1}", new Object[]{name, value});
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error saving checkpoint " + name, e);
+            throw new DataAccessException("Failed to save checkpoint: " + name, e);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -133,7 +134,7 @@ public class ConfigurationSqlRepository extends AbstractSqlRepository<Applicatio
     public ApplicationConfiguration getActiveConfiguration() {
         String sql = "SELECT * FROM configuration ORDER BY id DESC LIMIT 1";
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
@@ -164,6 +165,27 @@ public class ConfigurationSqlRepository extends AbstractSqlRepository<Applicatio
         return result;
     }
 
+    /**
+     * Saves the configurations one by one, since each configuration also writes its column mappings.
+     */
+    @Override
+    public List<EntityData<ApplicationConfiguration, NoMetadata>> saveAllWithMetadata(
+            Collection<EntityData<ApplicationConfiguration, NoMetadata>> entities) {
+        List<EntityData<ApplicationConfiguration, NoMetadata>> result = new ArrayList<>(entities.size());
+        for (EntityData<ApplicationConfiguration, NoMetadata> data : entities) {
+            result.add(saveWithMetadata(data.entity(), data.metadata()));
+        }
+        return result;
+    }
+
+    @Override
+    public List<EntityId<ApplicationConfiguration>> upsertAll(
+            Collection<EntityData<ApplicationConfiguration, NoMetadata>> entities) {
+        return saveAllWithMetadata(entities).stream()
+                .map(data -> data.entity().getId())
+                .toList();
+    }
+
     public ApplicationConfiguration save(ApplicationConfiguration configuration) {
         ApplicationConfiguration config;
         if (configuration.getId() == null) {
@@ -183,7 +205,7 @@ public class ConfigurationSqlRepository extends AbstractSqlRepository<Applicatio
     private void loadColumnMappings(ConfigurationEntity configEntity) {
         String sql = "SELECT * FROM column_mappings WHERE config_id = ?";
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, configEntity.getId());
@@ -246,7 +268,7 @@ public class ConfigurationSqlRepository extends AbstractSqlRepository<Applicatio
     public Optional<ApplicationConfiguration> findBySpreadsheetId(String spreadsheetId) {
         String sql = "SELECT * FROM configuration WHERE spreadsheet_id = ?";
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, spreadsheetId);
@@ -1,5 +1,6 @@
 package com.mailscheduler.infrastructure.persistence.repository;
 
+import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.domain.model.common.base.EntityId;
 import com.mailscheduler.domain.model.common.base.NoMetadata;
 import com.mailscheduler.domain.model.recipient.Contact;
@@ -12,6 +13,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * SQL implementation of the ContactRepository.
@@ -20,8 +22,13 @@ import java.util.Optional;
 public class ContactSqlRepository extends AbstractSqlRepository<Contact, NoMetadata, ContactEntity>
         implements ContactRepository {
 
+    private final String findBySpreadsheetRowSql;
+    private final String findBySheetTitleSql;
+
     public ContactSqlRepository(DatabaseFacade db) {
         super(db);
+        this.findBySpreadsheetRowSql = String.format("SELECT * FROM %s WHERE spreadsheet_row = ?", tableName());
+        this.findBySheetTitleSql = String.format("SELECT * FROM %s WHERE sheet_title = ?", tableName());
     }
 
     @Override
@@ -84,6 +91,15 @@ public class ContactSqlRepository extends AbstractSqlRepository<Contact, NoMetad
                 tableName());
     }
 
+    @Override
+    protected String createUpsertSql() {
+        return String.format(
+                "INSERT INTO %s (name, website, phone_number, sheet_title, spreadsheet_row) VALUES (?, ?, ?, ?, ?) " +
+                "ON CONFLICT (sheet_title, spreadsheet_row) DO UPDATE SET " +
+                "name = excluded.name, website = excluded.website, phone_number = excluded.phone_number RETURNING *",
+                tableName());
+    }
+
     @Override
     protected void setStatementParameters(PreparedStatement stmt, ContactEntity entity) throws SQLException {
         stmt.setString(1, entity.getName());
@@ -100,9 +116,9 @@ public class ContactSqlRepository extends AbstractSqlRepository<Contact, NoMetad
 
     @Override
     public Optional<Contact> findBySpreadsheetRow(int rowNumber) {
-        String sql = String.format("SELECT * FROM %s WHERE spreadsheet_row = ?", tableName());
+        String sql = findBySpreadsheetRowSql;
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, rowNumber);
@@ -119,6 +135,11 @@ public class ContactSqlRepository extends AbstractSqlRepository<Contact, NoMetad
         return Optional.empty();
     }
 
+    @Override
+    public Stream<EntityData<Contact, NoMetadata>> streamBySheetTitle(String sheetTitle) {
+        return streamQuery(findBySheetTitleSql, stmt -> stmt.setString(1, sheetTitle));
+    }
+
     public void save(Contact contact) {
         saveWithMetadata(contact, NoMetadata.getInstance());
     }
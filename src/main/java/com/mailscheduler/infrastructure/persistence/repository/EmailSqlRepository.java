@@ -12,12 +12,18 @@ import com.mailscheduler.domain.repository.EmailRepository;
 import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.infrastructure.persistence.database.DatabaseFacade;
 import com.mailscheduler.infrastructure.persistence.entity.EmailEntity;
+import com.mailscheduler.infrastructure.persistence.repository.exception.DataAccessException;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * SQL implementation of the EmailRepository interface.
@@ -25,8 +31,19 @@ import java.util.Optional;
  */
 public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetadata, EmailEntity> implements EmailRepository {
 
+    private final String findPendingScheduledBeforeSql;
+    private final String findByStatusSql;
+    private final String findByTypeSql;
+    private final String findByRecipientIdSql;
+    private final String findInitialEmailByRecipientIdSql;
+
     public EmailSqlRepository(DatabaseFacade db) {
         super(db);
+        this.findPendingScheduledBeforeSql = String.format("SELECT * FROM %s WHERE status = ? AND scheduled_date <= ?", tableName());
+        this.findByStatusSql = String.format("SELECT * FROM %s WHERE status = ?", tableName());
+        this.findByTypeSql = String.format("SELECT * FROM %s WHERE email_type = ?", tableName());
+        this.findByRecipientIdSql = String.format("SELECT * FROM %s WHERE recipient_id = ?", tableName());
+        this.findInitialEmailByRecipientIdSql = String.format("SELECT * FROM %s WHERE recipient_id = ? AND followup_number = 0", tableName());
     }
 
     @Override
@@ -38,10 +55,11 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
     protected EmailEntity mapResultSetToEntity(ResultSet rs) throws SQLException {
         return new EmailEntity(
                 rs.getLong("id"),
-                rs.getLong("initial_email_id"),
-                rs.getLong("recipient_id"),
+                getNullableLong(rs, "initial_email_id"),
+                getNullableLong(rs, "recipient_id"),
                 rs.getString("subject"),
                 rs.getString("body"),
+                rs.getString("body_text"),
                 rs.getString("email_type"),
                 rs.getInt("followup_number"),
                 rs.getString("status"),
@@ -59,6 +77,7 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
                 metadata.recipientId() != null ? metadata.recipientId().value() : null,
                 email.getSubject() != null ? email.getSubject().value() : null,
                 email.getBody() != null ? email.getBody().value() : null,
+                email.getPlainTextBody().map(Body::value).orElse(null),
                 email.getType().toString(),
                 metadata.followupNumber(),
                 metadata.status().toString(),
@@ -69,14 +88,13 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
     }
     @Override
     protected Email toDomainEntity(EmailEntity tableEntity) {
-        return new Email(
-                EntityId.of(tableEntity.getId()),
-                null,
-                null,
-                Subject.of(tableEntity.getSubject()),
-                Body.of(tableEntity.getBody()),
-                EmailType.valueOf(tableEntity.getEmailType())
-        );
+        return new Email.Builder()
+                .setId(EntityId.of(tableEntity.getId()))
+                .setSubject(Subject.of(tableEntity.getSubject()))
+                .setBody(Body.of(tableEntity.getBody()))
+                .setPlainTextBody(tableEntity.getBodyText() != null ? Body.of(tableEntity.getBodyText()) : null)
+                .setType(EmailType.valueOf(tableEntity.getEmailType()))
+                .build();
     }
 
     @Override
@@ -99,8 +117,8 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
             INSERT INTO %s (
                 initial_email_id, recipient_id, subject, body, email_type,
                 followup_number, status, failure_reason,
-                scheduled_date, sent_date
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                scheduled_date, sent_date, body_text
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             RETURNING *
             """, tableName());
     }
@@ -119,7 +137,8 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
                 status = ?,
                 failure_reason = ?,
                 scheduled_date = ?,
-                sent_date = ?
+                sent_date = ?,
+                body_text = ?
             WHERE id = ?
             RETURNING *
             """, tableName());
@@ -146,10 +165,11 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
         stmt.setString(8, entity.getFailureReason());
         stmt.setTimestamp(9, entity.getScheduledDate());
         stmt.setTimestamp(10, entity.getSentDate());
+        stmt.setString(11, entity.getBodyText());
 
-        // For updates, we need to set the ID as the 10th parameter
+        // For updates, we need to set the ID as the 12th parameter
         if (entity.getId() != null) {
-            stmt.setLong(11, entity.getId());
+            stmt.setLong(12, entity.getId());
         }
     }
 
@@ -157,9 +177,9 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
 
     @Override
     public List<EntityData<Email, EmailMetadata>> findPendingScheduledBefore(LocalDate cutoff) {
-        String sql = String.format("SELECT * FROM %s WHERE status = ? AND scheduled_date <= ?", tableName());
+        String sql = findPendingScheduledBeforeSql;
         List<EntityData<Email, EmailMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, EmailStatus.PENDING.toString());
             stmt.setTimestamp(2, Timestamp.valueOf(cutoff.atStartOfDay()));
@@ -177,11 +197,71 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
         return result;
     }
 
+    @Override
+    public Stream<EntityData<Email, EmailMetadata>> streamPendingScheduledBefore(LocalDate cutoff) {
+        return streamQuery(findPendingScheduledBeforeSql, stmt -> {
+            stmt.setString(1, EmailStatus.PENDING.toString());
+            stmt.setTimestamp(2, Timestamp.valueOf(cutoff.atStartOfDay()));
+        });
+    }
+
+    /**
+     * Counts with one {@code GROUP BY} query that only reads the {@code (recipient_id, followup_number)} index.
+     */
+    @Override
+    public Map<Long, Integer> countByRecipientId() {
+        String sql = "SELECT recipient_id, COUNT(*) FROM " + tableName() +
+                " WHERE recipient_id IS NOT NULL GROUP BY recipient_id";
+        Map<Long, Integer> countsByRecipientId = new HashMap<>();
+        try (Connection conn = db.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                countsByRecipientId.put(rs.getLong(1), rs.getInt(2));
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to count emails by recipient", e);
+        }
+        return countsByRecipientId;
+    }
+
+    @Override
+    public int cancelPendingFollowUps(Collection<EntityId<Recipient>> recipientIds) {
+        List<Long> ids = recipientIds.stream()
+                .filter(Objects::nonNull)
+                .map(EntityId::value)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int cancelled = 0;
+        try (Connection conn = db.getConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                int size = inListSize(chunk.size());
+                String sql = String.format("UPDATE %s SET status = ? WHERE status = ? AND followup_number > 0 " +
+                        "AND recipient_id IN (%s)", tableName(), placeholders(size));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setString(1, EmailStatus.CANCELLED.toString());
+                    stmt.setString(2, EmailStatus.PENDING.toString());
+                    bindInList(stmt, 3, chunk, size);
+                    cancelled += stmt.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to cancel pending follow-up emails", e);
+        }
+        return cancelled;
+    }
+
     @Override
     public List<EntityData<Email, EmailMetadata>> findByStatus(EmailStatus status) {
-        String sql = String.format("SELECT * FROM %s WHERE status = ?", tableName());
+        String sql = findByStatusSql;
         List<EntityData<Email, EmailMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, status.toString());
             try (ResultSet rs = stmt.executeQuery()) {
@@ -200,9 +280,9 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
 
     @Override
     public List<EntityData<Email, EmailMetadata>> findByType(EmailType type) {
-        String sql = String.format("SELECT * FROM %s WHERE email_type = ?", tableName());
+        String sql = findByTypeSql;
         List<EntityData<Email, EmailMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, type.toString());
             try (ResultSet rs = stmt.executeQuery()) {
@@ -221,9 +301,9 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
 
     @Override
     public List<EntityData<Email, EmailMetadata>> findByRecipientId(EntityId<Recipient> recipientId) {
-        String sql = String.format("SELECT * FROM %s WHERE recipient_id = ?", tableName());
+        String sql = findByRecipientIdSql;
         List<EntityData<Email, EmailMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setLong(1, recipientId.value());
             try (ResultSet rs = stmt.executeQuery()) {
@@ -242,9 +322,8 @@ public class EmailSqlRepository extends AbstractSqlRepository<Email, EmailMetada
 
     @Override
     public Optional<EntityData<Email, EmailMetadata>> findInitialEmailByRecipientId(EntityId<Recipient> recipientId) {
-        String sql = String.format("SELECT * FROM %s  " +
-                "WHERE recipient_id = ? AND e.followup_number = 0 ", tableName());
-        try (Connection conn = db.getConnection();
+        String sql = findInitialEmailByRecipientIdSql;
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setLong(1, recipientId.value());
             try (ResultSet rs = stmt.executeQuery()) {
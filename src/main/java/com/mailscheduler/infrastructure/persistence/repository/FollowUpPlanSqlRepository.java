@@ -70,7 +70,7 @@ public class FollowUpPlanSqlRepository extends AbstractSqlRepository<FollowUpPla
     protected String createUpdateSql() {
         return String.format(
                 """
-                UPDATE %s SET followup_plan_type = ? WHERE id = ?
+                UPDATE %s SET followup_plan_type = ? WHERE id = ? RETURNING *
                 """,
                 tableName()
         );
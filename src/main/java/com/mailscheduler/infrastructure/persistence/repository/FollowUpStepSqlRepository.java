@@ -24,8 +24,13 @@ import java.util.Optional;
 public class FollowUpStepSqlRepository extends AbstractSqlRepository<FollowUpStep, FollowUpStepMetadata, FollowUpStepEntity>
 implements FollowUpStepRepository {
 
+    private final String findByPlanIdOrderByFollowUpNumberAscSql;
+    private final String findByPlanIdAndFollowupNumberSql;
+
     public FollowUpStepSqlRepository(DatabaseFacade db) {
         super(db);
+        this.findByPlanIdOrderByFollowUpNumberAscSql = String.format("SELECT * FROM %s WHERE plan_id = ? ORDER BY step_number ASC", tableName());
+        this.findByPlanIdAndFollowupNumberSql = String.format("SELECT * FROM %s WHERE plan_id = ? AND step_number = ?", tableName());
     }
 
     @Override
@@ -37,10 +42,10 @@ implements FollowUpStepRepository {
     protected FollowUpStepEntity mapResultSetToEntity(ResultSet rs) throws SQLException {
         return new FollowUpStepEntity(
                 rs.getLong("id"),
-                rs.getLong("id"),
+                rs.getLong("plan_id"),
                 rs.getInt("step_number"),
                 rs.getInt("waiting_period"),
-                rs.getLong("template_id")
+                getNullableLong(rs, "template_id")
         );
     }
 
@@ -67,7 +72,7 @@ implements FollowUpStepRepository {
     protected FollowUpStepMetadata toMetadata(FollowUpStepEntity tableEntity) {
         return new FollowUpStepMetadata(
                 EntityId.of(tableEntity.getPlanId()),
-                EntityId.of(tableEntity.getTemplateId())
+                tableEntity.getTemplateId() != null ? EntityId.of(tableEntity.getTemplateId()) : null
         );
     }
 
@@ -88,6 +93,20 @@ implements FollowUpStepRepository {
                 UPDATE %s SET
                     plan_id = ?, step_number = ?, waiting_period = ?, template_id = ?
                     WHERE id = ?
+                    RETURNING *
+                """, tableName()
+        );
+    }
+
+    @Override
+    protected String createUpsertSql() {
+        return String.format(
+                """
+                INSERT INTO %s (plan_id, step_number, waiting_period, template_id)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (plan_id, step_number) DO UPDATE SET
+                    waiting_period = excluded.waiting_period, template_id = excluded.template_id
+                RETURNING *
                 """, tableName()
         );
     }
@@ -108,10 +127,10 @@ implements FollowUpStepRepository {
 
     @Override
     public List<EntityData<FollowUpStep, FollowUpStepMetadata>> findByPlanIdOrderByFollowUpNumberAsc(EntityId<FollowUpPlan> planId) {
-        String sql = String.format("SELECT * FROM %s WHERE plan_id = ? ORDER BY step_number ASC", tableName());
+        String sql = findByPlanIdOrderByFollowUpNumberAscSql;
         List<EntityData<FollowUpStep, FollowUpStepMetadata>> result = new ArrayList<>();
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, planId.value());
@@ -133,9 +152,9 @@ implements FollowUpStepRepository {
 
     @Override
     public Optional<EntityData<FollowUpStep, FollowUpStepMetadata>> findByPlanIdAndFollowupNumber(EntityId<FollowUpPlan> planId, int followupNumber) {
-        String sql = String.format("SELECT * FROM %s WHERE plan_id = ? AND step_number = ?", tableName());
+        String sql = findByPlanIdAndFollowupNumberSql;
 
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, planId.value());
@@ -0,0 +1,187 @@
+package com.mailscheduler.infrastructure.persistence.repository;
+
+import com.mailscheduler.domain.model.common.base.EntityId;
+import com.mailscheduler.domain.model.email.Email;
+import com.mailscheduler.domain.repository.OutboxRepository;
+import com.mailscheduler.infrastructure.persistence.database.DatabaseFacade;
+import com.mailscheduler.infrastructure.persistence.repository.exception.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.mailscheduler.infrastructure.persistence.repository.AbstractSqlRepository.MAX_IN_LIST_SIZE;
+import static com.mailscheduler.infrastructure.persistence.repository.AbstractSqlRepository.bindInList;
+import static com.mailscheduler.infrastructure.persistence.repository.AbstractSqlRepository.inListSize;
+import static com.mailscheduler.infrastructure.persistence.repository.AbstractSqlRepository.placeholders;
+
+/**
+ * SQL implementation of the OutboxRepository, backed by the {@code email_outbox} table.
+ * Entries are added and removed by triggers on {@code emails}; this class only manages their leases.
+ * Each claim is a single {@code UPDATE ... RETURNING} statement, so concurrent workers, even in different
+ * processes, can never lease the same email.
+ */
+public class OutboxSqlRepository implements OutboxRepository {
+    private static final Logger LOGGER = Logger.getLogger(OutboxSqlRepository.class.getName());
+
+    private static final String CLAIM_SQL = """
+            UPDATE email_outbox
+            SET lease_owner = ?, lease_expires_at = ?, attempts = attempts + 1
+            WHERE email_id IN (
+                SELECT o.email_id FROM email_outbox o
+                WHERE o.available_at <= ?
+                  AND o.recipient_id IS NOT NULL
+                  AND (o.lease_owner IS NULL OR o.lease_expires_at <= ?)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM email_outbox earlier
+                      WHERE earlier.recipient_id = o.recipient_id
+                        AND earlier.available_at <= ?
+                        AND (earlier.followup_number < o.followup_number
+                             OR (earlier.followup_number = o.followup_number AND earlier.email_id < o.email_id))
+                  )
+                ORDER BY o.available_at, o.email_id
+                LIMIT ?
+            )
+            RETURNING email_id, available_at
+            """;
+    private static final String REAP_SQL =
+            "UPDATE email_outbox SET lease_owner = NULL, lease_expires_at = NULL " +
+            "WHERE lease_owner IS NOT NULL AND lease_expires_at <= ?";
+
+    private final DatabaseFacade db;
+
+    public OutboxSqlRepository(DatabaseFacade db) {
+        this.db = db;
+    }
+
+    @Override
+    public List<EntityId<Email>> claim(String owner, int limit, LocalDate dueBefore, Instant now, Instant leaseExpiresAt) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Timestamp due = Timestamp.valueOf(dueBefore.atStartOfDay());
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(CLAIM_SQL)) {
+
+            stmt.setString(1, owner);
+            stmt.setLong(2, leaseExpiresAt.toEpochMilli());
+            stmt.setTimestamp(3, due);
+            stmt.setLong(4, now.toEpochMilli());
+            stmt.setTimestamp(5, due);
+            stmt.setInt(6, limit);
+
+            // RETURNING does not preserve the subquery order
+            List<ClaimedRow> claimed = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    claimed.add(new ClaimedRow(rs.getLong("email_id"), rs.getTimestamp("available_at")));
+                }
+            }
+            claimed.sort(ClaimedRow.SCHEDULING_ORDER);
+
+            List<EntityId<Email>> emailIds = new ArrayList<>(claimed.size());
+            for (ClaimedRow row : claimed) {
+                emailIds.add(EntityId.of(row.emailId()));
+            }
+            LOGGER.fine("Worker " + owner + " claimed " + emailIds.size() + " emails");
+            return emailIds;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error claiming emails from the outbox", e);
+            throw new DataAccessException("Failed to claim emails from the outbox", e);
+        }
+    }
+
+    @Override
+    public int renew(String owner, Collection<EntityId<Email>> emailIds, Instant leaseExpiresAt) {
+        return updateLeases("UPDATE email_outbox SET lease_expires_at = ? WHERE lease_owner = ? AND email_id IN (%s)",
+                emailIds, stmt -> {
+                    stmt.setLong(1, leaseExpiresAt.toEpochMilli());
+                    stmt.setString(2, owner);
+                    return 3;
+                }, "renew");
+    }
+
+    @Override
+    public int release(String owner, Collection<EntityId<Email>> emailIds) {
+        return updateLeases("UPDATE email_outbox SET lease_owner = NULL, lease_expires_at = NULL " +
+                        "WHERE lease_owner = ? AND email_id IN (%s)",
+                emailIds, stmt -> {
+                    stmt.setString(1, owner);
+                    return 2;
+                }, "release");
+    }
+
+    @Override
+    public int reapExpired(Instant now) {
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(REAP_SQL)) {
+
+            stmt.setLong(1, now.toEpochMilli());
+            int reaped = stmt.executeUpdate();
+            if (reaped > 0) {
+                LOGGER.info("Cleared " + reaped + " expired outbox leases");
+            }
+            return reaped;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error clearing expired outbox leases", e);
+            throw new DataAccessException("Failed to clear expired outbox leases", e);
+        }
+    }
+
+    /**
+     * Runs a lease update for the given emails in chunks of at most {@link AbstractSqlRepository#MAX_IN_LIST_SIZE} IDs.
+     *
+     * @param sqlTemplate statement with a {@code %s} for the ID placeholders
+     * @param leadingBinder binds the parameters before the IDs and returns the index of the first ID parameter
+     */
+    private int updateLeases(String sqlTemplate, Collection<EntityId<Email>> emailIds,
+                             LeadingParameterBinder leadingBinder, String operation) {
+        List<Long> ids = emailIds.stream()
+                .filter(Objects::nonNull)
+                .map(EntityId::value)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        try (Connection conn = db.getConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                int size = inListSize(chunk.size());
+                try (PreparedStatement stmt = conn.prepareStatement(String.format(sqlTemplate, placeholders(size)))) {
+                    bindInList(stmt, leadingBinder.bind(stmt), chunk, size);
+                    updated += stmt.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error trying to " + operation + " outbox leases", e);
+            throw new DataAccessException("Failed to " + operation + " outbox leases", e);
+        }
+        return updated;
+    }
+
+    @FunctionalInterface
+    private interface LeadingParameterBinder {
+        int bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    private record ClaimedRow(long emailId, Timestamp availableAt) {
+        private static final Comparator<ClaimedRow> SCHEDULING_ORDER = Comparator
+                .comparing(ClaimedRow::availableAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(ClaimedRow::emailId);
+    }
+}
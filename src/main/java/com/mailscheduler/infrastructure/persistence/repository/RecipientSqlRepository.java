@@ -10,20 +10,37 @@ import com.mailscheduler.domain.model.common.base.EntityData;
 import com.mailscheduler.domain.repository.RecipientRepository;
 import com.mailscheduler.infrastructure.persistence.database.DatabaseFacade;
 import com.mailscheduler.infrastructure.persistence.entity.RecipientEntity;
+import com.mailscheduler.infrastructure.persistence.repository.exception.DataAccessException;
+import com.mailscheduler.util.LongIntHashMap;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * SQL implementation of the RecipientRepository.
  * Handles persistence of Recipient entities in a relational database.
+ * Saves never clear a recipient's reply flag, since replies detected in the inbox are only recorded here.
  */
 public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, RecipientMetadata, RecipientEntity>
         implements RecipientRepository {
 
+    private final String findByContactIdSql;
+    private final String findBySheetTitleSql;
+    private final String findByFollowUpPlanIdSql;
+    private final String findByHasRepliedSql;
+    private final String findRecipientsNeedingInitialContactSql;
+
     public RecipientSqlRepository(DatabaseFacade db) {
         super(db);
+        this.findByContactIdSql = String.format("SELECT * FROM %s WHERE contact_id = ?", tableName());
+        this.findBySheetTitleSql = String.format(
+                "SELECT r.* FROM %s r JOIN contacts c ON c.id = r.contact_id WHERE c.sheet_title = ?", tableName());
+        this.findByFollowUpPlanIdSql = "SELECT * FROM " + tableName() + " WHERE followup_plan_id = ?";
+        this.findByHasRepliedSql = "SELECT * FROM " + tableName() + " WHERE has_replied = ?";
+        this.findRecipientsNeedingInitialContactSql = "SELECT * FROM " + tableName() + " WHERE has_replied = false AND initial_contact_date IS NULL";
     }
 
     @Override
@@ -37,7 +54,7 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
                 rs.getLong("id"),
                 rs.getLong("contact_id"),
                 rs.getString("email_address"),
-                rs.getLong("followup_plan_id"),
+                getNullableLong(rs, "followup_plan_id"),
                 rs.getString("salutation"),
                 rs.getTimestamp("initial_contact_date"),
                 rs.getBoolean("has_replied"),
@@ -51,7 +68,7 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
                 domainEntity.getId() != null ? domainEntity.getId().value() : null,
                 metadata.contactId().value(),
                 domainEntity.getEmailAddress().value(),
-                metadata.followupPlanId().value(),
+                metadata.followupPlanId() != null ? metadata.followupPlanId().value() : null,
                 domainEntity.getSalutation(),
                 domainEntity.getInitialContactDate() != null ? Timestamp.valueOf(domainEntity.getInitialContactDate().atStartOfDay()) : null,
                 domainEntity.hasReplied(),
@@ -76,7 +93,7 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
     protected RecipientMetadata toMetadata(RecipientEntity tableEntity) {
         return new RecipientMetadata(
                 EntityId.of(tableEntity.getContactId()),
-                EntityId.of(tableEntity.getFollowupPlanId()),
+                tableEntity.getFollowupPlanId() != null ? EntityId.of(tableEntity.getFollowupPlanId()) : null,
                 new ThreadId(tableEntity.getThreadId())
         );
     }
@@ -103,18 +120,40 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
                     followup_plan_id = ?,
                     salutation = ?,
                     initial_contact_date = ?,
-                    has_replied = ?,
+                    has_replied = has_replied OR ?,
                     thread_id = ?
                 WHERE id = ?
                 RETURNING *
                 """, tableName());
     }
 
+    @Override
+    protected String createUpsertSql() {
+        return String.format(
+                """
+                INSERT INTO %s (
+                    contact_id, email_address, followup_plan_id, salutation,
+                    initial_contact_date, has_replied, thread_id
+                ) VALUES (?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (contact_id, email_address) DO UPDATE SET
+                    followup_plan_id = COALESCE(followup_plan_id, excluded.followup_plan_id),
+                    salutation = excluded.salutation,
+                    initial_contact_date = excluded.initial_contact_date,
+                    has_replied = has_replied OR excluded.has_replied,
+                    thread_id = COALESCE(excluded.thread_id, thread_id)
+                RETURNING *
+                """, tableName());
+    }
+
     @Override
     protected void setStatementParameters(PreparedStatement stmt, RecipientEntity entity) throws SQLException {
         stmt.setLong(1, entity.getContactId());
         stmt.setString(2, entity.getEmailAddress());
-        stmt.setLong(3, entity.getFollowupPlanId());
+        if (entity.getFollowupPlanId() != null) {
+            stmt.setLong(3, entity.getFollowupPlanId());
+        } else {
+            stmt.setNull(3, Types.BIGINT);
+        }
         stmt.setString(4, entity.getSalutation());
         stmt.setTimestamp(5, entity.getInitialContactDate());
         stmt.setBoolean(6, entity.hasReplied());
@@ -128,9 +167,9 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
 
     @Override
     public List<EntityData<Recipient, RecipientMetadata>> findByContactId(EntityId<Contact> contactId) {
-        String sql = String.format("SELECT * FROM %s WHERE contact_id = ?", tableName());
+        String sql = findByContactIdSql;
         List<EntityData<Recipient, RecipientMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setLong(1, contactId.value());
             try (ResultSet rs = stmt.executeQuery()) {
@@ -144,11 +183,34 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
         return result;
     }
 
+    /**
+     * Loads the recipients with one {@code recipients JOIN contacts} query, served by the unique
+     * {@code (sheet_title, spreadsheet_row)} and {@code (contact_id, email_address)} indices.
+     */
+    @Override
+    public List<EntityData<Recipient, RecipientMetadata>> findBySheetTitle(String sheetTitle) {
+        List<EntityData<Recipient, RecipientMetadata>> result = new ArrayList<>();
+        try (Connection conn = db.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(findBySheetTitleSql)) {
+            stmt.setFetchSize(db.getConfig().getFetchSize());
+            stmt.setString(1, sheetTitle);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    RecipientEntity entity = mapResultSetToEntity(rs);
+                    result.add(EntityData.of(toDomainEntity(entity), toMetadata(entity)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to load recipients of sheet " + sheetTitle, e);
+        }
+        return result;
+    }
+
     @Override
     public List<EntityData<Recipient, RecipientMetadata>> findByFollowUpPlanId(EntityId<com.mailscheduler.domain.model.schedule.FollowUpPlan> planId) {
-        String sql = "SELECT * FROM " + tableName() + " WHERE followup_plan_id = ?";
+        String sql = findByFollowUpPlanIdSql;
         List<EntityData<Recipient, RecipientMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setLong(1, planId.value());
             try (ResultSet rs = stmt.executeQuery()) {
@@ -164,9 +226,9 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
 
     @Override
     public List<EntityData<Recipient, RecipientMetadata>> findByHasReplied(boolean hasReplied) {
-        String sql = "SELECT * FROM " + tableName() + " WHERE has_replied = ?";
+        String sql = findByHasRepliedSql;
         List<EntityData<Recipient, RecipientMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setBoolean(1, hasReplied);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -180,11 +242,84 @@ public class RecipientSqlRepository extends AbstractSqlRepository<Recipient, Rec
         return result;
     }
 
+    /**
+     * Resolves rows with one {@code recipients JOIN contacts} query per chunk of
+     * {@link #MAX_IN_LIST_SIZE} IDs.
+     */
+    @Override
+    public LongIntHashMap findSpreadsheetRowsByRecipientIds(Collection<EntityId<Recipient>> recipientIds) {
+        List<Long> ids = recipientIds.stream()
+                .filter(Objects::nonNull)
+                .map(EntityId::value)
+                .distinct()
+                .toList();
+        LongIntHashMap rowsByRecipientId = new LongIntHashMap(ids.size());
+        if (ids.isEmpty()) {
+            return rowsByRecipientId;
+        }
+
+        try (Connection conn = db.getReadConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                int size = inListSize(chunk.size());
+                String sql = "SELECT r.id, c.spreadsheet_row FROM " + tableName() + " r " +
+                        "JOIN contacts c ON c.id = r.contact_id WHERE r.id IN (" + placeholders(size) + ")";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    bindInList(stmt, 1, chunk, size);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            rowsByRecipientId.put(rs.getLong(1), rs.getInt(2));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to resolve spreadsheet rows for recipients", e);
+        }
+        return rowsByRecipientId;
+    }
+
+    @Override
+    public List<EntityId<Recipient>> markRepliedByThreadIds(Collection<ThreadId> threadIds) {
+        List<String> ids = threadIds.stream()
+                .filter(Objects::nonNull)
+                .map(ThreadId::value)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        List<EntityId<Recipient>> updated = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return updated;
+        }
+
+        try (Connection conn = db.getConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                List<String> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                int size = inListSize(chunk.size());
+                String sql = "UPDATE " + tableName() + " SET has_replied = TRUE " +
+                        "WHERE has_replied = FALSE AND thread_id IN (" + placeholders(size) + ") RETURNING id";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    bindInList(stmt, 1, chunk, size);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            updated.add(EntityId.of(rs.getLong(1)));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to mark recipients as replied", e);
+        }
+        return updated;
+    }
+
     @Override
     public List<EntityData<Recipient, RecipientMetadata>> findRecipientsNeedingInitialContact() {
-        String sql = "SELECT * FROM " + tableName() + " WHERE has_replied = false AND initial_contact_date IS NULL";
+        String sql = findRecipientsNeedingInitialContactSql;
         List<EntityData<Recipient, RecipientMetadata>> result = new ArrayList<>();
-        try (Connection conn = db.getConnection();
+        try (Connection conn = db.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
@@ -0,0 +1,105 @@
+package com.mailscheduler.infrastructure.persistence.repository;
+
+import com.mailscheduler.infrastructure.persistence.repository.exception.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily maps the rows of an open result set to a {@link Stream}.
+ * <p>
+ *     Rows are read from the cursor only as the stream is consumed, so memory use does not depend on the
+ *     size of the result. The result set, statement and connection are released when the stream is closed
+ *     or the last row has been read, whichever comes first. Because pooled connections are bound to the
+ *     thread that leased them, the stream must be consumed and closed on the thread that opened it.
+ * </p>
+ */
+final class ResultSetStream {
+    private static final Logger LOGGER = Logger.getLogger(ResultSetStream.class.getName());
+
+    /**
+     * Maps the current row of a result set.
+     */
+    @FunctionalInterface
+    interface RowMapper<R> {
+        R map(ResultSet rs) throws SQLException;
+    }
+
+    private ResultSetStream() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates a stream over an executed query. Ownership of all three resources passes to the stream.
+     */
+    static <R> Stream<R> of(Connection conn, PreparedStatement stmt, ResultSet rs, RowMapper<R> mapper) {
+        Resources resources = new Resources(conn, stmt, rs);
+        Spliterator<R> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                if (resources.closed) {
+                    return false;
+                }
+                try {
+                    if (!rs.next()) {
+                        resources.close();
+                        return false;
+                    }
+                    action.accept(mapper.map(rs));
+                    return true;
+                } catch (SQLException e) {
+                    resources.close();
+                    throw new DataAccessException("Failed to read next row", e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(resources::close);
+    }
+
+    /**
+     * Closes whatever was opened so far; used when a query fails before its stream is created.
+     */
+    static void closeQuietly(Connection conn, PreparedStatement stmt) {
+        new Resources(conn, stmt, null).close();
+    }
+
+    private static final class Resources {
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private boolean closed;
+
+        private Resources(Connection conn, PreparedStatement stmt, ResultSet rs) {
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (AutoCloseable resource : new AutoCloseable[]{rs, stmt, conn}) {
+                if (resource == null) {
+                    continue;
+                }
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Failed to release streamed query resource", e);
+                }
+            }
+        }
+    }
+}
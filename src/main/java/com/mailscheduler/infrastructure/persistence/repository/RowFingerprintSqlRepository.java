@@ -0,0 +1,128 @@
+package com.mailscheduler.infrastructure.persistence.repository;
+
+import com.mailscheduler.domain.repository.RowFingerprintRepository;
+import com.mailscheduler.infrastructure.persistence.database.DatabaseFacade;
+import com.mailscheduler.infrastructure.persistence.repository.exception.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * SQL implementation of the RowFingerprintRepository, backed by the {@code row_fingerprints} table.
+ */
+public class RowFingerprintSqlRepository implements RowFingerprintRepository {
+    private static final Logger LOGGER = Logger.getLogger(RowFingerprintSqlRepository.class.getName());
+    private static final int BATCH_SIZE = 500;
+
+    private static final String FIND_SQL =
+            "SELECT spreadsheet_row, hash FROM row_fingerprints WHERE scope = ? AND sheet_title = ?";
+    private static final String UPSERT_SQL =
+            "INSERT INTO row_fingerprints (scope, sheet_title, spreadsheet_row, hash) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (scope, sheet_title, spreadsheet_row) DO UPDATE SET hash = excluded.hash";
+    private static final String DELETE_SQL =
+            "DELETE FROM row_fingerprints WHERE scope = ? AND sheet_title = ? AND spreadsheet_row = ?";
+
+    private final DatabaseFacade db;
+
+    public RowFingerprintSqlRepository(DatabaseFacade db) {
+        this.db = db;
+    }
+
+    @Override
+    public Map<Integer, Long> findBySheet(String scope, String sheetTitle) {
+        Map<Integer, Long> fingerprints = new HashMap<>();
+        try (Connection conn = db.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(FIND_SQL)) {
+
+            stmt.setFetchSize(db.getConfig().getFetchSize());
+            stmt.setString(1, scope);
+            stmt.setString(2, sheetTitle);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    fingerprints.put(rs.getInt(1), rs.getLong(2));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error reading row fingerprints of sheet " + sheetTitle, e);
+            throw new DataAccessException("Failed to read row fingerprints of sheet: " + sheetTitle, e);
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Writes with JDBC batches. Joins the caller's transaction if one is active.
+     */
+    @Override
+    public void update(String scope, String sheetTitle, Map<Integer, Long> fingerprints, Collection<Integer> deletedRows) {
+        if (fingerprints.isEmpty() && deletedRows.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = db.getConnection()) {
+            boolean ownsTransaction = conn.getAutoCommit();
+            if (ownsTransaction) {
+                conn.setAutoCommit(false);
+            }
+
+            try (PreparedStatement upsertStmt = conn.prepareStatement(UPSERT_SQL);
+                 PreparedStatement deleteStmt = conn.prepareStatement(DELETE_SQL)) {
+
+                int batched = 0;
+                for (Map.Entry<Integer, Long> fingerprint : fingerprints.entrySet()) {
+                    upsertStmt.setString(1, scope);
+                    upsertStmt.setString(2, sheetTitle);
+                    upsertStmt.setInt(3, fingerprint.getKey());
+                    upsertStmt.setLong(4, fingerprint.getValue());
+                    upsertStmt.addBatch();
+                    if (++batched % BATCH_SIZE == 0) {
+                        upsertStmt.executeBatch();
+                    }
+                }
+                upsertStmt.executeBatch();
+
+                batched = 0;
+                for (Integer row : deletedRows) {
+                    deleteStmt.setString(1, scope);
+                    deleteStmt.setString(2, sheetTitle);
+                    deleteStmt.setInt(3, row);
+                    deleteStmt.addBatch();
+                    if (++batched % BATCH_SIZE == 0) {
+                        deleteStmt.executeBatch();
+                    }
+                }
+                deleteStmt.executeBatch();
+
+                if (ownsTransaction) {
+                    conn.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (ownsTransaction) {
+                    try {
+                        conn.rollback();
+                    } catch (SQLException rollbackFailure) {
+                        e.addSuppressed(rollbackFailure);
+                    }
+                }
+                throw e;
+            } finally {
+                if (ownsTransaction) {
+                    conn.setAutoCommit(true);
+                }
+            }
+
+            LOGGER.log(Level.FINE, "Stored {0} and removed {1} row fingerprints of sheet {2}",
+                    new Object[]{fingerprints.size(), deletedRows.size(), sheetTitle});
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error writing row fingerprints of sheet " + sheetTitle, e);
+            throw new DataAccessException("Failed to write row fingerprints of sheet: " + sheetTitle, e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.mailscheduler.domain.model.common.vo.email.Body;
 import com.mailscheduler.domain.model.common.base.EntityId;
 import com.mailscheduler.domain.model.common.vo.email.Subject;
 import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
+import com.mailscheduler.domain.model.template.CompiledTemplate;
 import com.mailscheduler.domain.model.template.Template;
 import com.mailscheduler.domain.model.template.TemplateMetadata;
 import com.mailscheduler.domain.model.template.TemplateType;
@@ -28,8 +29,17 @@ import java.util.*;
 public class TemplateSqlRepository extends AbstractSqlRepository<Template, TemplateMetadata, TemplateEntity>
         implements TemplateRepository {
 
+    private final String findByDraftIdSql;
+    private final String findByTypeSql;
+    private final String findDefaultTemplatesSql;
+    private final String findBySubjectSql;
+
     public TemplateSqlRepository(DatabaseFacade db) {
         super(db);
+        this.findByDraftIdSql = String.format("SELECT * FROM %s WHERE draft_id = ?", tableName());
+        this.findByTypeSql = String.format("SELECT * FROM %s WHERE template_type = ?", tableName());
+        this.findDefaultTemplatesSql = String.format("SELECT * FROM %s WHERE template_type = ? AND draft_id IS NULL", tableName());
+        this.findBySubjectSql = String.format("SELECT * FROM %s WHERE subject_template = ?", tableName());
     }
 
     @Override
@@ -46,13 +56,17 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
                 rs.getString("body_template"),
                 rs.getString("delimiters"),
                 rs.getString("placeholders"),
-                rs.getString("draft_id")
+                rs.getString("draft_id"),
+                rs.getString("compiled_html"),
+                rs.getString("compiled_text")
         );
     }
 
     @Override
     protected TemplateEntity toTableEntity(Template domainEntity, TemplateMetadata metadata) {
         PlaceholderManager placeholderManager = domainEntity.getPlaceholderManager();
+        String compiledHtml = domainEntity.getCompiled().map(CompiledTemplate::getHtml).orElse(null);
+        String compiledText = domainEntity.getCompiled().map(CompiledTemplate::getPlainText).orElse(null);
 
         if (placeholderManager != null) {
             ObjectMapper mapper = new ObjectMapper();
@@ -71,7 +85,9 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
                     domainEntity.getBody().value(),
                     new String(placeholderManager.getDelimiters()),
                     json,
-                    metadata.draftId()
+                    metadata.draftId(),
+                    compiledHtml,
+                    compiledText
             );
         } else {
             return new TemplateEntity(
@@ -81,7 +97,9 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
                     domainEntity.getBody().value(),
                     null,
                     null,
-                    metadata.draftId()
+                    metadata.draftId(),
+                    compiledHtml,
+                    compiledText
             );
         }
     }
@@ -109,6 +127,7 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
                     .setSubject(Subject.of(tableEntity.getSubjectTemplate()))
                     .setBody(Body.of(tableEntity.getBodyTemplate()))
                     .setPlaceholderManager(placeholderManager)
+                    .setCompiled(toCompiledTemplate(tableEntity, delimiters))
                     .build();
         }
 
@@ -117,9 +136,17 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
                 .setType(TemplateType.valueOf(tableEntity.getTemplateType()))
                 .setSubject(Subject.of(tableEntity.getSubjectTemplate()))
                 .setBody(Body.of(tableEntity.getBodyTemplate()))
+                .setCompiled(toCompiledTemplate(tableEntity, new PlaceholderManager().getDelimiters()))
                 .build();
     }
 
+    private CompiledTemplate toCompiledTemplate(TemplateEntity tableEntity, char[] delimiters) {
+        if (tableEntity.getCompiledHtml() == null || tableEntity.getCompiledText() == null) {
+            return null;
+        }
+        return CompiledTemplate.of(tableEntity.getCompiledHtml(), tableEntity.getCompiledText(), delimiters);
+    }
+
     @Override
     protected TemplateMetadata toMetadata(TemplateEntity tableEntity) {
         return new TemplateMetadata(tableEntity.getDraftId());
@@ -130,8 +157,9 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
         return String.format(
                 """
                 INSERT INTO %s
-                    (template_type, subject_template, body_template, delimiters, placeholders, draft_id)
-                    VALUES (?, ?, ?, ?, ?, ?)
+                    (template_type, subject_template, body_template, delimiters, placeholders, draft_id,
+                     compiled_html, compiled_text)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?)
                     RETURNING *
                 """, tableName());
     }
@@ -146,7 +174,9 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
                     body_template = ?,
                     delimiters = ?,
                     placeholders = ?,
-                    draft_id = ?
+                    draft_id = ?,
+                    compiled_html = ?,
+                    compiled_text = ?
                 WHERE id = ?
                 RETURNING *
                 """, tableName());
@@ -160,17 +190,19 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
         stmt.setString(4, entity.getDelimiters());
         stmt.setString(5, entity.getPlaceholders());
         stmt.setString(6, entity.getDraftId());
+        stmt.setString(7, entity.getCompiledHtml());
+        stmt.setString(8, entity.getCompiledText());
 
-        // For updates, we need to set the ID as the 7th parameter
+        // For updates, we need to set the ID as the 9th parameter
         if (entity.getId() != null) {
-            stmt.setLong(7, entity.getId());
+            stmt.setLong(9, entity.getId());
         }
     }
 
     @Override
     public Optional<EntityData<Template, TemplateMetadata>> findByDraftId(String draftId) {
-        String sql = String.format("SELECT * FROM %s WHERE draft_id = ?", tableName());
-        try (var conn = db.getConnection();
+        String sql = findByDraftIdSql;
+        try (var conn = db.getReadConnection();
              var stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, draftId);
             try (var rs = stmt.executeQuery()) {
@@ -189,9 +221,9 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
 
     @Override
     public List<EntityData<Template, TemplateMetadata>> findByType(TemplateType type) {
-        String sql = String.format("SELECT * FROM %s WHERE template_type = ?", tableName());
+        String sql = findByTypeSql;
         List<EntityData<Template, TemplateMetadata>> result = new ArrayList<>();
-        try (var conn = db.getConnection();
+        try (var conn = db.getReadConnection();
              var stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, type.toString());
             try (var rs = stmt.executeQuery()) {
@@ -210,9 +242,9 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
 
     @Override
     public List<EntityData<Template, TemplateMetadata>> findDefaultTemplates(TemplateType type) {
-        String sql = String.format("SELECT * FROM %s WHERE template_type = ? AND draft_id IS NULL", tableName());
+        String sql = findDefaultTemplatesSql;
         List<EntityData<Template, TemplateMetadata>> result = new ArrayList<>();
-        try (var conn = db.getConnection();
+        try (var conn = db.getReadConnection();
              var stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, type.toString());
             try (var rs = stmt.executeQuery()) {
@@ -231,8 +263,8 @@ public class TemplateSqlRepository extends AbstractSqlRepository<Template, Templ
 
     @Override
     public Optional<EntityData<Template, TemplateMetadata>> findBySubject(Subject subject) {
-        String sql = String.format("SELECT * FROM %s WHERE subject_template = ?", tableName());
-        try (var conn = db.getConnection();
+        String sql = findBySubjectSql;
+        try (var conn = db.getReadConnection();
              var stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, subject.value());
             try (var rs = stmt.executeQuery()) {
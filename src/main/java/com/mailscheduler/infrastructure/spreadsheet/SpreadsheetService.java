@@ -90,12 +90,15 @@ public class SpreadsheetService {
 
             // Find required column mappings
             Map<String, ColumnMapping> mappings = findRequiredColumnMappings(columnMappings, numberOfFollowUps);
+            SpreadsheetWriteBuffer writeBuffer = new SpreadsheetWriteBuffer(spreadsheetGateway, spreadsheetId);
 
             // Update initial contact dates
-            updateInitialContactDates(spreadsheetId, mappings.get("initialContactDate"), scheduledEmailsMap);
+            updateInitialContactDates(writeBuffer, mappings.get("initialContactDate"), scheduledEmailsMap);
 
             // Update follow-up information
-            updateFollowUpSchedules(spreadsheetId, mappings, scheduledEmailsMap, numberOfFollowUps);
+            updateFollowUpSchedules(writeBuffer, mappings, scheduledEmailsMap);
+
+            writeBuffer.flush();
 
             LOGGER.info("Successfully updated scheduled emails in spreadsheet");
         } catch (IOException e) {
@@ -139,19 +142,21 @@ public class SpreadsheetService {
             // Skip initial emails (follow-up number 0)
             resultsByFollowUpNumber.remove(0);
 
-            // Update status for each follow-up
+            // Update status for each follow-up, written together in as few requests as possible
+            SpreadsheetWriteBuffer writeBuffer = new SpreadsheetWriteBuffer(spreadsheetGateway, spreadsheetId);
             for (Map.Entry<Integer, List<EmailSendingResult>> entry : resultsByFollowUpNumber.entrySet()) {
                 int followUpNumber = entry.getKey();
                 List<EmailSendingResult> followUpResults = entry.getValue();
 
                 updateFollowUpStatus(
-                        spreadsheetId,
+                        writeBuffer,
                         columnMappings,
                         followUpNumber,
                         followUpResults,
                         recipientIdToRowMap
                 );
             }
+            writeBuffer.flush();
 
             LOGGER.info("Successfully updated sent emails in spreadsheet");
         } catch (IOException e) {
@@ -247,13 +252,12 @@ public class SpreadsheetService {
     }
 
     private void updateInitialContactDates(
-            String spreadsheetId,
+            SpreadsheetWriteBuffer writeBuffer,
             ColumnMapping initialContactDateColumn,
-            RowToScheduledEmailsMap scheduledEmailsMap) throws IOException {
+            RowToScheduledEmailsMap scheduledEmailsMap) {
 
         LOGGER.info("Updating initial contact dates");
-        List<SpreadsheetReference> cellReferences = new ArrayList<>();
-        List<String> cellValues = new ArrayList<>();
+        int written = 0;
 
         for (Map.Entry<Integer, List<EntityData<Email, EmailMetadata>>> entry :
                 scheduledEmailsMap.scheduledEmailsMap().entrySet()) {
@@ -268,29 +272,25 @@ public class SpreadsheetService {
                             initialContactDateColumn.columnReference().getReference() + row
                     );
 
-                    String formattedDate = formatDate(email.metadata().scheduledDate());
-                    cellReferences.add(cellRef);
-                    cellValues.add(formattedDate);
+                    writeBuffer.putCell(cellRef, formatDate(email.metadata().scheduledDate()));
+                    written++;
                     break;
                 }
             }
         }
 
-        if (!cellReferences.isEmpty()) {
-            LOGGER.info("Writing " + cellReferences.size() + " initial contact dates");
-            spreadsheetGateway.writeDataToCells(spreadsheetId, cellReferences, cellValues);
+        if (written > 0) {
+            LOGGER.info("Buffered " + written + " initial contact dates");
         }
     }
 
     private void updateFollowUpSchedules(
-            String spreadsheetId,
+            SpreadsheetWriteBuffer writeBuffer,
             Map<String, ColumnMapping> mappings,
-            RowToScheduledEmailsMap scheduledEmailsMap,
-            int numberOfFollowUps) throws IOException {
+            RowToScheduledEmailsMap scheduledEmailsMap) {
 
         LOGGER.info("Updating follow-up schedules");
-        List<List<Object>> followupDataForRows = new ArrayList<>();
-        List<SpreadsheetReference> followupReferenceRows = new ArrayList<>();
+        int writtenRows = 0;
 
         for (Map.Entry<Integer, List<EntityData<Email, EmailMetadata>>> entry :
                 scheduledEmailsMap.scheduledEmailsMap().entrySet()) {
@@ -307,14 +307,13 @@ public class SpreadsheetService {
                         row
                 );
 
-                followupReferenceRows.add(rangeRef);
-                followupDataForRows.add(followupDataForRow);
+                writeBuffer.putRow(rangeRef, followupDataForRow);
+                writtenRows++;
             }
         }
 
-        if (!followupReferenceRows.isEmpty()) {
-            LOGGER.info("Writing follow-up schedules for " + followupReferenceRows.size() + " rows");
-            spreadsheetGateway.writeData(spreadsheetId, followupReferenceRows, followupDataForRows);
+        if (writtenRows > 0) {
+            LOGGER.info("Buffered follow-up schedules for " + writtenRows + " rows");
         }
     }
 
@@ -324,11 +323,11 @@ public class SpreadsheetService {
     }
 
     private void updateFollowUpStatus(
-            String spreadsheetId,
+            SpreadsheetWriteBuffer writeBuffer,
             List<ColumnMapping> columnMappings,
             int followUpNumber,
             List<EmailSendingResult> followUpResults,
-            Map<EntityId<Recipient>, Integer> recipientIdToRowMap) throws IOException {
+            Map<EntityId<Recipient>, Integer> recipientIdToRowMap) {
 
         // Find the column mapping for this follow-up's status
         Optional<ColumnMapping> followupColumnStateOpt =
@@ -339,9 +338,7 @@ public class SpreadsheetService {
             return;
         }
 
-        List<SpreadsheetReference> cellReferences = new ArrayList<>();
-        List<String> cellValues = new ArrayList<>();
-
+        int written = 0;
         for (EmailSendingResult result : followUpResults) {
             Integer row = recipientIdToRowMap.get(result.recipientId());
             if (row == null) {
@@ -358,14 +355,13 @@ public class SpreadsheetService {
                     result.sendResult().getDisplayStatus() :
                     "Skipped";
 
-            cellReferences.add(cellRef);
-            cellValues.add(statusValue);
+            writeBuffer.putCell(cellRef, statusValue);
+            written++;
         }
 
-        if (!cellReferences.isEmpty()) {
-            LOGGER.info("Writing status for " + cellReferences.size() +
+        if (written > 0) {
+            LOGGER.info("Buffered status for " + written +
                     " follow-up #" + followUpNumber + " emails");
-            spreadsheetGateway.writeDataToCells(spreadsheetId, cellReferences, cellValues);
         }
     }
 
@@ -0,0 +1,336 @@
+package com.mailscheduler.infrastructure.spreadsheet;
+
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.mailscheduler.application.synchronization.spreadsheet.gateway.SpreadsheetGateway;
+import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
+import com.mailscheduler.util.SpreadsheetColumns;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects the cell writes of one stage and sends them as few, large batch updates.
+ * <p>
+ *     Cells are buffered per sheet; a later write to the same cell replaces the earlier one. On
+ *     {@link #flush()}, horizontally adjacent cells are joined into row runs and runs spanning the same columns
+ *     in consecutive rows into rectangles, so a block of cells becomes a single range. The ranges are then
+ *     packed into {@code values.batchUpdate} requests bounded by cell count and estimated payload size,
+ *     splitting rectangles by rows where one alone would exceed a bound. Not thread-safe.
+ * </p>
+ */
+public class SpreadsheetWriteBuffer {
+    private static final Logger LOGGER = Logger.getLogger(SpreadsheetWriteBuffer.class.getName());
+
+    public static final int DEFAULT_MAX_CELLS_PER_REQUEST = 10_000;
+    /**
+     * Google recommends keeping request payloads under 2 MB.
+     */
+    public static final long DEFAULT_MAX_BYTES_PER_REQUEST = 2L * 1024 * 1024;
+    private static final long CELL_OVERHEAD_BYTES = 8;
+    private static final long RANGE_OVERHEAD_BYTES = 64;
+
+    private final SpreadsheetGateway spreadsheetGateway;
+    private final String spreadsheetId;
+    private final int maxCellsPerRequest;
+    private final long maxBytesPerRequest;
+
+    /**
+     * Pending values by sheet title, spreadsheet row (1-based) and column index (0-based).
+     */
+    private final Map<String, TreeMap<Integer, TreeMap<Integer, Object>>> pending = new LinkedHashMap<>();
+    private int pendingCells;
+
+    /**
+     * Outcome of a flush.
+     *
+     * @param cells number of cells written
+     * @param ranges number of ranges the cells were merged into
+     * @param cellsPerRequest number of cells sent with each batch update, in order
+     */
+    public record FlushResult(int cells, int ranges, List<Integer> cellsPerRequest) {
+        public static FlushResult empty() {
+            return new FlushResult(0, 0, List.of());
+        }
+
+        public int requests() {
+            return cellsPerRequest.size();
+        }
+    }
+
+    public SpreadsheetWriteBuffer(SpreadsheetGateway spreadsheetGateway, String spreadsheetId) {
+        this(spreadsheetGateway, spreadsheetId, DEFAULT_MAX_CELLS_PER_REQUEST, DEFAULT_MAX_BYTES_PER_REQUEST);
+    }
+
+    public SpreadsheetWriteBuffer(
+            SpreadsheetGateway spreadsheetGateway,
+            String spreadsheetId,
+            int maxCellsPerRequest,
+            long maxBytesPerRequest
+    ) {
+        this.spreadsheetGateway = Objects.requireNonNull(spreadsheetGateway, "Spreadsheet gateway cannot be null");
+        this.spreadsheetId = Objects.requireNonNull(spreadsheetId, "Spreadsheet ID cannot be null");
+        if (maxCellsPerRequest < 1 || maxBytesPerRequest < 1) {
+            throw new IllegalArgumentException("Request limits must be positive");
+        }
+        this.maxCellsPerRequest = maxCellsPerRequest;
+        this.maxBytesPerRequest = maxBytesPerRequest;
+    }
+
+    /**
+     * Buffers the value of one cell.
+     *
+     * @param sheetTitle title of the sheet
+     * @param row spreadsheet row number, starting at 1
+     * @param column column index, starting at 0 for column A
+     * @param value the value to write
+     */
+    public void put(String sheetTitle, int row, int column, Object value) {
+        Objects.requireNonNull(sheetTitle, "Sheet title cannot be null");
+        if (row < 1 || column < 0) {
+            throw new IllegalArgumentException("Invalid cell position: row " + row + ", column " + column);
+        }
+        TreeMap<Integer, Object> cells = pending
+                .computeIfAbsent(sheetTitle, title -> new TreeMap<>())
+                .computeIfAbsent(row, r -> new TreeMap<>());
+        if (!cells.containsKey(column)) {
+            pendingCells++;
+        }
+        cells.put(column, value);
+    }
+
+    /**
+     * Buffers the value of the cell a reference points to.
+     *
+     * @param cell a cell reference with sheet title
+     * @param value the value to write
+     */
+    public void putCell(SpreadsheetReference cell, Object value) {
+        putRow(cell, Collections.singletonList(value));
+    }
+
+    /**
+     * Buffers values for consecutive cells of one row, starting at the first cell of a reference.
+     *
+     * @param start a cell or range reference with sheet title
+     * @param values the values to write from the start cell to the right
+     */
+    public void putRow(SpreadsheetReference start, List<?> values) {
+        Objects.requireNonNull(start, "Start reference cannot be null");
+        String firstCell = start.getReference().split(":")[0];
+        int row = SpreadsheetColumns.rowIndex(firstCell) + 1;
+        int column = SpreadsheetColumns.toIndex(firstCell);
+        for (int i = 0; i < values.size(); i++) {
+            put(start.getSheetTitle(), row, column + i, values.get(i));
+        }
+    }
+
+    public int pendingCells() {
+        return pendingCells;
+    }
+
+    public boolean isEmpty() {
+        return pendingCells == 0;
+    }
+
+    /**
+     * Writes all buffered cells and empties the buffer.
+     * <p>
+     *     If a request fails, the buffer keeps all cells, so flushing again rewrites the ones already sent.
+     * </p>
+     *
+     * @return the number of cells, ranges and requests written
+     * @throws IOException If a batch update fails
+     */
+    public FlushResult flush() throws IOException {
+        if (pendingCells == 0) {
+            return FlushResult.empty();
+        }
+
+        List<Block> blocks = new ArrayList<>();
+        for (Map.Entry<String, TreeMap<Integer, TreeMap<Integer, Object>>> sheet : pending.entrySet()) {
+            for (Block block : mergeIntoBlocks(sheet.getKey(), sheet.getValue())) {
+                blocks.addAll(splitToLimits(block));
+            }
+        }
+
+        List<Integer> cellsPerRequest = new ArrayList<>();
+        List<ValueRange> request = new ArrayList<>();
+        int requestCells = 0;
+        long requestBytes = 0;
+        for (Block block : blocks) {
+            if (!request.isEmpty() && (requestCells + block.cells() > maxCellsPerRequest
+                    || requestBytes + block.estimatedBytes() > maxBytesPerRequest)) {
+                send(request, requestCells, cellsPerRequest);
+                request = new ArrayList<>();
+                requestCells = 0;
+                requestBytes = 0;
+            }
+            request.add(block.toValueRange());
+            requestCells += block.cells();
+            requestBytes += block.estimatedBytes();
+        }
+        send(request, requestCells, cellsPerRequest);
+
+        FlushResult result = new FlushResult(pendingCells, blocks.size(), List.copyOf(cellsPerRequest));
+        LOGGER.info("Wrote " + result.cells() + " cells as " + result.ranges() + " ranges in "
+                + result.requests() + " requests");
+        pending.clear();
+        pendingCells = 0;
+        return result;
+    }
+
+    private void send(List<ValueRange> request, int cells, List<Integer> cellsPerRequest) throws IOException {
+        spreadsheetGateway.writeDataBatch(spreadsheetId, request);
+        cellsPerRequest.add(cells);
+        LOGGER.log(Level.FINE, "Batch update {0}: {1} cells in {2} ranges",
+                new Object[]{cellsPerRequest.size(), cells, request.size()});
+    }
+
+    /**
+     * Joins the cells of one sheet into rectangles: contiguous cells of a row form a run, and runs covering
+     * the same columns in consecutive rows form one block.
+     */
+    private List<Block> mergeIntoBlocks(String sheetTitle, TreeMap<Integer, TreeMap<Integer, Object>> rows) {
+        List<Block> closed = new ArrayList<>();
+        Map<Long, Block> open = new HashMap<>();
+
+        for (Map.Entry<Integer, TreeMap<Integer, Object>> rowEntry : rows.entrySet()) {
+            int row = rowEntry.getKey();
+            Map<Long, Block> extended = new HashMap<>();
+
+            for (Run run : runsOf(rowEntry.getValue())) {
+                int firstColumn = run.firstColumn();
+                int lastColumn = firstColumn + run.values().size() - 1;
+                long key = ((long) firstColumn << 32) | lastColumn;
+
+                Block block = open.remove(key);
+                if (block == null || block.lastRow() != row - 1) {
+                    if (block != null) {
+                        closed.add(block);
+                    }
+                    block = new Block(sheetTitle, row, firstColumn, lastColumn);
+                }
+                block.addRow(run.values());
+                extended.put(key, block);
+            }
+
+            closed.addAll(open.values());
+            open = extended;
+        }
+        closed.addAll(open.values());
+        return closed;
+    }
+
+    /**
+     * Splits the cells of a row into runs of adjacent columns.
+     */
+    private static List<Run> runsOf(TreeMap<Integer, Object> cells) {
+        List<Run> runs = new ArrayList<>();
+        Run run = null;
+        int previousColumn = Integer.MIN_VALUE;
+        for (Map.Entry<Integer, Object> cell : cells.entrySet()) {
+            if (run == null || cell.getKey() != previousColumn + 1) {
+                run = new Run(cell.getKey(), new ArrayList<>());
+                runs.add(run);
+            }
+            run.values().add(cell.getValue());
+            previousColumn = cell.getKey();
+        }
+        return runs;
+    }
+
+    /**
+     * Splits a block by rows into blocks that each fit into one request. A single row is never split.
+     */
+    private List<Block> splitToLimits(Block block) {
+        if (block.cells() <= maxCellsPerRequest && block.estimatedBytes() <= maxBytesPerRequest) {
+            return List.of(block);
+        }
+
+        List<Block> parts = new ArrayList<>();
+        Block part = null;
+        Iterator<List<Object>> rows = block.rows.iterator();
+        int row = block.firstRow;
+        while (rows.hasNext()) {
+            List<Object> values = rows.next();
+            long rowBytes = estimateBytes(values);
+            if (part == null || part.cells() + values.size() > maxCellsPerRequest
+                    || part.estimatedBytes() + rowBytes > maxBytesPerRequest) {
+                part = new Block(block.sheetTitle, row, block.firstColumn, block.lastColumn);
+                parts.add(part);
+            }
+            part.addRow(values);
+            row++;
+        }
+        return parts;
+    }
+
+    private static long estimateBytes(List<Object> values) {
+        long bytes = 0;
+        for (Object value : values) {
+            bytes += CELL_OVERHEAD_BYTES + (value == null ? 0 : value.toString().length());
+        }
+        return bytes;
+    }
+
+    /**
+     * Adjacent cells of one row, starting at a column.
+     */
+    private record Run(int firstColumn, List<Object> values) {
+    }
+
+    /**
+     * A rectangle of cells written as one range.
+     */
+    private static final class Block {
+        private final String sheetTitle;
+        private final int firstRow;
+        private final int firstColumn;
+        private final int lastColumn;
+        private final List<List<Object>> rows = new ArrayList<>();
+        private long estimatedBytes = RANGE_OVERHEAD_BYTES;
+
+        private Block(String sheetTitle, int firstRow, int firstColumn, int lastColumn) {
+            this.sheetTitle = sheetTitle;
+            this.firstRow = firstRow;
+            this.firstColumn = firstColumn;
+            this.lastColumn = lastColumn;
+        }
+
+        void addRow(List<Object> values) {
+            rows.add(values);
+            estimatedBytes += estimateBytes(values);
+        }
+
+        int lastRow() {
+            return firstRow + rows.size() - 1;
+        }
+
+        int cells() {
+            return rows.size() * (lastColumn - firstColumn + 1);
+        }
+
+        long estimatedBytes() {
+            return estimatedBytes;
+        }
+
+        ValueRange toValueRange() {
+            String range = SpreadsheetColumns.toLetters(firstColumn) + firstRow + ":"
+                    + SpreadsheetColumns.toLetters(lastColumn) + lastRow();
+            return new ValueRange()
+                    .setRange(SpreadsheetReference.ofRange(sheetTitle, range).getGoogleSheetsReference())
+                    .setMajorDimension("ROWS")
+                    .setValues(rows);
+        }
+    }
+}
@@ -5,157 +5,24 @@ import com.mailscheduler.domain.model.email.Email;
 import com.mailscheduler.domain.model.common.vo.ThreadId;
 
 import javax.mail.MessagingException;
-import javax.mail.Multipart;
-import javax.mail.Session;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeBodyPart;
-import javax.mail.internet.MimeMessage;
-import javax.mail.internet.MimeMultipart;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Base64;
-import java.util.Properties;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * Converts domain emails into Gmail API messages using the shared {@link MimeRenderer}.
+ */
 public class EmailConverter {
     private static final Logger LOGGER = Logger.getLogger(EmailConverter.class.getName());
 
     public static Message convertEmailToMessage(Email email, ThreadId threadId) throws ConversionException {
         try {
-            LOGGER.info("Converting Email to Message: " + email);
-            Properties props = new Properties();
-            Session session = Session.getDefaultInstance(props, null);
-
-            MimeMessage mimeMessage = new MimeMessage(session);
-            mimeMessage.setFrom(new InternetAddress(email.getSender().value()));
-            mimeMessage.addRecipient(javax.mail.Message.RecipientType.TO, new InternetAddress(email.getRecipient().value()));
-            mimeMessage.setSubject(email.getSubject().value());
-
-            // Process the body content to handle Loom embeds
-            String processedBody = processEmailContent(email.getBody().value());
-
-            // Create multipart message
-            Multipart multipart = new MimeMultipart("alternative");
-
-            // Add plain text part
-            MimeBodyPart textPart = new MimeBodyPart();
-            textPart.setText(stripHtml(processedBody), "utf-8");
-            multipart.addBodyPart(textPart);
-
-            // Add HTML part
-            MimeBodyPart htmlPart = new MimeBodyPart();
-            htmlPart.setContent(processedBody, "text/html; charset=utf-8");
-            multipart.addBodyPart(htmlPart);
-
-            mimeMessage.setContent(multipart);
-
-            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-            mimeMessage.writeTo(buffer);
-
-            String encodedEmail = Base64.getUrlEncoder().encodeToString(buffer.toByteArray());
-            Message message = new Message();
-            message.setRaw(encodedEmail);
-
-            if (threadId != null) {
-                message.setThreadId(threadId.value());
-            }
-
-            return message;
+            LOGGER.fine(() -> "Converting email " + email.getId() + " to message");
+            return MimeRenderer.getInstance().render(email, threadId);
         } catch (MessagingException | IOException e) {
             throw new ConversionException("Failed to convert email object to message object: " + e.getMessage(), e);
         }
     }
 
-    private static String processEmailContent(String content) {
-        if (content == null || content.isEmpty()) {
-            return content;
-        }
-
-        Pattern loomEmbededPattern = Pattern.compile(
-                "<div>\\s*" +
-                        "<a href=\"https://www\\.loom\\.com/share/[a-zA-Z0-9]+\">\\s*" +
-                        "<p>.*?</p>\\s*" +
-                        "</a>\\s*" +
-                        "<a href=\"https://www\\.loom\\.com/share/[a-zA-Z0-9]+\">\\s*" +
-                        "<img style=\"max-width:300px;\" src=\"https://cdn\\.loom\\.com/sessions/thumbnails/[a-zA-Z0-9]+-[a-zA-Z0-9]+-full-play\\.gif\">\\s*" +
-                        "</a>\\s*" +
-                        "</div>",
-                Pattern.DOTALL
-        );
-        Matcher embedMatcher = loomEmbededPattern.matcher(content);
-
-        // If no Loom video is found, return original content
-        if (!embedMatcher.find()) {
-            return content;
-        }
-
-        // Process the found Loom video and replace it in the content
-        String processedVideo = processLoomVideo(embedMatcher.group());
-        return embedMatcher.replaceFirst(Matcher.quoteReplacement(processedVideo));
-    }
-
-    private static String processLoomVideo(String embedCode) {
-        Pattern loomLinkPattern = Pattern.compile("href=\"(https://www\\.loom\\.com/share/[a-zA-Z0-9]+)\"");
-        Matcher linkMatcher = loomLinkPattern.matcher(embedCode);
-
-        if (!linkMatcher.find()) {
-            throw new IllegalArgumentException("Invalid Loom embed code: Missing share URL");
-        }
-
-        String shareUrl = linkMatcher.group(1);
-
-
-        // Extract and process the title
-        Pattern loomTitlePattern = Pattern.compile("<p>(.*?)</p>");
-        Matcher titleMatcher = loomTitlePattern.matcher(embedCode);
-        String title = titleMatcher.find()
-                ? titleMatcher.group(1).replace("Watch Video", "Video jetzt ansehen")
-                : "Ideen für Ihr Online-Marketing - Video jetzt ansehen";
-
-        // Construct the new embed code
-        return String.format(
-                """
-                        <div>
-                            <a href="%s">
-                                <p>%s</p>
-                            </a>
-                            <a href="%s">
-                                <img style="max-width:300px;" src="https://cdn.loom.com/sessions/thumbnails/%s-full-play.gif">
-                            </a>
-                            <br/><br/>Hier auch noch mal der Link:<br/><a href="%s">%s</a>
-                        </div>""",
-                shareUrl,
-                title,
-                shareUrl,
-                extractThumbnailId(embedCode),
-                shareUrl,
-                shareUrl
-        );
-
-    }
-
-    private static String extractThumbnailId(String embedCode) {
-        Pattern thumbnailPattern = Pattern.compile("thumbnails/([a-zA-Z0-9]+-[a-zA-Z0-9]+)-full-play\\.gif");
-        Matcher thumbnailMatcher = thumbnailPattern.matcher(embedCode);
-        if (!thumbnailMatcher.find()) {
-            throw new IllegalArgumentException("Invalid Loom embed code: Missing thumbnail ID");
-        }
-        return thumbnailMatcher.group(1);
-    }
-
-    /**
-     * Strips HTML tags from text to create plain text version
-     */
-    private static String stripHtml(String html) {
-        return html.replaceAll("<[^>]*>", "")           // Remove HTML tags
-                .replaceAll("&nbsp;", " ")            // Replace &nbsp; with space
-                .replaceAll("\\s+", " ")              // Replace multiple spaces with single space
-                .replaceAll("(?m)^\\s+$", "")         // Remove empty lines
-                .trim();                              // Trim leading/trailing whitespace
-    }
-
     public static class ConversionException extends Exception {
         public ConversionException(String message, Throwable throwable) {
             super(message, throwable);
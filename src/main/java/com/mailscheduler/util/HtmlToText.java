@@ -0,0 +1,98 @@
+package com.mailscheduler.util;
+
+/**
+ * Derives the plain-text alternative of an HTML email body in a single pass.
+ * <p>
+ *     Tags are dropped, {@code &nbsp;} counts as whitespace, every run of whitespace becomes one space and the
+ *     result is trimmed. A {@code <} without a closing {@code >} is kept as text.
+ * </p>
+ */
+public final class HtmlToText {
+    private static final String NBSP = "&nbsp;";
+
+    private HtmlToText() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Converts HTML to plain text.
+     *
+     * @param html the HTML to convert, may be null
+     * @return the plain text, or an empty string for null input
+     */
+    public static String convert(CharSequence html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder(html.length());
+        appendTo(text, html, false);
+        return text.toString();
+    }
+
+    /**
+     * Appends the plain text of an HTML fragment.
+     *
+     * @param target the builder to append to
+     * @param html the HTML fragment
+     * @param pendingSpace whether whitespace preceded the fragment and has not been written yet
+     * @return whether the fragment ended in whitespace that has not been written yet
+     */
+    public static boolean appendTo(StringBuilder target, CharSequence html, boolean pendingSpace) {
+        int length = html.length();
+        int i = 0;
+        while (i < length) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int close = indexOf(html, '>', i + 1);
+                if (close >= 0) {
+                    i = close + 1;
+                    continue;
+                }
+            } else if (c == '&' && regionMatches(html, i, NBSP)) {
+                pendingSpace = true;
+                i += NBSP.length();
+                continue;
+            } else if (isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+
+            if (pendingSpace && !target.isEmpty()) {
+                target.append(' ');
+            }
+            pendingSpace = false;
+            target.append(c);
+            i++;
+        }
+        return pendingSpace;
+    }
+
+    /**
+     * Matches the characters of the regex class {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int indexOf(CharSequence text, char c, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(CharSequence text, int offset, String expected) {
+        if (offset + expected.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (text.charAt(offset + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
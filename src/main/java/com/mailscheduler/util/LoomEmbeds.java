@@ -0,0 +1,96 @@
+package com.mailscheduler.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the Loom video embed that Gmail drafts contain into a localized embed with an explicit link.
+ */
+public final class LoomEmbeds {
+    private static final Pattern EMBED_PATTERN = Pattern.compile(
+            "<div>\\s*" +
+                    "<a href=\"https://www\\.loom\\.com/share/[a-zA-Z0-9]+\">\\s*" +
+                    "<p>.*?</p>\\s*" +
+                    "</a>\\s*" +
+                    "<a href=\"https://www\\.loom\\.com/share/[a-zA-Z0-9]+\">\\s*" +
+                    "<img style=\"max-width:300px;\" src=\"https://cdn\\.loom\\.com/sessions/thumbnails/[a-zA-Z0-9]+-[a-zA-Z0-9]+-full-play\\.gif\">\\s*" +
+                    "</a>\\s*" +
+                    "</div>",
+            Pattern.DOTALL
+    );
+    private static final Pattern LINK_PATTERN = Pattern.compile("href=\"(https://www\\.loom\\.com/share/[a-zA-Z0-9]+)\"");
+    private static final Pattern TITLE_PATTERN = Pattern.compile("<p>(.*?)</p>");
+    private static final Pattern THUMBNAIL_PATTERN = Pattern.compile("thumbnails/([a-zA-Z0-9]+-[a-zA-Z0-9]+)-full-play\\.gif");
+    private static final String EMBED_MARKER = "https://www.loom.com/share/";
+
+    private LoomEmbeds() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Rewrites the first Loom embed in the content.
+     *
+     * @param content the HTML content, may be null
+     * @return the content with the embed rewritten, or the content itself if it has no embed
+     */
+    public static String rewrite(String content) {
+        // Cheap check first; most bodies have no embed and never reach the regex
+        if (content == null || !content.contains(EMBED_MARKER)) {
+            return content;
+        }
+
+        Matcher embedMatcher = EMBED_PATTERN.matcher(content);
+        if (!embedMatcher.find()) {
+            return content;
+        }
+
+        String processedVideo = rewriteEmbed(embedMatcher.group());
+        return new StringBuilder(content.length() + processedVideo.length())
+                .append(content, 0, embedMatcher.start())
+                .append(processedVideo)
+                .append(content, embedMatcher.end(), content.length())
+                .toString();
+    }
+
+    private static String rewriteEmbed(String embedCode) {
+        Matcher linkMatcher = LINK_PATTERN.matcher(embedCode);
+        if (!linkMatcher.find()) {
+            throw new IllegalArgumentException("Invalid Loom embed code: Missing share URL");
+        }
+        String shareUrl = linkMatcher.group(1);
+
+        // Extract and process the title
+        Matcher titleMatcher = TITLE_PATTERN.matcher(embedCode);
+        String title = titleMatcher.find()
+                ? titleMatcher.group(1).replace("Watch Video", "Video jetzt ansehen")
+                : "Ideen für Ihr Online-Marketing - Video jetzt ansehen";
+
+        // Construct the new embed code
+        return String.format(
+                """
+                        <div>
+                            <a href="%s">
+                                <p>%s</p>
+                            </a>
+                            <a href="%s">
+                                <img style="max-width:300px;" src="https://cdn.loom.com/sessions/thumbnails/%s-full-play.gif">
+                            </a>
+                            <br/><br/>Hier auch noch mal der Link:<br/><a href="%s">%s</a>
+                        </div>""",
+                shareUrl,
+                title,
+                shareUrl,
+                extractThumbnailId(embedCode),
+                shareUrl,
+                shareUrl
+        );
+    }
+
+    private static String extractThumbnailId(String embedCode) {
+        Matcher thumbnailMatcher = THUMBNAIL_PATTERN.matcher(embedCode);
+        if (!thumbnailMatcher.find()) {
+            throw new IllegalArgumentException("Invalid Loom embed code: Missing thumbnail ID");
+        }
+        return thumbnailMatcher.group(1);
+    }
+}
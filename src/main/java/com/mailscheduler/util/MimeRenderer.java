@@ -0,0 +1,154 @@
+package com.mailscheduler.util;
+
+import com.google.api.services.gmail.model.Message;
+import com.mailscheduler.domain.model.common.vo.ThreadId;
+import com.mailscheduler.domain.model.email.Email;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeBodyPart;
+import javax.mail.internet.MimeMessage;
+import javax.mail.internet.MimeMultipart;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Properties;
+
+/**
+ * Renders emails into Gmail API messages.
+ * <p>
+ *     The mail session is shared and each thread reuses one output buffer, into which the MIME message is
+ *     base64url-encoded as it is written, so the raw payload is produced without intermediate copies.
+ *     Thread-safe.
+ * </p>
+ */
+public final class MimeRenderer {
+    /** Buffers that grew beyond this size are dropped after use instead of being kept per thread. */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private static final MimeRenderer INSTANCE = new MimeRenderer();
+
+    private final Session session = Session.getInstance(new Properties());
+    private final ThreadLocal<EncodingBuffer> buffers = ThreadLocal.withInitial(EncodingBuffer::new);
+
+    private MimeRenderer() {
+    }
+
+    public static MimeRenderer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Renders an email. Emails rendered from a compiled template carry both parts already; for all others
+     * the HTML part (with Loom embeds rewritten) and the plain-text part are derived from the body.
+     *
+     * @param email the email to render
+     * @param threadId the thread to add the message to, may be null
+     * @return the Gmail message with its raw payload set
+     */
+    public Message render(Email email, ThreadId threadId) throws MessagingException, IOException {
+        if (email.getPlainTextBody().isPresent()) {
+            return render(email, email.getBody().value(), email.getPlainTextBody().get().value(), threadId);
+        }
+        String html = LoomEmbeds.rewrite(email.getBody().value());
+        return render(email, html, HtmlToText.convert(html), threadId);
+    }
+
+    /**
+     * Renders an email whose HTML and plain-text parts have already been produced.
+     *
+     * @param email the email providing sender, recipient and subject
+     * @param html the HTML part
+     * @param plainText the plain-text part
+     * @param threadId the thread to add the message to, may be null
+     * @return the Gmail message with its raw payload set
+     */
+    public Message render(Email email, String html, String plainText, ThreadId threadId)
+            throws MessagingException, IOException {
+        MimeMessage mimeMessage = new MimeMessage(session);
+        mimeMessage.setFrom(new InternetAddress(email.getSender().value()));
+        mimeMessage.addRecipient(javax.mail.Message.RecipientType.TO, new InternetAddress(email.getRecipient().value()));
+        mimeMessage.setSubject(email.getSubject().value());
+
+        MimeMultipart multipart = new MimeMultipart("alternative");
+
+        MimeBodyPart textPart = new MimeBodyPart();
+        textPart.setText(plainText, "utf-8");
+        multipart.addBodyPart(textPart);
+
+        MimeBodyPart htmlPart = new MimeBodyPart();
+        htmlPart.setContent(html, "text/html; charset=utf-8");
+        multipart.addBodyPart(htmlPart);
+
+        mimeMessage.setContent(multipart);
+
+        Message message = new Message();
+        message.setRaw(encode(mimeMessage));
+        if (threadId != null) {
+            message.setThreadId(threadId.value());
+        }
+        return message;
+    }
+
+    private String encode(MimeMessage mimeMessage) throws MessagingException, IOException {
+        EncodingBuffer buffer = buffers.get();
+        buffer.reset();
+        try {
+            try (OutputStream encoder = Base64.getUrlEncoder().wrap(new NonClosingOutputStream(buffer))) {
+                mimeMessage.writeTo(encoder);
+            }
+            return buffer.toAsciiString();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buffers.remove();
+            }
+        }
+    }
+
+    /**
+     * Byte buffer that exposes its content as a string without copying it to a new array first.
+     */
+    private static final class EncodingBuffer extends ByteArrayOutputStream {
+        private EncodingBuffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        private String toAsciiString() {
+            return new String(buf, 0, count, StandardCharsets.US_ASCII);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+    }
+
+    /**
+     * Lets the encoder flush its final padding on close while keeping the shared buffer open.
+     */
+    private static final class NonClosingOutputStream extends OutputStream {
+        private final OutputStream target;
+
+        private NonClosingOutputStream(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            // Keep the target open
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mailscheduler.util;
+
+/**
+ * Conversions between spreadsheet column letters and zero-based column indices.
+ */
+public final class SpreadsheetColumns {
+
+    private SpreadsheetColumns() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Gets the zero-based index of the column letters at the start of a reference, such as 27 for "AB12".
+     *
+     * @return the column index, or -1 if the reference does not start with a letter
+     */
+    public static int toIndex(String reference) {
+        int index = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            index = index * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return index - 1;
+    }
+
+    /**
+     * Gets the letters of a zero-based column index, such as "AB" for 27.
+     */
+    public static String toLetters(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Column index cannot be negative");
+        }
+        StringBuilder letters = new StringBuilder();
+        for (int n = index + 1; n > 0; n = (n - 1) / 26) {
+            letters.append((char) ('A' + (n - 1) % 26));
+        }
+        return letters.reverse().toString();
+    }
+
+    /**
+     * Gets the zero-based row of a cell reference such as "AB12".
+     *
+     * @return the row index, or -1 if the reference has no row
+     */
+    public static int rowIndex(String reference) {
+        int i = 0;
+        while (i < reference.length() && Character.isLetter(reference.charAt(i))) {
+            i++;
+        }
+        return i == reference.length() ? -1 : Integer.parseInt(reference.substring(i)) - 1;
+    }
+}
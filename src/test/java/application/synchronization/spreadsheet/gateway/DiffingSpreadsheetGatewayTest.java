@@ -0,0 +1,104 @@
+package application.synchronization.spreadsheet.gateway;
+
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.mailscheduler.application.synchronization.spreadsheet.gateway.DiffingSpreadsheetGateway;
+import com.mailscheduler.application.synchronization.spreadsheet.gateway.SpreadsheetGateway;
+import com.mailscheduler.domain.model.common.vo.spreadsheet.SpreadsheetReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class DiffingSpreadsheetGatewayTest {
+
+    private static final String SPREADSHEET_ID = "spreadsheet";
+
+    private SpreadsheetGateway delegate;
+    private DiffingSpreadsheetGateway gateway;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        delegate = mock(SpreadsheetGateway.class);
+        // Row 1 is the header, row 2 holds date1, Open, date2, Open in columns A to D
+        List<List<String>> columns = List.of(
+                List.of("Initial", "2024-01-01"),
+                List.of("Status", "Open"),
+                List.of("Follow-up", "2024-01-08"),
+                List.of("Status", "Open"));
+        when(delegate.readDataBatch(eq(SPREADSHEET_ID), anyList())).thenAnswer(invocation -> {
+            List<SpreadsheetReference> references = invocation.getArgument(1);
+            List<ValueRange> ranges = new ArrayList<>();
+            for (SpreadsheetReference reference : references) {
+                int column = reference.getReference().charAt(0) - 'A';
+                List<List<Object>> values = new ArrayList<>();
+                for (String value : columns.get(column)) {
+                    values.add(List.of(value));
+                }
+                ranges.add(new ValueRange().setValues(values));
+            }
+            return ranges;
+        });
+        gateway = new DiffingSpreadsheetGateway(delegate);
+    }
+
+    @Test
+    public void writeDataBatchShouldOnlySendChangedCellBetweenUnchangedOnes() throws IOException {
+        gateway.writeDataBatch(SPREADSHEET_ID, List.of(new ValueRange()
+                .setRange("Sheet1!A2:D2")
+                .setValues(List.of(List.of("2024-01-01", "Open", "2024-01-15", "Open")))));
+
+        List<ValueRange> written = captureBatch();
+        assertEquals(1, written.size());
+        assertEquals("Sheet1!C2:C2", written.get(0).getRange());
+        assertEquals(List.of(List.of("2024-01-15")), written.get(0).getValues());
+    }
+
+    @Test
+    public void writeDataBatchShouldSplitSeparateRunsOfChangedCells() throws IOException {
+        gateway.writeDataBatch(SPREADSHEET_ID, List.of(new ValueRange()
+                .setRange("Sheet1!A2:D2")
+                .setValues(List.of(List.of("2024-01-02", "Open", "2024-01-15", "Replied")))));
+
+        List<ValueRange> written = captureBatch();
+        assertEquals(2, written.size());
+        assertEquals("Sheet1!A2:A2", written.get(0).getRange());
+        assertEquals(List.of(List.of("2024-01-02")), written.get(0).getValues());
+        assertEquals("Sheet1!C2:D2", written.get(1).getRange());
+        assertEquals(List.of(List.of("2024-01-15", "Replied")), written.get(1).getValues());
+    }
+
+    @Test
+    public void writeDataShouldSendChangedCellAtItsOwnColumn() throws IOException {
+        gateway.writeData(SPREADSHEET_ID,
+                List.of(SpreadsheetReference.ofRange("Sheet1", "A2:D2")),
+                List.of(List.of("2024-01-01", "Open", "2024-01-15", "Open")));
+
+        verify(delegate).writeData(SPREADSHEET_ID,
+                List.of(SpreadsheetReference.ofCell("Sheet1", "C2")),
+                List.of(List.of("2024-01-15")));
+    }
+
+    @Test
+    public void shouldNotWriteWhenNoCellChanges() throws IOException {
+        gateway.writeDataBatch(SPREADSHEET_ID, List.of(new ValueRange()
+                .setRange("Sheet1!A2:D2")
+                .setValues(List.of(List.of("2024-01-01", "Open", "2024-01-08", "Open")))));
+
+        verify(delegate, never()).writeDataBatch(anyString(), anyList());
+        assertEquals(1, gateway.getStats().skippedRequests());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ValueRange> captureBatch() throws IOException {
+        ArgumentCaptor<List<ValueRange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(delegate).writeDataBatch(eq(SPREADSHEET_ID), captor.capture());
+        return captor.getValue();
+    }
+}
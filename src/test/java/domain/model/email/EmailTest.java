@@ -132,4 +132,22 @@ public class EmailTest {
         assertEquals(new Subject("String Subject"), email.getSubject());
         assertEquals(new Body("String Body"), email.getBody());
     }
+
+    @Test
+    public void builderSetBodyShouldClearPlainTextBody() {
+        Email original = new Email.Builder()
+                .setSenderEmail(SENDER)
+                .setRecipientEmail(RECIPIENT)
+                .setSubject(SUBJECT)
+                .setBody(BODY)
+                .setPlainTextBody(new Body("Old text"))
+                .setType(TYPE)
+                .build();
+
+        Email changed = new Email.Builder().from(original).setBody("New Body").build();
+
+        assertEquals(new Body("New Body"), changed.getBody());
+        assertTrue(changed.getPlainTextBody().isEmpty());
+        assertEquals(new Body("Old text"), original.getPlainTextBody().orElseThrow());
+    }
 }
\ No newline at end of file
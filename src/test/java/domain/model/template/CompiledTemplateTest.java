@@ -0,0 +1,96 @@
+package domain.model.template;
+
+import com.mailscheduler.domain.model.template.CompiledTemplate;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderTemplate.Segment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledTemplateTest {
+    private static final char[] DEFAULT_DELIMITERS = {'{', '}'};
+
+    @Test
+    public void shouldSplitBodyIntoLiteralAndPlaceholderSegments() {
+        CompiledTemplate compiled = CompiledTemplate.of("<p>Hello {name}!</p>", "Hello {name}!", DEFAULT_DELIMITERS);
+
+        assertEquals(List.of(
+                new Segment("<p>Hello ", false),
+                new Segment("name", true),
+                new Segment("!</p>", false)
+        ), compiled.getHtmlSegments());
+        assertEquals(3, compiled.getPlainTextSegments().size());
+    }
+
+    @Test
+    public void shouldRenderBothPartsWithValues() {
+        CompiledTemplate compiled = CompiledTemplate.of("<p>Hello {name}!</p>", "Hello {name}!", DEFAULT_DELIMITERS);
+
+        CompiledTemplate.RenderedBody rendered = compiled.render(Map.of("name", "Anna"));
+
+        assertEquals("<p>Hello Anna!</p>", rendered.html().value());
+        assertEquals("Hello Anna!", rendered.plainText().value());
+    }
+
+    @Test
+    public void shouldEscapeValuesInHtmlPartOnly() {
+        CompiledTemplate compiled = CompiledTemplate.of("<p>{company}</p>", "{company}", DEFAULT_DELIMITERS);
+
+        CompiledTemplate.RenderedBody rendered = compiled.render(Map.of("company", "Smith & <Sons>"));
+
+        assertEquals("<p>Smith &amp; &lt;Sons&gt;</p>", rendered.html().value());
+        assertEquals("Smith & <Sons>", rendered.plainText().value());
+    }
+
+    @Test
+    public void shouldKeepPlaceholdersWithoutValue() {
+        CompiledTemplate compiled = CompiledTemplate.of("Hi {name}, {unknown}", "Hi {name}, {unknown}", DEFAULT_DELIMITERS);
+
+        CompiledTemplate.RenderedBody rendered = compiled.render(Map.of("name", "Tom"));
+
+        assertEquals("Hi Tom, {unknown}", rendered.html().value());
+        assertEquals("Hi Tom, {unknown}", rendered.plainText().value());
+    }
+
+    @Test
+    public void shouldCollapseWhitespaceAroundValuesInPlainText() {
+        CompiledTemplate compiled = CompiledTemplate.of("Hi {name} , bye", "Hi {name} , bye", DEFAULT_DELIMITERS);
+
+        CompiledTemplate.RenderedBody rendered = compiled.render(Map.of("name", "  Max \n Mustermann "));
+
+        assertEquals("Hi Max Mustermann , bye", rendered.plainText().value());
+    }
+
+    @Test
+    public void shouldUseCustomDelimiters() {
+        CompiledTemplate compiled = CompiledTemplate.of("Hi [name] {name}", "Hi [name] {name}", new char[]{'[', ']'});
+
+        CompiledTemplate.RenderedBody rendered = compiled.render(Map.of("name", "Eva"));
+
+        assertEquals("Hi Eva {name}", rendered.html().value());
+    }
+
+    @Test
+    public void shouldNotTreatUnclosedDelimiterAsPlaceholder() {
+        CompiledTemplate compiled = CompiledTemplate.of("a { b", "a { b", DEFAULT_DELIMITERS);
+
+        assertEquals(List.of(new Segment("a { b", false)), compiled.getHtmlSegments());
+        assertEquals("a { b", compiled.render(Map.of()).html().value());
+    }
+
+    @Test
+    public void shouldRejectInvalidDelimiters() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.of("", "", new char[]{'{'}));
+    }
+
+    @Test
+    public void shouldBeEqualForSameContentAndDelimiters() {
+        CompiledTemplate first = CompiledTemplate.of("<p>{a}</p>", "{a}", DEFAULT_DELIMITERS);
+        CompiledTemplate second = CompiledTemplate.of("<p>{a}</p>", "{a}", DEFAULT_DELIMITERS);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+}
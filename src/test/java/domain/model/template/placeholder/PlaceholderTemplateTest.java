@@ -0,0 +1,94 @@
+package domain.model.template.placeholder;
+
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderManager;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderTemplate;
+import com.mailscheduler.domain.model.template.placeholder.PlaceholderTemplate.Segment;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlaceholderTemplateTest {
+    private static final char[] DEFAULT_DELIMITERS = {'{', '}'};
+
+    @Test
+    public void shouldParseLiteralAndPlaceholderSegments() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("Dear {name}, see {link}.", DEFAULT_DELIMITERS);
+
+        assertEquals(List.of(
+                new Segment("Dear ", false),
+                new Segment("name", true),
+                new Segment(", see ", false),
+                new Segment("link", true),
+                new Segment(".", false)
+        ), template.getSegments());
+    }
+
+    @Test
+    public void shouldRenderAllOccurrencesOfAPlaceholder() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("{name} and {name}", DEFAULT_DELIMITERS);
+
+        assertEquals("Anna and Anna", template.render(Map.of("name", "Anna")));
+    }
+
+    @Test
+    public void shouldKeepPlaceholdersWithoutValue() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("Hi {name} from {company}", DEFAULT_DELIMITERS);
+
+        assertEquals("Hi Tom from {company}", template.render(Map.of("name", "Tom")));
+    }
+
+    @Test
+    public void shouldNotRescanInsertedValues() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("{a} {b}", DEFAULT_DELIMITERS);
+        Map<String, String> values = new HashMap<>();
+        values.put("a", "{b}");
+        values.put("b", "x");
+
+        assertEquals("{b} x", template.render(values));
+    }
+
+    @Test
+    public void shouldUseCustomDelimiters() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("Hi [name] {name}", new char[]{'[', ']'});
+
+        assertEquals(Set.of("name"), template.getPlaceholderKeys());
+        assertEquals("Hi Eva {name}", template.render(Map.of("name", "Eva")));
+    }
+
+    @Test
+    public void shouldNotMatchPlaceholdersAcrossLines() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("a {b\nc} d", DEFAULT_DELIMITERS);
+
+        assertTrue(template.getPlaceholderKeys().isEmpty());
+        assertEquals("a {b\nc} d", template.render(Map.of("b\nc", "x")));
+    }
+
+    @Test
+    public void shouldFindSamePlaceholdersAsManager() {
+        String text = "{first} {second}\n{ third {fourth} }{unclosed";
+        PlaceholderManager manager = new PlaceholderManager();
+
+        PlaceholderTemplate template = PlaceholderTemplate.compile(text, manager.getDelimiters());
+
+        assertEquals(manager.extractPlaceholders(text), template.getPlaceholderKeys());
+    }
+
+    @Test
+    public void shouldMatchOnlySameSourceAndDelimiters() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("{a}", DEFAULT_DELIMITERS);
+
+        assertTrue(template.matches("{a}", new char[]{'{', '}'}));
+        assertFalse(template.matches("{b}", DEFAULT_DELIMITERS));
+        assertFalse(template.matches("{a}", new char[]{'[', ']'}));
+    }
+
+    @Test
+    public void shouldRejectInvalidDelimiters() {
+        assertThrows(IllegalArgumentException.class, () -> PlaceholderTemplate.compile("", new char[]{'{'}));
+    }
+}